@@ -0,0 +1,121 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.perftest.netty;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.util.List;
+
+/**
+ * A Netty server that streams large request and response bodies, so that the per-chunk overhead
+ * of the agent can be measured with {@code perf-test-settings.rc} from this directory.
+ *
+ * <ul>
+ *   <li>{@code POST /upload} reads and discards the request body.
+ *   <li>{@code GET /download?size=N} streams a response body of {@code N} bytes.
+ * </ul>
+ */
+public class NettyPerftest {
+
+  private static final int PORT = 8080;
+  private static final int CHUNK_SIZE = 8192;
+  private static final ByteBuf CHUNK = Unpooled.unreleasableBuffer(Unpooled.buffer(CHUNK_SIZE));
+
+  static {
+    CHUNK.writerIndex(CHUNK_SIZE);
+  }
+
+  public static void main(String[] args) throws Exception {
+    EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+    EventLoopGroup workerGroup = new NioEventLoopGroup();
+    Channel channel =
+        new ServerBootstrap()
+            .group(bossGroup, workerGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(new HttpServerCodec(), new StreamingHandler());
+                  }
+                })
+            .bind(PORT)
+            .sync()
+            .channel();
+
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread() {
+              @Override
+              public void run() {
+                channel.close().syncUninterruptibly();
+                bossGroup.shutdownGracefully();
+                workerGroup.shutdownGracefully();
+              }
+            });
+  }
+
+  private static class StreamingHandler extends SimpleChannelInboundHandler<HttpObject> {
+    private long downloadSize;
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+      if (msg instanceof HttpRequest) {
+        downloadSize = parseDownloadSize((HttpRequest) msg);
+      }
+      // upload bodies are just discarded, chunk by chunk
+      if (msg instanceof LastHttpContent) {
+        respond(ctx);
+      }
+    }
+
+    private static long parseDownloadSize(HttpRequest request) {
+      QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
+      if (!decoder.path().equals("/download")) {
+        return 0;
+      }
+      List<String> size = decoder.parameters().get("size");
+      return size == null ? 0 : Long.parseLong(size.get(0));
+    }
+
+    private void respond(ChannelHandlerContext ctx) {
+      HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+      response.headers().set(CONTENT_TYPE, "application/octet-stream");
+      response.headers().set(CONTENT_LENGTH, downloadSize);
+      ctx.write(response);
+      long remaining = downloadSize;
+      while (remaining > 0) {
+        int chunkSize = (int) Math.min(CHUNK_SIZE, remaining);
+        ctx.write(new DefaultHttpContent(CHUNK.retainedSlice(0, chunkSize)));
+        remaining -= chunkSize;
+      }
+      ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+  }
+}
@@ -0,0 +1,4 @@
+-- sends a 10MB request body, which netty decodes into many HttpContent chunks
+wrk.method = "POST"
+wrk.body = string.rep("x", 10 * 1024 * 1024)
+wrk.headers["Content-Type"] = "application/octet-stream"
@@ -0,0 +1,4 @@
+-- sends a 1MB request body, which netty decodes into many HttpContent chunks
+wrk.method = "POST"
+wrk.body = string.rep("x", 1 * 1024 * 1024)
+wrk.headers["Content-Type"] = "application/octet-stream"
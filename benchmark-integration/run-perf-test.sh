@@ -22,6 +22,7 @@ if [[ "$server_package" = "" ]] || [[ "$server_type" != "play-zip" && "$server_t
     exit 1
 fi
 
+declare -A wrk_scripts
 if [ -f perf-test-settings.rc ]; then
     echo "loading custom settings"
     cat ./perf-test-settings.rc
@@ -105,17 +106,21 @@ function stop_server {
     fi
 }
 
-# Warmup and run wrk tests on a single endpoint.
+# Warmup and run wrk tests on a single endpoint, optionally with a wrk lua script.
 # echos out a file containing raw wrk output
 # and a final line of the average requests/second
 function test_endpoint {
     url=$1
+    script_arg=""
+    if [ "$2" != "" ]; then
+        script_arg="-s $2"
+    fi
     # warmup
-    wrk -c $test_num_connections -t$test_num_threads -d ${test_warmup_seconds}s $url >/dev/null
+    wrk -c $test_num_connections -t$test_num_threads -d ${test_warmup_seconds}s $script_arg $url >/dev/null
 
     # run test
     wrk_results=/tmp/wrk_results.`date +%s`
-    wrk -c $test_num_connections -t$test_num_threads -d ${test_time_seconds}s $url > $wrk_results
+    wrk -c $test_num_connections -t$test_num_threads -d ${test_time_seconds}s $script_arg $url > $wrk_results
     echo $wrk_results
 }
 
@@ -151,7 +156,7 @@ for agent_jar in $agent_jars; do
         label="$t"
         url="${endpoints[$label]}"
         echo "--Testing $label -- $url--"
-        test_output_file=$(test_endpoint $url)
+        test_output_file=$(test_endpoint $url "${wrk_scripts[$label]}")
         let server_total_rss=$server_total_rss+$(ps -o 'pid,rss' | awk "\$1 == $server_pid { print \$2 }")
         let server_total_rss_count=$server_total_rss_count+1
         cat $test_output_file
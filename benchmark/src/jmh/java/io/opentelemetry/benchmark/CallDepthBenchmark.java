@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Simulates a request going through several nested instrumented layers. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CallDepthBenchmark {
+
+  private static final Class<?>[] KEYS = {
+    String.class,
+    Integer.class,
+    Long.class,
+    Double.class,
+    Float.class,
+    Short.class,
+    Byte.class,
+    Character.class,
+    Boolean.class,
+    Object.class
+  };
+
+  private static final CallDepthThreadLocalMap.Key[] PRECOMPUTED_KEYS =
+      new CallDepthThreadLocalMap.Key[KEYS.length];
+
+  static {
+    for (int i = 0; i < KEYS.length; i++) {
+      PRECOMPUTED_KEYS[i] = CallDepthThreadLocalMap.key(KEYS[i]);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_nested(Blackhole blackhole) {
+    nested(blackhole);
+  }
+
+  @Benchmark
+  @Threads(5)
+  public void threads05_nested(Blackhole blackhole) {
+    nested(blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_nestedPrecomputedKeys(Blackhole blackhole) {
+    for (CallDepthThreadLocalMap.Key key : PRECOMPUTED_KEYS) {
+      blackhole.consume(CallDepthThreadLocalMap.incrementCallDepth(key));
+    }
+    for (int i = PRECOMPUTED_KEYS.length - 1; i >= 0; i--) {
+      blackhole.consume(CallDepthThreadLocalMap.decrementCallDepth(PRECOMPUTED_KEYS[i]));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_recursive(Blackhole blackhole) {
+    recursive(blackhole);
+  }
+
+  private static void nested(Blackhole blackhole) {
+    for (Class<?> key : KEYS) {
+      blackhole.consume(CallDepthThreadLocalMap.incrementCallDepth(key));
+    }
+    for (int i = KEYS.length - 1; i >= 0; i--) {
+      blackhole.consume(CallDepthThreadLocalMap.decrementCallDepth(KEYS[i]));
+    }
+  }
+
+  // the same instrumentation applied to several layers, e.g. a wrapped JDBC statement
+  private static void recursive(Blackhole blackhole) {
+    Class<?> key = KEYS[0];
+    for (int i = 0; i < KEYS.length; i++) {
+      blackhole.consume(CallDepthThreadLocalMap.incrementCallDepth(key));
+    }
+    for (int i = 0; i < KEYS.length; i++) {
+      blackhole.consume(CallDepthThreadLocalMap.decrementCallDepth(key));
+    }
+  }
+}
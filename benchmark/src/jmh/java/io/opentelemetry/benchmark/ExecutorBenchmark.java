@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fans out tasks to a {@link ThreadPoolExecutor} under a parent span, the way a service handling a
+ * request would, and waits for them to finish. Compare the agent-less run with {@link WithAgent}
+ * and {@link WithAgentAndLambdaTagging}.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class ExecutorBenchmark {
+
+  private static final int TASKS_PER_REQUEST = 100;
+
+  @Param({"lambda", "runnable"})
+  public String taskType;
+
+  private ThreadPoolExecutor executor;
+  private Span parentSpan;
+  private Scope parentScope;
+
+  @Setup
+  public void setUp() {
+    executor =
+        new ThreadPoolExecutor(4, 4, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<Runnable>());
+    executor.prestartAllCoreThreads();
+    parentSpan = GlobalOpenTelemetry.getTracer("benchmark").spanBuilder("request").startSpan();
+    parentScope = parentSpan.makeCurrent();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    parentScope.close();
+    parentSpan.end();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void execute() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(TASKS_PER_REQUEST);
+    boolean lambda = taskType.equals("lambda");
+    for (int i = 0; i < TASKS_PER_REQUEST; i++) {
+      executor.execute(lambda ? () -> latch.countDown() : new CountDownTask(latch));
+    }
+    latch.await();
+  }
+
+  private static class CountDownTask implements Runnable {
+    private final CountDownLatch latch;
+
+    CountDownTask(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void run() {
+      latch.countDown();
+    }
+  }
+
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.traces.exporter=none"
+      })
+  public static class WithAgent extends ExecutorBenchmark {}
+
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.traces.exporter=none",
+        "-Dotel.instrumentation.executors.experimental-lambda-tagging.enabled=true"
+      })
+  public static class WithAgentAndLambdaTagging extends ExecutorBenchmark {}
+}
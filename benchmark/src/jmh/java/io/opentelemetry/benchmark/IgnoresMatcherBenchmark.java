@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.javaagent.spi.IgnoreMatcherProvider;
+import io.opentelemetry.javaagent.tooling.matcher.GlobalIgnoresMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import net.bytebuddy.description.modifier.ModifierContributor;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Replays the names of all classes on the class path through the global ignores matcher. */
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IgnoresMatcherBenchmark {
+
+  private final ElementMatcher<TypeDescription> matcher =
+      GlobalIgnoresMatcher.globalIgnoresMatcher(true, new NoopIgnoreMatcherProvider());
+
+  private List<TypeDescription> types;
+
+  @Setup
+  public void setUp() {
+    types = new ArrayList<>();
+    String classPath = System.getProperty("java.class.path");
+    for (String path : classPath.split(File.pathSeparator)) {
+      if (!path.endsWith(".jar")) {
+        continue;
+      }
+      try (JarFile jarFile = new JarFile(path)) {
+        Enumeration<JarEntry> e = jarFile.entries();
+        while (e.hasMoreElements()) {
+          String name = e.nextElement().getName();
+          if (name.endsWith(".class")) {
+            name = name.replace('/', '.');
+            name = name.substring(0, name.length() - ".class".length());
+            types.add(new TypeDescription.Latent(name, ModifierContributor.EMPTY_MASK, null));
+          }
+        }
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  @Benchmark
+  public void legacyMatcher(Blackhole blackhole) {
+    for (TypeDescription type : types) {
+      blackhole.consume(LegacyIgnoresMatcher.matches(type.getActualName()));
+    }
+  }
+
+  @Benchmark
+  public void trieMatcher(Blackhole blackhole) {
+    for (TypeDescription type : types) {
+      blackhole.consume(matcher.matches(type));
+    }
+  }
+
+  private static class NoopIgnoreMatcherProvider implements IgnoreMatcherProvider {
+    @Override
+    public Result type(TypeDescription target) {
+      return Result.DEFAULT;
+    }
+
+    @Override
+    public Result classloader(ClassLoader classLoader) {
+      return Result.DEFAULT;
+    }
+  }
+}
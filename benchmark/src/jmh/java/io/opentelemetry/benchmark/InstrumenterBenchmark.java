@@ -0,0 +1,168 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.HttpAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InstrumenterBenchmark {
+
+  private static final OpenTelemetry openTelemetry =
+      OpenTelemetrySdk.builder().setTracerProvider(SdkTracerProvider.builder().build()).build();
+
+  private static final Instrumenter<Void, Void> BUFFERED = newBuilder().newInstrumenter();
+
+  private static final Instrumenter<Void, Void> DIRECT =
+      newBuilder().setWriteAttributesDirectly(true).newInstrumenter();
+
+  private static final OpenTelemetry unsampledOpenTelemetry =
+      OpenTelemetrySdk.builder()
+          .setTracerProvider(SdkTracerProvider.builder().setSampler(Sampler.alwaysOff()).build())
+          .build();
+
+  private static final Instrumenter<Void, Void> UNSAMPLED =
+      newBuilder(unsampledOpenTelemetry).newInstrumenter();
+
+  private static final Instrumenter<Void, Void> UNSAMPLED_EARLY_EXIT =
+      newBuilder(unsampledOpenTelemetry).setSamplingIndependentOfAttributes(true).newInstrumenter();
+
+  private static InstrumenterBuilder<Void, Void> newBuilder() {
+    return newBuilder(openTelemetry);
+  }
+
+  private static InstrumenterBuilder<Void, Void> newBuilder(OpenTelemetry openTelemetry) {
+    return Instrumenter.<Void, Void>newBuilder(openTelemetry, "benchmark", unused -> "GET /")
+        .addAttributesExtractor(new ConstantHttpAttributesExtractor());
+  }
+
+  @Benchmark
+  public Context bufferedAttributes() {
+    Context context = BUFFERED.start(Context.root(), null);
+    BUFFERED.end(context, null, null, null);
+    return context;
+  }
+
+  @Benchmark
+  public Context directAttributes() {
+    Context context = DIRECT.start(Context.root(), null);
+    DIRECT.end(context, null, null, null);
+    return context;
+  }
+
+  @Benchmark
+  public Context unsampled() {
+    Context context = UNSAMPLED.start(Context.root(), null);
+    UNSAMPLED.end(context, null, null, null);
+    return context;
+  }
+
+  @Benchmark
+  public Context unsampledEarlyExit() {
+    Context context = UNSAMPLED_EARLY_EXIT.start(Context.root(), null);
+    UNSAMPLED_EARLY_EXIT.end(context, null, null, null);
+    return context;
+  }
+
+  static class ConstantHttpAttributesExtractor extends HttpAttributesExtractor<Void, Void> {
+
+    @Override
+    protected String method(Void unused) {
+      return "GET";
+    }
+
+    @Override
+    protected String url(Void unused) {
+      return "https://opentelemetry.io/benchmark";
+    }
+
+    @Override
+    protected String target(Void unused) {
+      return "/benchmark";
+    }
+
+    @Override
+    protected String host(Void unused) {
+      return "opentelemetry.io";
+    }
+
+    @Override
+    protected String route(Void unused) {
+      return "/benchmark";
+    }
+
+    @Override
+    protected String scheme(Void unused) {
+      return "https";
+    }
+
+    @Override
+    protected String userAgent(Void unused) {
+      return "jmh";
+    }
+
+    @Override
+    protected Long requestContentLength(Void unused, Void unused2) {
+      return 100L;
+    }
+
+    @Override
+    protected Long requestContentLengthUncompressed(Void unused, Void unused2) {
+      return null;
+    }
+
+    @Override
+    protected Long statusCode(Void unused, Void unused2) {
+      return 200L;
+    }
+
+    @Override
+    protected String flavor(Void unused, Void unused2) {
+      return "1.1";
+    }
+
+    @Override
+    protected Long responseContentLength(Void unused, Void unused2) {
+      return 100L;
+    }
+
+    @Override
+    protected Long responseContentLengthUncompressed(Void unused, Void unused2) {
+      return null;
+    }
+
+    @Override
+    protected String serverName(Void unused, Void unused2) {
+      return null;
+    }
+
+    @Override
+    protected String clientIp(Void unused, Void unused2) {
+      return "127.0.0.1";
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.logback.v1_0.OpenTelemetryAppender;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares logging through a plain logback appender with logging through the {@link
+ * OpenTelemetryAppender}, with a layout that prints the trace context and one that doesn't. Run
+ * with the gc profiler to compare the allocations per log event.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class LoggingContextBenchmark {
+
+  private static final String PATTERN = "%level %logger - %msg%n";
+  private static final String PATTERN_WITH_TRACE_CONTEXT =
+      "%level %logger trace_id=%X{trace_id} span_id=%X{span_id} - %msg%n";
+
+  private final LoggerContext loggerContext = new LoggerContext();
+  private Logger plainLogger;
+  private Logger openTelemetryLogger;
+  private Logger openTelemetryLoggerPrintingTraceContext;
+  private Scope scope;
+
+  @Setup
+  public void setUp() {
+    plainLogger = logger("plain", PATTERN, false);
+    openTelemetryLogger = logger("opentelemetry", PATTERN, true);
+    openTelemetryLoggerPrintingTraceContext =
+        logger("opentelemetry-trace-context", PATTERN_WITH_TRACE_CONTEXT, true);
+
+    SpanContext spanContext =
+        SpanContext.create(
+            "ff01020304050600ff0a0b0c0d0e0f00",
+            "090a0b0c0d0e0f00",
+            TraceFlags.getSampled(),
+            TraceState.getDefault());
+    scope = Span.wrap(spanContext).makeCurrent();
+  }
+
+  @TearDown
+  public void tearDown() {
+    scope.close();
+    loggerContext.stop();
+  }
+
+  @Benchmark
+  public void plainAppender() {
+    plainLogger.info("Hello {}", "world");
+  }
+
+  @Benchmark
+  public void openTelemetryAppender() {
+    openTelemetryLogger.info("Hello {}", "world");
+  }
+
+  @Benchmark
+  public void openTelemetryAppender_printingTraceContext() {
+    openTelemetryLoggerPrintingTraceContext.info("Hello {}", "world");
+  }
+
+  private Logger logger(String name, String pattern, boolean wrapInOpenTelemetryAppender) {
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(loggerContext);
+    encoder.setPattern(pattern);
+    encoder.start();
+
+    OutputStreamAppender<ILoggingEvent> outputAppender = new OutputStreamAppender<>();
+    outputAppender.setContext(loggerContext);
+    outputAppender.setEncoder(encoder);
+    outputAppender.setOutputStream(new NullOutputStream());
+    outputAppender.start();
+
+    Logger logger = loggerContext.getLogger(name);
+    logger.setAdditive(false);
+    if (wrapInOpenTelemetryAppender) {
+      OpenTelemetryAppender openTelemetryAppender = new OpenTelemetryAppender();
+      openTelemetryAppender.setContext(loggerContext);
+      openTelemetryAppender.addAppender(outputAppender);
+      openTelemetryAppender.start();
+      logger.addAppender(openTelemetryAppender);
+    } else {
+      logger.addAppender(outputAppender);
+    }
+    return logger;
+  }
+
+  private static class NullOutputStream extends OutputStream {
+    @Override
+    public void write(int b) {}
+
+    @Override
+    public void write(byte[] b, int off, int len) {}
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.reactor.TracingOperator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/** Assembles and runs a 20 operator {@link Flux} with and without the reactor tracing hook. */
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ReactorOperatorBenchmark {
+
+  private static final ContextKey<String> KEY = ContextKey.named("benchmark");
+  private static final int OPERATORS = 20;
+
+  @Param({"none", "propagateRootContext", "skipRootContext"})
+  public String hook;
+
+  @Param({"root", "traced"})
+  public String context;
+
+  private Context subscriberContext;
+
+  @Setup
+  public void setUp() {
+    if (hook.equals("propagateRootContext")) {
+      TracingOperator.registerOnEachOperator(true);
+    } else if (hook.equals("skipRootContext")) {
+      TracingOperator.registerOnEachOperator(false);
+    }
+    subscriberContext =
+        context.equals("traced") ? Context.root().with(KEY, "value") : Context.root();
+  }
+
+  @TearDown
+  public void tearDown() {
+    TracingOperator.resetOnEachOperator();
+  }
+
+  @Benchmark
+  public Integer flux() {
+    try (Scope ignored = subscriberContext.makeCurrent()) {
+      Flux<Integer> flux = Flux.range(0, 100);
+      for (int i = 0; i < OPERATORS; i++) {
+        flux = flux.map(value -> value + 1);
+      }
+      return flux.blockLast();
+    }
+  }
+}
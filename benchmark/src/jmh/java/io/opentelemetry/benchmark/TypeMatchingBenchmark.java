@@ -9,9 +9,14 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -58,11 +63,49 @@ public class TypeMatchingBenchmark {
   @Benchmark
   public void loadLotsOfClasses() throws ClassNotFoundException {
     for (String className : classNames) {
-      try {
-        Class.forName(className, false, TypeMatchingBenchmark.class.getClassLoader());
-      } catch (NoClassDefFoundError e) {
-        // many classes in the jar files have optional dependencies which are not present
+      loadClass(className);
+    }
+  }
+
+  // simulates an application server loading classes from many threads during startup
+  @Benchmark
+  public void loadLotsOfClassesInParallel() throws Exception {
+    int threads = Runtime.getRuntime().availableProcessors();
+    List<List<String>> partitions = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    int i = 0;
+    for (String className : classNames) {
+      partitions.get(i++ % threads).add(className);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (List<String> partition : partitions) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (String className : partition) {
+                    loadClass(className);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
       }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void loadClass(String className) throws ClassNotFoundException {
+    try {
+      Class.forName(className, false, TypeMatchingBenchmark.class.getClassLoader());
+    } catch (NoClassDefFoundError e) {
+      // many classes in the jar files have optional dependencies which are not present
     }
   }
 
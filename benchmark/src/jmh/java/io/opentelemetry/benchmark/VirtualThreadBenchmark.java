@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts 1M virtual threads under a parent span and waits for all of them to finish. Requires Java
+ * 21; the benchmarks are compiled for Java 8, so the virtual thread factory is looked up
+ * reflectively.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class VirtualThreadBenchmark {
+
+  private static final int THREADS = 1_000_000;
+
+  private ThreadFactory virtualThreadFactory;
+  private Span parentSpan;
+  private Scope parentScope;
+
+  @Setup
+  public void setUp() throws Exception {
+    Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+    Class<?> builderInterface = Class.forName("java.lang.Thread$Builder");
+    virtualThreadFactory = (ThreadFactory) builderInterface.getMethod("factory").invoke(builder);
+    parentSpan = GlobalOpenTelemetry.getTracer("benchmark").spanBuilder("request").startSpan();
+    parentScope = parentSpan.makeCurrent();
+  }
+
+  @TearDown
+  public void tearDown() {
+    parentScope.close();
+    parentSpan.end();
+  }
+
+  @Benchmark
+  public void startVirtualThreads() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(THREADS);
+    Runnable task = latch::countDown;
+    for (int i = 0; i < THREADS; i++) {
+      virtualThreadFactory.newThread(task).start();
+    }
+    latch.await();
+  }
+
+  // Byte Buddy needs to be told that it may process Java 21 class files
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.traces.exporter=none",
+        "-Dnet.bytebuddy.experimental=true"
+      })
+  public static class WithAgent extends VirtualThreadBenchmark {}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@code computeIfAbsent} misses of the weak keys cache with a single global lock (as it
+ * was implemented before) and with lock striping, like parallel class loading does with the agent's
+ * weak caches at startup.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WeakCacheBenchmark {
+
+  private static final int KEYS = 1024;
+  private static final Object[] keys = new Object[KEYS];
+
+  static {
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = new Object();
+    }
+  }
+
+  private static final Cache<Object, Object> stripedCache =
+      Cache.newBuilder().setWeakKeys().build();
+  private static final GloballySynchronizedCache globallySynchronizedCache =
+      new GloballySynchronizedCache(Cache.newBuilder().setWeakKeys().build());
+
+  // simulates the work done on a miss, e.g. loading a class or matching references
+  private static final Function<Object, Object> mappingFunction =
+      key -> {
+        Blackhole.consumeCPU(100);
+        return Boolean.TRUE;
+      };
+
+  private int index = (int) Thread.currentThread().getId() * 31;
+
+  private Object nextKey() {
+    index = (index + 1) & (KEYS - 1);
+    return keys[index];
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object threads01_striped() {
+    return stripedMiss();
+  }
+
+  @Benchmark
+  @Threads(5)
+  public Object threads05_striped() {
+    return stripedMiss();
+  }
+
+  @Benchmark
+  @Threads(10)
+  public Object threads10_striped() {
+    return stripedMiss();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object threads01_globallySynchronized() {
+    return globallySynchronizedMiss();
+  }
+
+  @Benchmark
+  @Threads(5)
+  public Object threads05_globallySynchronized() {
+    return globallySynchronizedMiss();
+  }
+
+  @Benchmark
+  @Threads(10)
+  public Object threads10_globallySynchronized() {
+    return globallySynchronizedMiss();
+  }
+
+  private Object stripedMiss() {
+    Object key = nextKey();
+    stripedCache.remove(key);
+    return stripedCache.computeIfAbsent(key, mappingFunction);
+  }
+
+  private Object globallySynchronizedMiss() {
+    Object key = nextKey();
+    globallySynchronizedCache.cache.remove(key);
+    return globallySynchronizedCache.computeIfAbsent(key, mappingFunction);
+  }
+
+  // the computeIfAbsent of WeakLockFreeCache before lock striping
+  private static class GloballySynchronizedCache {
+    final Cache<Object, Object> cache;
+
+    GloballySynchronizedCache(Cache<Object, Object> cache) {
+      this.cache = cache;
+    }
+
+    Object computeIfAbsent(Object key, Function<Object, Object> mappingFunction) {
+      Object value = cache.get(key);
+      if (value != null) {
+        return value;
+      }
+      synchronized (this) {
+        value = cache.get(key);
+        if (value != null) {
+          return value;
+        }
+        value = mappingFunction.apply(key);
+        cache.put(key, value);
+        return value;
+      }
+    }
+  }
+}
@@ -8,6 +8,8 @@ package io.opentelemetry.benchmark;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
+import io.opentelemetry.javaagent.bootstrap.WeakIdentityConcurrentMap;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -38,6 +40,15 @@ public class WeakMapBenchmark {
       Caffeine.newBuilder().weakKeys().build();
   private static final Map<String, String> caffeineMap = caffeineCache.asMap();
 
+  // context store fallback for keys without an injected field, e.g. executor task state of JDK
+  // classes: one lock for the whole map vs lock-free putIfAbsent
+  private static final io.opentelemetry.instrumentation.api.caching.Cache<Object, Object>
+      synchronizedFallback =
+          io.opentelemetry.instrumentation.api.caching.Cache.newBuilder().setWeakKeys().build();
+  private static final WeakIdentityConcurrentMap<Object, Object> concurrentFallback =
+      new WeakIdentityConcurrentMap<>();
+  private static final ContextStore.Factory<Object> contextFactory = Object::new;
+
   private String key;
 
   @Setup
@@ -116,4 +127,66 @@ public class WeakMapBenchmark {
     blackhole.consume(caffeineMap.get(key));
     blackhole.consume(caffeineMap.remove(key));
   }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_contextStoreFallback_synchronized(Blackhole blackhole) {
+    synchronizedFallbackRoundTrip(blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_contextStoreFallback_concurrent(Blackhole blackhole) {
+    concurrentFallbackRoundTrip(blackhole);
+  }
+
+  @Benchmark
+  @Threads(5)
+  public void threads05_contextStoreFallback_synchronized(Blackhole blackhole) {
+    synchronizedFallbackRoundTrip(blackhole);
+  }
+
+  @Benchmark
+  @Threads(5)
+  public void threads05_contextStoreFallback_concurrent(Blackhole blackhole) {
+    concurrentFallbackRoundTrip(blackhole);
+  }
+
+  @Benchmark
+  @Threads(10)
+  public void threads10_contextStoreFallback_synchronized(Blackhole blackhole) {
+    synchronizedFallbackRoundTrip(blackhole);
+  }
+
+  @Benchmark
+  @Threads(10)
+  public void threads10_contextStoreFallback_concurrent(Blackhole blackhole) {
+    concurrentFallbackRoundTrip(blackhole);
+  }
+
+  // mirrors the fallback path of FieldBackedProvider before WeakIdentityConcurrentMap: every miss
+  // synchronizes on the shared map
+  private static void synchronizedFallbackRoundTrip(Blackhole blackhole) {
+    Object task = new Object();
+    Object context = synchronizedFallback.get(task);
+    if (context == null) {
+      synchronized (synchronizedFallback) {
+        context = synchronizedFallback.get(task);
+        if (context == null) {
+          context = contextFactory.create();
+          synchronizedFallback.put(task, context);
+        }
+      }
+    }
+    blackhole.consume(context);
+    blackhole.consume(synchronizedFallback.get(task));
+    synchronizedFallback.remove(task);
+  }
+
+  private static void concurrentFallbackRoundTrip(Blackhole blackhole) {
+    Object task = new Object();
+    blackhole.consume(concurrentFallback.computeIfAbsent(task, contextFactory));
+    blackhole.consume(concurrentFallback.get(task));
+    concurrentFallback.remove(task);
+  }
 }
@@ -9,17 +9,70 @@ package com.github.benmanes.caffeine.cache;
 // We use gradle-shadow-plugin to minimize the dependency on Caffeine, but it does not allow
 // specifying classes to keep, only artifacts. It's a relatively simple workaround for us to use
 // this non-public class to create a static link to the required implementations we use.
+//
+// Every combination of the options of CacheBuilder that results in a bounded Caffeine cache needs
+// its classes listed here, CacheTest builds all of them. The cache class name is made of the key
+// strength (S/W), the value strength (S), stats (S), the maximum (MS/MW) and expire after access
+// (A); the node class name of the key strength (P/F), the value strength (S), expire after access
+// (A) and the maximum (MS/MW). Strong keys without a maximum or expiration result in an unbounded
+// cache, which doesn't need generated classes.
 final class CacheImplementations {
 
   // Each type of cache has a cache implementation and a node implementation.
 
   // Strong keys, strong values, maximum size
   SSMS<?, ?> ssms; // cache
+  SSSMS<?, ?> sssms; // cache with stats
   PSMS<?, ?> psms; // node
 
+  // Strong keys, strong values, maximum weight
+  SSMW<?, ?> ssmw; // cache
+  SSSMW<?, ?> sssmw; // cache with stats
+  PSMW<?, ?> psmw; // node
+
+  // Strong keys, strong values, expire after access
+  SSA<?, ?> ssa; // cache
+  SSSA<?, ?> sssa; // cache with stats
+  PSA<?, ?> psa; // node
+
+  // Strong keys, strong values, maximum size, expire after access
+  SSMSA<?, ?> ssmsa; // cache
+  SSSMSA<?, ?> sssmsa; // cache with stats
+  PSAMS<?, ?> psams; // node
+
+  // Strong keys, strong values, maximum weight, expire after access
+  SSMWA<?, ?> ssmwa; // cache
+  SSSMWA<?, ?> sssmwa; // cache with stats
+  PSAMW<?, ?> psamw; // node
+
+  // Weak keys, strong values
+  WSS<?, ?> wss; // cache with stats, without stats it's a WeakLockFreeCache
+  FS<?, ?> fs; // node
+
   // Weak keys, strong values, maximum size
   WSMS<?, ?> wsms; // cache
+  WSSMS<?, ?> wssms; // cache with stats
   FSMS<?, ?> fsms; // node
 
+  // Weak keys, strong values, maximum weight
+  WSMW<?, ?> wsmw; // cache
+  WSSMW<?, ?> wssmw; // cache with stats
+  FSMW<?, ?> fsmw; // node
+
+  // Weak keys, strong values, expire after access
+  WSA<?, ?> wsa; // cache
+  WSSA<?, ?> wssa; // cache with stats
+  FSA<?, ?> fsa; // node
+
+  // Weak keys, strong values, maximum size, expire after access
+  WSMSA<?, ?> wsmsa; // cache
+  WSSMSA<?, ?> wssmsa; // cache with stats
+  FSAMS<?, ?> fsams; // node
+
+  // Weak keys, strong values, maximum weight, expire after access
+  WSMWA<?, ?> wsmwa; // cache
+  WSSMWA<?, ?> wssmwa; // cache with stats
+  FSAMW<?, ?> fsamw; // node
+
   private CacheImplementations() {}
 }
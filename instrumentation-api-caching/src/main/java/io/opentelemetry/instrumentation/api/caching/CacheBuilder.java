@@ -6,7 +6,10 @@
 package io.opentelemetry.instrumentation.api.caching;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /** A builder of {@link Cache}. */
 public final class CacheBuilder {
@@ -15,6 +18,10 @@ public final class CacheBuilder {
 
   private boolean weakKeys;
   private long maximumSize = UNSET;
+  private long maximumWeight = UNSET;
+  private Weigher<?, ?> weigher = null;
+  private long expireAfterAccessNanos = UNSET;
+  private String statsName = null;
   private Executor executor = null;
 
   /** Sets the maximum size of the cache. */
@@ -23,6 +30,36 @@ public final class CacheBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum total weight of the cache, as calculated by {@code weigher} for every entry.
+   * Cannot be combined with {@link #setMaximumSize(long)}.
+   */
+  public <K, V> CacheBuilder setMaximumWeight(long maximumWeight, Weigher<K, V> weigher) {
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    return this;
+  }
+
+  /**
+   * Sets that entries should be removed from the cache once they have not been read or written for
+   * {@code duration}. Expired entries are removed during other reads and writes of the cache.
+   */
+  public CacheBuilder setExpireAfterAccess(Duration duration) {
+    this.expireAfterAccessNanos = duration.toNanos();
+    return this;
+  }
+
+  /**
+   * Sets that the hits, misses and evictions of the cache should be recorded under {@code name}.
+   * Caches built with the same name share their statistics.
+   *
+   * @see CacheStats#snapshot()
+   */
+  public CacheBuilder setRecordStats(String name) {
+    this.statsName = name;
+    return this;
+  }
+
   /**
    * Sets that keys should be referenced weakly. If used, keys will use identity comparison, not
    * {@link Object#equals(Object)}.
@@ -40,16 +77,32 @@ public final class CacheBuilder {
 
   /** Returns a new {@link Cache} with the settings of this {@link CacheBuilder}. */
   public <K, V> Cache<K, V> build() {
-    if (weakKeys && maximumSize == UNSET) {
+    if (weakKeys
+        && maximumSize == UNSET
+        && maximumWeight == UNSET
+        && expireAfterAccessNanos == UNSET
+        && statsName == null) {
       return new WeakLockFreeCache<>();
     }
-    Caffeine<?, ?> caffeine = Caffeine.newBuilder();
+    Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
     if (weakKeys) {
       caffeine.weakKeys();
     }
     if (maximumSize != UNSET) {
       caffeine.maximumSize(maximumSize);
     }
+    if (maximumWeight != UNSET) {
+      @SuppressWarnings("unchecked")
+      Weigher<Object, Object> weigher = (Weigher<Object, Object>) this.weigher;
+      caffeine.maximumWeight(maximumWeight).weigher(weigher::weigh);
+    }
+    if (expireAfterAccessNanos != UNSET) {
+      caffeine.expireAfterAccess(expireAfterAccessNanos, TimeUnit.NANOSECONDS);
+    }
+    if (statsName != null) {
+      StatsCounter statsCounter = CacheStats.counter(statsName);
+      caffeine.recordStats(() -> statsCounter);
+    }
     if (executor != null) {
       caffeine.executor(executor);
     } else {
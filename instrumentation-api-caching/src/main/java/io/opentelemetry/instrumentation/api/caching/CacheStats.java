@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.caching;
+
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A snapshot of the statistics of caches built with {@link CacheBuilder#setRecordStats(String)}.
+ */
+public final class CacheStats {
+
+  private static final Map<String, ConcurrentStatsCounter> counters = new ConcurrentHashMap<>();
+
+  /** Returns the current statistics of all caches that record them, by name. */
+  public static Map<String, CacheStats> snapshot() {
+    Map<String, CacheStats> snapshot = new HashMap<>(counters.size());
+    for (Map.Entry<String, ConcurrentStatsCounter> entry : counters.entrySet()) {
+      com.github.benmanes.caffeine.cache.stats.CacheStats stats = entry.getValue().snapshot();
+      snapshot.put(
+          entry.getKey(),
+          new CacheStats(
+              stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.evictionWeight()));
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  static StatsCounter counter(String name) {
+    return counters.computeIfAbsent(name, unused -> new ConcurrentStatsCounter());
+  }
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long evictionWeight;
+
+  private CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.evictionWeight = evictionWeight;
+  }
+
+  /** Returns the number of lookups that found a cached value. */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /** Returns the number of lookups that did not find a cached value. */
+  public long missCount() {
+    return missCount;
+  }
+
+  /** Returns the number of entries removed because of the size, weight or expiry bounds. */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Returns the total weight of the evicted entries, or their count if the cache is not weighted.
+   */
+  public long evictionWeight() {
+    return evictionWeight;
+  }
+}
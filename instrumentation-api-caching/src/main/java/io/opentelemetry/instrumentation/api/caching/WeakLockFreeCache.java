@@ -6,14 +6,31 @@
 package io.opentelemetry.instrumentation.api.caching;
 
 import com.blogspot.mydailyjava.weaklockfree.WeakConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
 final class WeakLockFreeCache<K, V> implements Cache<K, V> {
 
+  // the number of values that the current thread is computing, in any cache. A thread that is
+  // computing a value never waits for another thread, which could be waiting for it in turn, e.g.
+  // when two threads compute the values of the same two keys in opposite order. It computes the
+  // value itself instead, so only threads that block nobody else ever wait.
+  private static final ThreadLocal<int[]> loadDepth =
+      new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+          return new int[1];
+        }
+      };
+
   private final WeakConcurrentMap<K, V> delegate;
+  // keys whose value is being computed, so that other threads wait for it instead of computing it
+  // again, while threads computing the values of other keys are never blocked
+  private final WeakConcurrentMap<K, Loader<V>> loaders;
 
   WeakLockFreeCache() {
     this.delegate = new WeakConcurrentMap.WithInlinedExpunction<>();
+    this.loaders = new WeakConcurrentMap.WithInlinedExpunction<>();
   }
 
   @Override
@@ -22,25 +39,63 @@ final class WeakLockFreeCache<K, V> implements Cache<K, V> {
     if (value != null) {
       return value;
     }
-    // Best we can do, we don't expect high contention with this implementation. Note, this
-    // prevents executing mappingFunction twice but it does not prevent executing mappingFunction
-    // if there is a concurrent put operation as would be the case for ConcurrentHashMap. However,
-    // we would never expect an order guarantee in this case anyways so it still has the same
-    // safety.
-    synchronized (delegate) {
-      value = get(key);
+    int[] depth = loadDepth.get();
+    while (true) {
+      Loader<V> loader = new Loader<>();
+      Loader<V> existing = loaders.putIfAbsent(key, loader);
+      if (existing == null) {
+        return load(key, loader, depth, mappingFunction);
+      }
+      if (depth[0] > 0) {
+        // mappingFunction is called from another mappingFunction, the thread computing this key may
+        // be waiting for the value computed by this one
+        return compute(key, depth, mappingFunction);
+      }
+      // Note, this prevents executing mappingFunction twice but it does not prevent executing
+      // mappingFunction if there is a concurrent put operation as would be the case for
+      // ConcurrentHashMap. However, we would never expect an order guarantee in this case anyways
+      // so it still has the same safety.
+      value = existing.await();
       if (value != null) {
         return value;
       }
-      value = mappingFunction.apply(key);
-      V previous = delegate.putIfAbsent(key, value);
-      if (previous != null) {
-        return previous;
+      if (Thread.currentThread().isInterrupted()) {
+        // don't wait again, the interrupt is left for the caller to handle
+        return compute(key, depth, mappingFunction);
+      }
+      // mappingFunction failed in the other thread, try again in this one
+    }
+  }
+
+  private V load(
+      K key, Loader<V> loader, int[] depth, Function<? super K, ? extends V> mappingFunction) {
+    V value = null;
+    try {
+      value = get(key);
+      if (value == null) {
+        value = compute(key, depth, mappingFunction);
       }
       return value;
+    } finally {
+      loaders.remove(key);
+      loader.complete(value);
+    }
+  }
+
+  private V compute(K key, int[] depth, Function<? super K, ? extends V> mappingFunction) {
+    depth[0]++;
+    try {
+      return putIfAbsent(key, mappingFunction.apply(key));
+    } finally {
+      depth[0]--;
     }
   }
 
+  private V putIfAbsent(K key, V value) {
+    V previous = delegate.putIfAbsent(key, value);
+    return previous != null ? previous : value;
+  }
+
   @Override
   public V get(K key) {
     return delegate.getIfPresent(key);
@@ -60,4 +115,28 @@ final class WeakLockFreeCache<K, V> implements Cache<K, V> {
   int size() {
     return delegate.approximateSize();
   }
+
+  private static final class Loader<V> {
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile V value;
+
+    void complete(V value) {
+      this.value = value;
+      done.countDown();
+    }
+
+    /**
+     * Returns the computed value, or {@code null} if its computation failed or the current thread
+     * was interrupted while waiting for it.
+     */
+    V await() {
+      try {
+        done.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+      return value;
+    }
+  }
 }
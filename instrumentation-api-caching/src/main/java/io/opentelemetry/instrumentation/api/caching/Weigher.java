@@ -0,0 +1,19 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.caching;
+
+/**
+ * Calculates the weight of cache entries, used to bound a {@link Cache} by total weight instead of
+ * entry count.
+ *
+ * @see CacheBuilder#setMaximumWeight(long, Weigher)
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+  /** Returns the non-negative weight of the entry. */
+  int weigh(K key, V value);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.ArgumentIterator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class RedisCommandSanitizerBenchmark {
+
+  @Param({"1", "100", "10000"})
+  public int keyValuePairs;
+
+  private byte[][] args;
+
+  @Setup
+  public void setUp() {
+    byte[] value = new byte[256];
+    args = new byte[keyValuePairs * 2][];
+    for (int i = 0; i < keyValuePairs; i++) {
+      args[i * 2] = ("key" + i).getBytes(StandardCharsets.UTF_8);
+      args[i * 2 + 1] = value;
+    }
+  }
+
+  @Benchmark
+  public String streaming() {
+    return RedisCommandSanitizer.sanitize("MSET", ArgumentIterator.of(args));
+  }
+
+  @Benchmark
+  public String decodedUpFront() {
+    List<String> decoded = new ArrayList<>(args.length);
+    for (byte[] arg : args) {
+      decoded.add(new String(arg, StandardCharsets.UTF_8));
+    }
+    return RedisCommandSanitizer.sanitize("MSET", decoded);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SqlStatementSanitizerBenchmark {
+
+  @Param({"simpleSelect", "joinSelect", "inList", "insertValues", "batchInsert", "update"})
+  public String shape;
+
+  private String statement;
+  private StringBuilder statementBuilder;
+
+  @Setup
+  public void setUp() {
+    statement = statement(shape);
+    statementBuilder = new StringBuilder(statement);
+  }
+
+  @Benchmark
+  public SqlStatementInfo cached() {
+    return SqlStatementSanitizer.sanitize(statement);
+  }
+
+  @Benchmark
+  public SqlStatementInfo uncached() {
+    return AutoSqlSanitizer.sanitize(statement);
+  }
+
+  @Benchmark
+  public SqlStatementInfo uncachedCharSequence() {
+    return AutoSqlSanitizer.sanitize(statementBuilder);
+  }
+
+  @Benchmark
+  public SqlStatementInfo summaryOnly() {
+    return AutoSqlSanitizer.sanitize(statement, true);
+  }
+
+  private static String statement(String shape) {
+    switch (shape) {
+      case "simpleSelect":
+        return "SELECT id, name, email FROM users WHERE id = 42";
+      case "joinSelect":
+        return "SELECT o.id, o.total, c.name FROM orders o JOIN customers c ON o.customer_id = c.id"
+            + " WHERE o.created_at > '2021-01-01' AND c.country = 'NL' ORDER BY o.total DESC"
+            + " LIMIT 100";
+      case "inList":
+        return "SELECT * FROM products WHERE id IN (" + repeat("?", ", ", 200) + ")";
+      case "insertValues":
+        return "INSERT INTO events (id, type, payload, created_at)"
+            + " VALUES (12345, 'click', '{\"x\": 10, \"y\": 20}', '2021-04-01 10:00:00')";
+      case "batchInsert":
+        return "INSERT INTO events (id, type, created_at) VALUES "
+            + repeat("(12345, 'click', '2021-04-01 10:00:00')", ", ", 500);
+      case "update":
+        return "UPDATE accounts SET balance = balance - 100.50, updated_at = '2021-04-01'"
+            + " WHERE id = 7 AND version = 3";
+      default:
+        throw new IllegalArgumentException(shape);
+    }
+  }
+
+  private static String repeat(String value, String separator, int times) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      if (i > 0) {
+        sb.append(separator);
+      }
+      sb.append(value);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import java.io.Reader;
+
+/**
+ * A {@link Reader} over a {@link CharSequence}. Unlike {@link java.io.StringReader} it does not
+ * require converting the sequence to a {@link String} first, and it skips the locking and
+ * open-state checks of the JDK readers since it is only ever used by a single scanner.
+ */
+final class CharSequenceReader extends Reader {
+
+  private final CharSequence chars;
+  private final int length;
+  private int position = 0;
+
+  CharSequenceReader(CharSequence chars) {
+    this.chars = chars;
+    this.length = chars.length();
+  }
+
+  @Override
+  public int read(char[] buffer, int offset, int count) {
+    if (position >= length) {
+      return -1;
+    }
+    int n = Math.min(count, length - position);
+    if (chars instanceof String) {
+      ((String) chars).getChars(position, position + n, buffer, offset);
+    } else if (chars instanceof StringBuilder) {
+      ((StringBuilder) chars).getChars(position, position + n, buffer, offset);
+    } else {
+      for (int i = 0; i < n; i++) {
+        buffer[offset + i] = chars.charAt(position + i);
+      }
+    }
+    position += n;
+    return n;
+  }
+
+  @Override
+  public void close() {}
+}
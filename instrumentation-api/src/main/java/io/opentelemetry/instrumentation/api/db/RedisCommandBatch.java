@@ -0,0 +1,101 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.instrumentation.api.tracer.AttributeSetter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes a pipeline or batch of Redis commands, so that it can be recorded as a single span
+ * instead of one span per command. The summary contains the number of times each command was sent
+ * and the total size of the commands' arguments. The span should have a fixed name, since the
+ * combination of commands is as unbounded as the commands themselves.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class RedisCommandBatch {
+
+  public static final AttributeKey<Long> COMMAND_COUNT = longKey("db.redis.batch.command_count");
+  public static final AttributeKey<String> COMMAND_COUNTS =
+      stringKey("db.redis.batch.command_counts");
+  public static final AttributeKey<Long> ARGUMENT_BYTES =
+      longKey("db.redis.batch.argument_bytes");
+
+  private static final boolean ENABLED =
+      Config.get()
+          .getBooleanProperty("otel.instrumentation.redis.experimental-batch-spans.enabled", false);
+
+  private static final long COMMAND_LATENCY_THRESHOLD_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(
+          Config.get()
+              .getIntProperty(
+                  "otel.instrumentation.redis.experimental-batch-spans.command-latency-threshold",
+                  100));
+
+  /** Returns whether pipelines and batches should be recorded as a single span. */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Returns whether a command of a batch that took {@code durationNanos} from being sent until its
+   * reply was read should still be recorded as a span of its own.
+   */
+  public static boolean isSlow(long durationNanos) {
+    return durationNanos > COMMAND_LATENCY_THRESHOLD_NANOS;
+  }
+
+  private final Map<String, long[]> countsByCommand = new LinkedHashMap<>();
+  private long commandCount;
+  private long argumentBytes;
+  private boolean argumentBytesUnknown;
+
+  public void add(String command, long argumentBytes) {
+    countsByCommand.computeIfAbsent(command, c -> new long[1])[0]++;
+    commandCount++;
+    this.argumentBytes += argumentBytes;
+  }
+
+  /**
+   * Adds a command whose arguments can't be measured without encoding them a second time, the
+   * total size of the arguments is not recorded for the batch then.
+   */
+  public void add(String command) {
+    add(command, 0);
+    argumentBytesUnknown = true;
+  }
+
+  public long getCommandCount() {
+    return commandCount;
+  }
+
+  /** Returns the number of times each command was sent, e.g. {@code SET=2,GET=1}. */
+  public String getCommandCounts() {
+    StringBuilder counts = new StringBuilder();
+    for (Map.Entry<String, long[]> entry : countsByCommand.entrySet()) {
+      if (counts.length() > 0) {
+        counts.append(',');
+      }
+      counts.append(entry.getKey()).append('=').append(entry.getValue()[0]);
+    }
+    return counts.toString();
+  }
+
+  public void setAttributes(AttributeSetter setter) {
+    setter.setAttribute(COMMAND_COUNT, commandCount);
+    setter.setAttribute(COMMAND_COUNTS, getCommandCounts());
+    if (!argumentBytesUnknown) {
+      setter.setAttribute(ARGUMENT_BYTES, argumentBytes);
+    }
+  }
+}
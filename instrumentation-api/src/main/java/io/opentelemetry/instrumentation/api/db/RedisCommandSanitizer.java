@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * This class is responsible for masking potentially sensitive data in Redis commands.
@@ -39,6 +40,9 @@ import java.util.Map;
  */
 public final class RedisCommandSanitizer {
 
+  /** Sanitized statements are truncated to this number of characters. */
+  public static final int MAX_STATEMENT_LENGTH = 32 * 1024;
+
   private static final Map<String, CommandSanitizer> SANITIZERS;
   private static final CommandSanitizer DEFAULT = new CommandAndNumArgs(0);
 
@@ -313,14 +317,83 @@ public final class RedisCommandSanitizer {
   }
 
   public static String sanitize(String command, List<?> args) {
+    return sanitize(command, ArgumentIterator.of(args));
+  }
+
+  /**
+   * Sanitizes the command in a single pass over its {@code args}. Arguments that are masked are
+   * only skipped, and no more arguments are read once the statement has reached {@link
+   * #MAX_STATEMENT_LENGTH} characters, so large commands like {@code MSET} don't need to be fully
+   * converted to strings.
+   */
+  public static String sanitize(String command, ArgumentIterator args) {
     if (!StatementSanitizationConfig.isStatementSanitizationEnabled()) {
       return KeepAllArgs.INSTANCE.sanitize(command, args);
     }
-    return SANITIZERS.getOrDefault(command.toUpperCase(), DEFAULT).sanitize(command, args);
+    // commands are usually already upper case, avoid copying them in that case
+    CommandSanitizer sanitizer = SANITIZERS.get(command);
+    if (sanitizer == null) {
+      sanitizer = SANITIZERS.getOrDefault(command.toUpperCase(), DEFAULT);
+    }
+    return sanitizer.sanitize(command, args);
+  }
+
+  /**
+   * The arguments of a Redis command, read front to back. Arguments that are going to be masked
+   * are {@linkplain #skip() skipped} instead of being read, so implementations can avoid converting
+   * them to strings.
+   */
+  public interface ArgumentIterator {
+    boolean hasNext();
+
+    /** Returns the next argument as a string. */
+    String next();
+
+    /** Moves past the next argument without reading it. */
+    void skip();
+
+    static ArgumentIterator of(List<?> args) {
+      return new ListArgumentIterator(args);
+    }
+
+    static ArgumentIterator of(Object[] args) {
+      return new ListArgumentIterator(asList(args));
+    }
+  }
+
+  private static final class ListArgumentIterator implements ArgumentIterator {
+    private final List<?> args;
+    private int index;
+
+    private ListArgumentIterator(List<?> args) {
+      this.args = args;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < args.size();
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return CommandSanitizer.argToString(args.get(index++));
+    }
+
+    @Override
+    public void skip() {
+      index++;
+    }
   }
 
   public interface CommandSanitizer {
-    String sanitize(String command, List<?> args);
+    String sanitize(String command, ArgumentIterator args);
+
+    default String sanitize(String command, List<?> args) {
+      return sanitize(command, ArgumentIterator.of(args));
+    }
 
     static String argToString(Object arg) {
       if (arg instanceof byte[]) {
@@ -330,16 +403,27 @@ public final class RedisCommandSanitizer {
       }
     }
 
+    static boolean isFull(StringBuilder sanitized) {
+      return sanitized.length() >= MAX_STATEMENT_LENGTH;
+    }
+
+    static String toStatement(StringBuilder sanitized) {
+      if (isFull(sanitized)) {
+        sanitized.setLength(MAX_STATEMENT_LENGTH);
+      }
+      return sanitized.toString();
+    }
+
     enum KeepAllArgs implements CommandSanitizer {
       INSTANCE;
 
       @Override
-      public String sanitize(String command, List<?> args) {
+      public String sanitize(String command, ArgumentIterator args) {
         StringBuilder sanitized = new StringBuilder(command);
-        for (Object arg : args) {
-          sanitized.append(" ").append(argToString(arg));
+        while (args.hasNext() && !isFull(sanitized)) {
+          sanitized.append(" ").append(args.next());
         }
-        return sanitized.toString();
+        return toStatement(sanitized);
       }
     }
 
@@ -353,15 +437,16 @@ public final class RedisCommandSanitizer {
       }
 
       @Override
-      public String sanitize(String command, List<?> args) {
+      public String sanitize(String command, ArgumentIterator args) {
         StringBuilder sanitized = new StringBuilder(command);
-        for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (int i = 0; i < numOfArgsToKeep && args.hasNext() && !isFull(sanitized); ++i) {
+          sanitized.append(" ").append(args.next());
         }
-        for (int i = numOfArgsToKeep; i < args.size(); ++i) {
+        while (args.hasNext() && !isFull(sanitized)) {
+          args.skip();
           sanitized.append(" ?");
         }
-        return sanitized.toString();
+        return toStatement(sanitized);
       }
     }
 
@@ -375,18 +460,21 @@ public final class RedisCommandSanitizer {
       }
 
       @Override
-      public String sanitize(String command, List<?> args) {
+      public String sanitize(String command, ArgumentIterator args) {
         StringBuilder sanitized = new StringBuilder(command);
         // append all "initial" arguments before key-value pairs start
-        for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (int i = 0; i < numOfArgsBeforeKeyValue && args.hasNext() && !isFull(sanitized); ++i) {
+          sanitized.append(" ").append(args.next());
         }
 
         // loop over keys only
-        for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-          sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        while (args.hasNext() && !isFull(sanitized)) {
+          sanitized.append(" ").append(args.next()).append(" ?");
+          if (args.hasNext()) {
+            args.skip();
+          }
         }
-        return sanitized.toString();
+        return toStatement(sanitized);
       }
     }
 
@@ -394,28 +482,37 @@ public final class RedisCommandSanitizer {
       INSTANCE;
 
       @Override
-      public String sanitize(String command, List<?> args) {
+      public String sanitize(String command, ArgumentIterator args) {
         StringBuilder sanitized = new StringBuilder(command);
 
+        // log the script
+        if (args.hasNext()) {
+          sanitized.append(" ").append(args.next());
+        }
+
         // get the number of keys passed from the command itself (second arg)
         int numberOfKeys = 0;
-        if (args.size() > 2) {
-          try {
-            numberOfKeys = Integer.parseInt(argToString(args.get(1)));
-          } catch (NumberFormatException ignored) {
+        if (args.hasNext()) {
+          String numberOfKeysArg = args.next();
+          sanitized.append(" ").append(numberOfKeysArg);
+          if (args.hasNext()) {
+            try {
+              numberOfKeys = Integer.parseInt(numberOfKeysArg);
+            } catch (NumberFormatException ignored) {
+            }
           }
         }
 
-        int i = 0;
-        // log the script, number of keys and all keys
-        for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        // log all keys
+        for (int i = 0; i < numberOfKeys && args.hasNext() && !isFull(sanitized); ++i) {
+          sanitized.append(" ").append(args.next());
         }
         // mask the rest
-        for (; i < args.size(); ++i) {
+        while (args.hasNext() && !isFull(sanitized)) {
+          args.skip();
           sanitized.append(" ?");
         }
-        return sanitized.toString();
+        return toStatement(sanitized);
       }
     }
   }
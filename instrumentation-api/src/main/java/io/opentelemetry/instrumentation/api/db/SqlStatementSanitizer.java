@@ -5,9 +5,11 @@
 
 package io.opentelemetry.instrumentation.api.db;
 
+import static io.opentelemetry.instrumentation.api.db.StatementSanitizationConfig.getStatementSanitizationMaxLength;
 import static io.opentelemetry.instrumentation.api.db.StatementSanitizationConfig.isStatementSanitizationEnabled;
 
 import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +20,36 @@ import org.slf4j.LoggerFactory;
 public final class SqlStatementSanitizer {
   private static final Logger log = LoggerFactory.getLogger(SqlStatementSanitizer.class);
 
+  // bounds the total number of characters held by the cache rather than the number of statements,
+  // so that a few huge statements can't take up as much memory as thousands of small ones
+  private static final long CACHE_MAX_WEIGHT = 1024 * 1024;
+
+  // statements of a warmed up application rarely change, entries that aren't used anymore (e.g.
+  // from startup) don't need to hold on to memory until they are evicted by new ones
+  private static final Duration CACHE_EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
   private static final Cache<String, SqlStatementInfo> sqlToStatementInfoCache =
-      Cache.newBuilder().setMaximumSize(1000).build();
+      Cache.newBuilder()
+          .setMaximumWeight(CACHE_MAX_WEIGHT, SqlStatementSanitizer::weigh)
+          .setExpireAfterAccess(CACHE_EXPIRE_AFTER_ACCESS)
+          .setRecordStats("db-statement-sanitizer")
+          .build();
 
   public static SqlStatementInfo sanitize(String statement) {
     if (!isStatementSanitizationEnabled() || statement == null) {
       return SqlStatementInfo.create(statement, null, null);
     }
+    if (statement.length() > getStatementSanitizationMaxLength()) {
+      return AutoSqlSanitizer.sanitize(statement, /* summaryOnly= */ true);
+    }
+    if (statement.length() > AutoSqlSanitizer.LIMIT) {
+      // huge statements are truncated anyway and are unlikely to repeat, don't let them evict
+      // everything else from the cache
+      return AutoSqlSanitizer.sanitize(statement);
+    }
+    // the cache is keyed by the statement as it is, so that a hit doesn't need to scan it; the
+    // sanitizer collapses IN lists and multi-row VALUES on a miss, so statements that only differ
+    // in their lengths still get the same sanitized statement
     return sqlToStatementInfoCache.computeIfAbsent(
         statement,
         k -> {
@@ -33,5 +58,10 @@ public final class SqlStatementSanitizer {
         });
   }
 
+  private static int weigh(String statement, SqlStatementInfo info) {
+    String fullStatement = info.getFullStatement();
+    return statement.length() + (fullStatement == null ? 0 : fullStatement.length());
+  }
+
   private SqlStatementSanitizer() {}
 }
@@ -14,9 +14,20 @@ final class StatementSanitizationConfig {
       Config.get()
           .getBooleanProperty("otel.instrumentation.common.db-statement-sanitizer.enabled", true);
 
+  // statements longer than this are not sanitized, only their operation and table are extracted
+  private static final int STATEMENT_SANITIZATION_MAX_LENGTH =
+      Config.get()
+          .getIntProperty(
+              "otel.instrumentation.common.db-statement-sanitizer.max-statement-length",
+              Integer.MAX_VALUE);
+
   static boolean isStatementSanitizationEnabled() {
     return STATEMENT_SANITIZATION_ENABLED;
   }
 
+  static int getStatementSanitizationMaxLength() {
+    return STATEMENT_SANITIZATION_MAX_LENGTH;
+  }
+
   private StatementSanitizationConfig() {}
 }
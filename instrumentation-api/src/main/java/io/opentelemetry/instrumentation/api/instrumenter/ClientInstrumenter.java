@@ -5,11 +5,9 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter;
 
-import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.context.propagation.TextMapSetter;
-import java.util.List;
 
 final class ClientInstrumenter<REQUEST, RESPONSE> extends Instrumenter<REQUEST, RESPONSE> {
 
@@ -17,21 +15,11 @@ final class ClientInstrumenter<REQUEST, RESPONSE> extends Instrumenter<REQUEST,
   private final TextMapSetter<REQUEST> setter;
 
   ClientInstrumenter(
-      Tracer tracer,
-      SpanNameExtractor<? super REQUEST> spanNameExtractor,
+      InstrumenterBuilder<REQUEST, RESPONSE> builder,
       SpanKindExtractor<? super REQUEST> spanKindExtractor,
-      SpanStatusExtractor<? super REQUEST, ? super RESPONSE> spanStatusExtractor,
-      List<? extends AttributesExtractor<? super REQUEST, ? super RESPONSE>> attributesExtractors,
-      ErrorCauseExtractor errorCauseExtractor,
       ContextPropagators propagators,
       TextMapSetter<REQUEST> setter) {
-    super(
-        tracer,
-        spanNameExtractor,
-        spanKindExtractor,
-        spanStatusExtractor,
-        attributesExtractors,
-        errorCauseExtractor);
+    super(builder, spanKindExtractor);
     this.propagators = propagators;
     this.setter = setter;
   }
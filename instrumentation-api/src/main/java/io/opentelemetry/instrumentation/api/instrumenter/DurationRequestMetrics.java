@@ -0,0 +1,103 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.common.Labels;
+import io.opentelemetry.api.metrics.common.LabelsBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import java.util.List;
+
+/**
+ * A {@link RequestListener} which records the duration of requests in a {@link
+ * DoubleValueRecorder} and the number of in-flight requests in a {@link LongUpDownCounter}. Labels
+ * are copied from the extracted span attributes, limited to the given low-cardinality keys.
+ */
+final class DurationRequestMetrics implements RequestListener {
+
+  private static final double NANOS_PER_MS = 1_000_000.0;
+
+  private final ContextKey<State> stateKey;
+  private final DoubleValueRecorder duration;
+  private final LongUpDownCounter activeRequests;
+  private final List<AttributeKey<?>> activeRequestsLabelKeys;
+  private final List<AttributeKey<?>> durationLabelKeys;
+
+  DurationRequestMetrics(
+      Meter meter,
+      String metricPrefix,
+      List<AttributeKey<?>> activeRequestsLabelKeys,
+      List<AttributeKey<?>> durationLabelKeys) {
+    this.stateKey = ContextKey.named(metricPrefix + "-metrics-state");
+    this.duration =
+        meter
+            .doubleValueRecorderBuilder(metricPrefix + ".duration")
+            .setDescription("The duration of the inbound or outbound request")
+            .setUnit("ms")
+            .build();
+    this.activeRequests =
+        meter
+            .longUpDownCounterBuilder(metricPrefix + ".active_requests")
+            .setDescription("The number of requests that are currently in flight")
+            .setUnit("requests")
+            .build();
+    this.activeRequestsLabelKeys = activeRequestsLabelKeys;
+    this.durationLabelKeys = durationLabelKeys;
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes) {
+    long startNanos = System.nanoTime();
+    Labels activeRequestLabels =
+        toLabels(activeRequestsLabelKeys, startAttributes, Attributes.empty());
+    activeRequests.add(1, activeRequestLabels);
+    return context.with(stateKey, new State(startNanos, startAttributes, activeRequestLabels));
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes) {
+    State state = context.get(stateKey);
+    if (state == null) {
+      return;
+    }
+    activeRequests.add(-1, state.activeRequestLabels);
+    duration.record(
+        (System.nanoTime() - state.startNanos) / NANOS_PER_MS,
+        toLabels(durationLabelKeys, state.startAttributes, endAttributes));
+  }
+
+  private static Labels toLabels(
+      List<AttributeKey<?>> keys, Attributes startAttributes, Attributes endAttributes) {
+    LabelsBuilder labels = Labels.builder();
+    for (AttributeKey<?> key : keys) {
+      Object value = endAttributes.get(key);
+      if (value == null) {
+        value = startAttributes.get(key);
+      }
+      if (value != null) {
+        labels.put(key.getKey(), value.toString());
+      }
+    }
+    return labels.build();
+  }
+
+  private static final class State {
+    final long startNanos;
+    final Attributes startAttributes;
+    final Labels activeRequestLabels;
+
+    State(long startNanos, Attributes startAttributes, Labels activeRequestLabels) {
+      this.startNanos = startNanos;
+      this.startAttributes = startAttributes;
+      this.activeRequestLabels = activeRequestLabels;
+    }
+  }
+}
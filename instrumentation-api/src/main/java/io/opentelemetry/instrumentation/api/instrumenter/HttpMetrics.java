@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link RequestMetrics} for HTTP servers and clients, recording the {@code http.server.duration}
+ * or {@code http.client.duration} histogram and the {@code http.server.active_requests} or {@code
+ * http.client.active_requests} counter. Labels are taken from the attributes extracted by {@link
+ * HttpAttributesExtractor} and {@link NetAttributesExtractor}.
+ */
+public final class HttpMetrics {
+
+  private static final List<AttributeKey<?>> ACTIVE_REQUESTS_LABEL_KEYS =
+      Arrays.asList(
+          SemanticAttributes.HTTP_METHOD,
+          SemanticAttributes.HTTP_HOST,
+          SemanticAttributes.HTTP_SCHEME);
+
+  private static final List<AttributeKey<?>> SERVER_DURATION_LABEL_KEYS =
+      Arrays.asList(
+          SemanticAttributes.HTTP_METHOD,
+          SemanticAttributes.HTTP_HOST,
+          SemanticAttributes.HTTP_SCHEME,
+          SemanticAttributes.HTTP_STATUS_CODE,
+          SemanticAttributes.HTTP_FLAVOR,
+          SemanticAttributes.HTTP_SERVER_NAME);
+
+  private static final List<AttributeKey<?>> CLIENT_DURATION_LABEL_KEYS =
+      Arrays.asList(
+          SemanticAttributes.HTTP_METHOD,
+          SemanticAttributes.HTTP_STATUS_CODE,
+          SemanticAttributes.HTTP_FLAVOR,
+          SemanticAttributes.NET_PEER_NAME,
+          SemanticAttributes.NET_PEER_PORT);
+
+  /** Returns {@link RequestMetrics} for HTTP servers. */
+  public static RequestMetrics server() {
+    return meter ->
+        new DurationRequestMetrics(
+            meter, "http.server", ACTIVE_REQUESTS_LABEL_KEYS, SERVER_DURATION_LABEL_KEYS);
+  }
+
+  /** Returns {@link RequestMetrics} for HTTP clients. */
+  public static RequestMetrics client() {
+    return meter ->
+        new DurationRequestMetrics(
+            meter, "http.client", ACTIVE_REQUESTS_LABEL_KEYS, CLIENT_DURATION_LABEL_KEYS);
+  }
+
+  private HttpMetrics() {}
+}
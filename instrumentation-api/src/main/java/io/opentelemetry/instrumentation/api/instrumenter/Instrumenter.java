@@ -14,8 +14,10 @@ import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.InstrumentationVersion;
 import io.opentelemetry.instrumentation.api.tracer.ClientSpan;
 import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
+import java.util.ArrayList;
 import java.util.List;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -25,8 +27,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 /**
  * An instrumenter of the start and end of a request/response lifecycle. Almost all instrumentation
  * of libraries falls into modeling start and end, generating observability signals from these such
- * as a tracing {@link Span}, or metrics such as the duration taken, active requests, etc. When
- * instrumenting a library, there will generally be four steps.
+ * as a tracing {@link Span}, or metrics such as the duration taken, active requests, etc. Metrics
+ * are produced by {@link RequestListener}s registered on the {@link InstrumenterBuilder}, which
+ * reuse the attributes extracted for the span. When instrumenting a library, there will generally
+ * be four steps.
  *
  * <ul>
  *   <li>Create an {@link Instrumenter} using {@link InstrumenterBuilder}. Use the builder to
@@ -52,20 +56,24 @@ public class Instrumenter<REQUEST, RESPONSE> {
   private final SpanStatusExtractor<? super REQUEST, ? super RESPONSE> spanStatusExtractor;
   private final List<? extends AttributesExtractor<? super REQUEST, ? super RESPONSE>> extractors;
   private final ErrorCauseExtractor errorCauseExtractor;
+  private final List<? extends RequestListener> requestListeners;
+  private final boolean writeAttributesDirectly;
+  private final boolean samplingIndependentOfAttributes;
 
   Instrumenter(
-      Tracer tracer,
-      SpanNameExtractor<? super REQUEST> spanNameExtractor,
-      SpanKindExtractor<? super REQUEST> spanKindExtractor,
-      SpanStatusExtractor<? super REQUEST, ? super RESPONSE> spanStatusExtractor,
-      List<? extends AttributesExtractor<? super REQUEST, ? super RESPONSE>> extractors,
-      ErrorCauseExtractor errorCauseExtractor) {
-    this.tracer = tracer;
-    this.spanNameExtractor = spanNameExtractor;
+      InstrumenterBuilder<REQUEST, RESPONSE> builder,
+      SpanKindExtractor<? super REQUEST> spanKindExtractor) {
+    this.tracer =
+        builder.openTelemetry.getTracer(
+            builder.instrumentationName, InstrumentationVersion.VERSION);
+    this.spanNameExtractor = builder.spanNameExtractor;
     this.spanKindExtractor = spanKindExtractor;
-    this.spanStatusExtractor = spanStatusExtractor;
-    this.extractors = extractors;
-    this.errorCauseExtractor = errorCauseExtractor;
+    this.spanStatusExtractor = builder.spanStatusExtractor;
+    this.extractors = new ArrayList<>(builder.attributesExtractors);
+    this.errorCauseExtractor = builder.errorCauseExtractor;
+    this.requestListeners = new ArrayList<>(builder.requestListeners);
+    this.writeAttributesDirectly = builder.writeAttributesDirectly;
+    this.samplingIndependentOfAttributes = builder.samplingIndependentOfAttributes;
   }
 
   /**
@@ -102,14 +110,22 @@ public class Instrumenter<REQUEST, RESPONSE> {
             .setSpanKind(spanKind)
             .setParent(parentContext);
 
-    AttributesBuilder attributes = Attributes.builder();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : extractors) {
-      extractor.onStart(attributes, request);
+    Span span;
+    Attributes attributes = Attributes.empty();
+    if (samplingIndependentOfAttributes) {
+      span = spanBuilder.startSpan();
+      if (span.isRecording() || !requestListeners.isEmpty()) {
+        attributes = extractStart(span, request);
+      }
+    } else {
+      attributes = extractStart(spanBuilder, request);
+      span = spanBuilder.startSpan();
     }
-    attributes.build().forEach((key, value) -> spanBuilder.setAttribute((AttributeKey) key, value));
 
-    Span span = spanBuilder.startSpan();
     Context context = parentContext.with(span);
+    for (RequestListener requestListener : requestListeners) {
+      context = requestListener.start(context, attributes);
+    }
     switch (spanKind) {
       case SERVER:
         return ServerSpan.with(context, span);
@@ -129,11 +145,17 @@ public class Instrumenter<REQUEST, RESPONSE> {
   public void end(Context context, REQUEST request, RESPONSE response, @Nullable Throwable error) {
     Span span = Span.fromContext(context);
 
-    AttributesBuilder attributes = Attributes.builder();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : extractors) {
-      extractor.onEnd(attributes, request, response);
+    if (!span.isRecording() && requestListeners.isEmpty()) {
+      // nothing would observe the extracted attributes, error or status
+      span.end();
+      return;
+    }
+
+    Attributes attributes = extractEnd(span, request, response);
+
+    for (RequestListener requestListener : requestListeners) {
+      requestListener.end(context, attributes);
     }
-    attributes.build().forEach((key, value) -> span.setAttribute((AttributeKey) key, value));
 
     if (error != null) {
       error = errorCauseExtractor.extractCause(error);
@@ -144,4 +166,82 @@ public class Instrumenter<REQUEST, RESPONSE> {
 
     span.end();
   }
+
+  // attributes written directly to the span are only built when a request listener needs them
+  private Attributes extractStart(SpanBuilder spanBuilder, REQUEST request) {
+    if (!writeAttributesDirectly) {
+      Attributes attributes = onStart(Attributes.builder(), request).build();
+      setAll(spanBuilder, attributes);
+      return attributes;
+    }
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    try {
+      onStart(attributes, request).applyTo(spanBuilder);
+      return listenerAttributes(attributes);
+    } finally {
+      attributes.release();
+    }
+  }
+
+  private Attributes extractStart(Span span, REQUEST request) {
+    if (!writeAttributesDirectly) {
+      Attributes attributes = onStart(Attributes.builder(), request).build();
+      setAll(span, attributes);
+      return attributes;
+    }
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    try {
+      onStart(attributes, request).applyTo(span);
+      return listenerAttributes(attributes);
+    } finally {
+      attributes.release();
+    }
+  }
+
+  private Attributes extractEnd(Span span, REQUEST request, RESPONSE response) {
+    if (!writeAttributesDirectly) {
+      Attributes attributes = onEnd(Attributes.builder(), request, response).build();
+      setAll(span, attributes);
+      return attributes;
+    }
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    try {
+      onEnd(attributes, request, response).applyTo(span);
+      return listenerAttributes(attributes);
+    } finally {
+      attributes.release();
+    }
+  }
+
+  private <B extends AttributesBuilder> B onStart(B attributes, REQUEST request) {
+    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : extractors) {
+      extractor.onStart(attributes, request);
+    }
+    return attributes;
+  }
+
+  private <B extends AttributesBuilder> B onEnd(B attributes, REQUEST request, RESPONSE response) {
+    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : extractors) {
+      extractor.onEnd(attributes, request, response);
+    }
+    return attributes;
+  }
+
+  private Attributes listenerAttributes(SpanAttributesBuilder attributes) {
+    return requestListeners.isEmpty() ? Attributes.empty() : attributes.build();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void setAll(SpanBuilder spanBuilder, Attributes attributes) {
+    if (!attributes.isEmpty()) {
+      attributes.forEach((key, value) -> spanBuilder.setAttribute((AttributeKey) key, value));
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void setAll(Span span, Attributes attributes) {
+    if (!attributes.isEmpty()) {
+      attributes.forEach((key, value) -> span.setAttribute((AttributeKey) key, value));
+    }
+  }
 }
@@ -6,8 +6,9 @@
 package io.opentelemetry.instrumentation.api.instrumenter;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.StatusCode;
-import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapSetter;
@@ -22,16 +23,19 @@ import java.util.List;
  * {@link Instrumenter}.
  */
 public final class InstrumenterBuilder<REQUEST, RESPONSE> {
-  private final OpenTelemetry openTelemetry;
-  private final String instrumentationName;
-  private final SpanNameExtractor<? super REQUEST> spanNameExtractor;
+  final OpenTelemetry openTelemetry;
+  final String instrumentationName;
+  final SpanNameExtractor<? super REQUEST> spanNameExtractor;
 
-  private final List<AttributesExtractor<? super REQUEST, ? super RESPONSE>> attributesExtractors =
+  final List<AttributesExtractor<? super REQUEST, ? super RESPONSE>> attributesExtractors =
       new ArrayList<>();
+  final List<RequestListener> requestListeners = new ArrayList<>();
 
-  private SpanStatusExtractor<? super REQUEST, ? super RESPONSE> spanStatusExtractor =
+  SpanStatusExtractor<? super REQUEST, ? super RESPONSE> spanStatusExtractor =
       SpanStatusExtractor.getDefault();
-  private ErrorCauseExtractor errorCauseExtractor = ErrorCauseExtractor.jdk();
+  ErrorCauseExtractor errorCauseExtractor = ErrorCauseExtractor.jdk();
+  boolean writeAttributesDirectly = false;
+  boolean samplingIndependentOfAttributes = false;
 
   InstrumenterBuilder(
       OpenTelemetry openTelemetry,
@@ -72,6 +76,39 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     return addAttributesExtractors(Arrays.asList(attributesExtractors));
   }
 
+  /**
+   * Sets whether the configured {@code Sampler} makes its decision without looking at the
+   * attributes extracted on start, as parent-based or trace ID ratio samplers do. If {@code true},
+   * the span is started before any {@link AttributesExtractor} runs and extraction is skipped
+   * entirely for spans that are not recorded, unless a {@link RequestListener} needs the
+   * attributes. Attributes extracted on start are then not visible to the sampler. Extraction on
+   * end is always skipped for spans that are not recorded.
+   */
+  public InstrumenterBuilder<REQUEST, RESPONSE> setSamplingIndependentOfAttributes(
+      boolean samplingIndependentOfAttributes) {
+    this.samplingIndependentOfAttributes = samplingIndependentOfAttributes;
+    return this;
+  }
+
+  /**
+   * Adds a {@link RequestListener} which will be notified of the start and end of every request,
+   * receiving the attributes extracted for the span.
+   */
+  public InstrumenterBuilder<REQUEST, RESPONSE> addRequestListener(RequestListener listener) {
+    requestListeners.add(listener);
+    return this;
+  }
+
+  /**
+   * Adds a {@link RequestMetrics} whose {@link RequestListener} will record metrics for every
+   * request, using a {@link io.opentelemetry.api.metrics.Meter} named after this instrumentation.
+   */
+  public InstrumenterBuilder<REQUEST, RESPONSE> addRequestMetrics(RequestMetrics factory) {
+    Meter meter = GlobalMeterProvider.getMeter(instrumentationName, InstrumentationVersion.VERSION);
+    requestListeners.add(factory.create(meter));
+    return this;
+  }
+
   /**
    * Sets the {@link ErrorCauseExtractor} to extract the root cause from an exception handling the
    * request.
@@ -82,6 +119,19 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Sets whether the attributes of {@link AttributesExtractor}s are written directly into the span
+   * being started or ended, instead of being built into an intermediate {@link
+   * io.opentelemetry.api.common.Attributes} first. This avoids several allocations per request.
+   * The builder passed to the extractors is reused by the thread for later requests, so extractors
+   * must not keep a reference to it after they return.
+   */
+  public InstrumenterBuilder<REQUEST, RESPONSE> setWriteAttributesDirectly(
+      boolean writeAttributesDirectly) {
+    this.writeAttributesDirectly = writeAttributesDirectly;
+    return this;
+  }
+
   /**
    * Returns a new client {@link Instrumenter} which will create client spans and inject context
    * into requests.
@@ -113,23 +163,12 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
   private Instrumenter<REQUEST, RESPONSE> newInstrumenter(
       InstrumenterConstructor<REQUEST, RESPONSE> constructor,
       SpanKindExtractor<? super REQUEST> spanKindExtractor) {
-    return constructor.create(
-        openTelemetry.getTracer(instrumentationName, InstrumentationVersion.VERSION),
-        spanNameExtractor,
-        spanKindExtractor,
-        spanStatusExtractor,
-        new ArrayList<>(attributesExtractors),
-        errorCauseExtractor);
+    return constructor.create(this, spanKindExtractor);
   }
 
   private interface InstrumenterConstructor<RQ, RS> {
     Instrumenter<RQ, RS> create(
-        Tracer tracer,
-        SpanNameExtractor<? super RQ> spanNameExtractor,
-        SpanKindExtractor<? super RQ> spanKindExtractor,
-        SpanStatusExtractor<? super RQ, ? super RS> spanStatusExtractor,
-        List<? extends AttributesExtractor<? super RQ, ? super RS>> extractors,
-        ErrorCauseExtractor errorCauseExtractor);
+        InstrumenterBuilder<RQ, RS> builder, SpanKindExtractor<? super RQ> spanKindExtractor);
 
     static <RQ, RS> InstrumenterConstructor<RQ, RS> internal() {
       return Instrumenter::new;
@@ -137,30 +176,14 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
 
     static <RQ, RS> InstrumenterConstructor<RQ, RS> propagatingToDownstream(
         ContextPropagators propagators, TextMapSetter<RQ> setter) {
-      return (tracer, spanName, spanKind, spanStatus, attributes, errorCauseExtractor) ->
-          new ClientInstrumenter<>(
-              tracer,
-              spanName,
-              spanKind,
-              spanStatus,
-              attributes,
-              errorCauseExtractor,
-              propagators,
-              setter);
+      return (builder, spanKindExtractor) ->
+          new ClientInstrumenter<>(builder, spanKindExtractor, propagators, setter);
     }
 
     static <RQ, RS> InstrumenterConstructor<RQ, RS> propagatingFromUpstream(
         ContextPropagators propagators, TextMapGetter<RQ> getter) {
-      return (tracer, spanName, spanKind, spanStatus, attributes, errorCauseExtractor) ->
-          new ServerInstrumenter<>(
-              tracer,
-              spanName,
-              spanKind,
-              spanStatus,
-              attributes,
-              errorCauseExtractor,
-              propagators,
-              getter);
+      return (builder, spanKindExtractor) ->
+          new ServerInstrumenter<>(builder, spanKindExtractor, propagators, getter);
     }
   }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+
+/**
+ * A listener of the start and end of a request. {@link #start(Context, Attributes)} is called right
+ * after the span of the request has been started, and {@link #end(Context, Attributes)} right
+ * before it ends. Both receive the {@link Attributes} already extracted by the {@link
+ * AttributesExtractor}s of the {@link Instrumenter}, so listeners such as {@link RequestMetrics}
+ * do not need to extract anything on their own.
+ */
+public interface RequestListener {
+
+  /**
+   * Listener method that is called at the start of a request. If any state needs to be kept
+   * between the start and end of the request, it should be added to the passed in {@link Context}
+   * and returned.
+   */
+  Context start(Context context, Attributes startAttributes);
+
+  /**
+   * Listener method that is called at the end of a request. The {@link Context} is the one that
+   * was returned from {@link #start(Context, Attributes)}.
+   */
+  void end(Context context, Attributes endAttributes);
+}
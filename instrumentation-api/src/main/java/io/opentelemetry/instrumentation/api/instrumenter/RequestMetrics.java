@@ -0,0 +1,22 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * A factory for a {@link RequestListener} which records metrics. The {@link Meter} passed to
+ * {@link #create(Meter)} is named after the instrumentation library of the {@link Instrumenter}.
+ *
+ * @see HttpMetrics
+ * @see RpcMetrics
+ */
+@FunctionalInterface
+public interface RequestMetrics {
+
+  /** Returns a {@link RequestListener} that records metrics using the given {@link Meter}. */
+  RequestListener create(Meter meter);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link RequestMetrics} for RPC servers and clients, recording the {@code rpc.server.duration} or
+ * {@code rpc.client.duration} histogram and the {@code rpc.server.active_requests} or {@code
+ * rpc.client.active_requests} counter. Labels are taken from the {@code rpc.*} and {@code net.*}
+ * attributes extracted for the span.
+ */
+public final class RpcMetrics {
+
+  private static final List<AttributeKey<?>> ACTIVE_REQUESTS_LABEL_KEYS =
+      Arrays.asList(
+          SemanticAttributes.RPC_SYSTEM,
+          SemanticAttributes.RPC_SERVICE,
+          SemanticAttributes.RPC_METHOD);
+
+  private static final List<AttributeKey<?>> DURATION_LABEL_KEYS =
+      Arrays.asList(
+          SemanticAttributes.RPC_SYSTEM,
+          SemanticAttributes.RPC_SERVICE,
+          SemanticAttributes.RPC_METHOD,
+          SemanticAttributes.NET_PEER_NAME,
+          SemanticAttributes.NET_PEER_PORT);
+
+  /** Returns {@link RequestMetrics} for RPC servers. */
+  public static RequestMetrics server() {
+    return meter ->
+        new DurationRequestMetrics(
+            meter, "rpc.server", ACTIVE_REQUESTS_LABEL_KEYS, DURATION_LABEL_KEYS);
+  }
+
+  /** Returns {@link RequestMetrics} for RPC clients. */
+  public static RequestMetrics client() {
+    return meter ->
+        new DurationRequestMetrics(
+            meter, "rpc.client", ACTIVE_REQUESTS_LABEL_KEYS, DURATION_LABEL_KEYS);
+  }
+
+  private RpcMetrics() {}
+}
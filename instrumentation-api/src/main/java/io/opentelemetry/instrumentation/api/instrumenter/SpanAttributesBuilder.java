@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import java.util.Arrays;
+
+/**
+ * An {@link AttributesBuilder} which collects attributes into arrays that are reused for every
+ * request, so that they can be copied onto a {@link SpanBuilder} or {@link Span} without
+ * allocating and sorting an intermediate {@link Attributes}. {@link #build()} still returns the
+ * collected attributes, but allocates them, so it is only called when something else needs them.
+ *
+ * <p>Each thread reuses a single instance, which is handed out by {@link #acquire()} and must be
+ * {@link #release() released} once the attributes have been copied. Extractors must not keep a
+ * reference to it after they return, since it will be collecting the attributes of another request
+ * by then. An extraction started while the thread's instance is in use, e.g. by an extractor
+ * calling instrumented code, gets a new instance instead.
+ */
+final class SpanAttributesBuilder implements AttributesBuilder {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final ThreadLocal<SpanAttributesBuilder> threadBuilder =
+      ThreadLocal.withInitial(SpanAttributesBuilder::new);
+
+  static SpanAttributesBuilder acquire() {
+    SpanAttributesBuilder builder = threadBuilder.get();
+    if (builder.inUse) {
+      builder = new SpanAttributesBuilder();
+    }
+    builder.inUse = true;
+    return builder;
+  }
+
+  private AttributeKey<?>[] keys = new AttributeKey<?>[INITIAL_CAPACITY];
+  private Object[] values = new Object[INITIAL_CAPACITY];
+  private int size;
+  private boolean inUse;
+
+  private SpanAttributesBuilder() {}
+
+  /** Clears the collected attributes and makes this builder available for the next request. */
+  void release() {
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    inUse = false;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void applyTo(SpanBuilder spanBuilder) {
+    for (int i = 0; i < size; i++) {
+      spanBuilder.setAttribute((AttributeKey) keys[i], values[i]);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void applyTo(Span span) {
+    for (int i = 0; i < size; i++) {
+      span.setAttribute((AttributeKey) keys[i], values[i]);
+    }
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Attributes build() {
+    if (size == 0) {
+      return Attributes.empty();
+    }
+    AttributesBuilder builder = Attributes.builder();
+    for (int i = 0; i < size; i++) {
+      builder.put((AttributeKey) keys[i], values[i]);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public <T> AttributesBuilder put(AttributeKey<Long> key, int value) {
+    return put(key, (long) value);
+  }
+
+  @Override
+  public <T> AttributesBuilder put(AttributeKey<T> key, T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public AttributesBuilder putAll(Attributes attributes) {
+    attributes.forEach((key, value) -> put((AttributeKey) key, value));
+    return this;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.trace.SpanContext;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A read-only view of a {@link SpanContext} as logging context data, containing the {@link
+ * LoggingContextConstants#TRACE_ID}, {@link LoggingContextConstants#SPAN_ID} and {@link
+ * LoggingContextConstants#TRACE_FLAGS} entries. The values are only read from the span context when
+ * they're accessed, so creating the view costs a single allocation per log event no matter whether
+ * the layout prints them or not.
+ */
+public final class SpanContextMap extends AbstractMap<String, String> {
+
+  private static final String[] KEYS = {TRACE_ID, SPAN_ID, TRACE_FLAGS};
+
+  private final SpanContext spanContext;
+  private Set<Entry<String, String>> entrySet;
+
+  /** Returns a view of the passed {@code spanContext}, which must be valid. */
+  public static Map<String, String> create(SpanContext spanContext) {
+    return new SpanContextMap(spanContext);
+  }
+
+  private SpanContextMap(SpanContext spanContext) {
+    this.spanContext = spanContext;
+  }
+
+  @Override
+  public int size() {
+    return KEYS.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return TRACE_ID.equals(key) || SPAN_ID.equals(key) || TRACE_FLAGS.equals(key);
+  }
+
+  @Override
+  public String get(Object key) {
+    if (TRACE_ID.equals(key)) {
+      return spanContext.getTraceId();
+    }
+    if (SPAN_ID.equals(key)) {
+      return spanContext.getSpanId();
+    }
+    if (TRACE_FLAGS.equals(key)) {
+      return spanContext.getTraceFlags().asHex();
+    }
+    return null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super String> action) {
+    for (String key : KEYS) {
+      action.accept(key, get(key));
+    }
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, String>> {
+    @Override
+    public int size() {
+      return KEYS.length;
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+      return new EntryIterator();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, String>> {
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return index < KEYS.length;
+    }
+
+    @Override
+    public Entry<String, String> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      String key = KEYS[index++];
+      return new SimpleImmutableEntry<>(key, get(key));
+    }
+  }
+}
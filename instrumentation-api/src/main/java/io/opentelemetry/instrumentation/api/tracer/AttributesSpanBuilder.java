@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.tracer;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link SpanBuilder} which only collects the attributes that are set on it, so that the same
+ * span hooks can be used to compute attributes ahead of time. It never starts a real span.
+ */
+final class AttributesSpanBuilder implements SpanBuilder {
+  private final AttributesBuilder attributes = Attributes.builder();
+
+  Attributes getAttributes() {
+    return attributes.build();
+  }
+
+  @Override
+  public SpanBuilder setAttribute(String key, String value) {
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setAttribute(String key, long value) {
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setAttribute(String key, double value) {
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setAttribute(String key, boolean value) {
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public <T> SpanBuilder setAttribute(AttributeKey<T> key, T value) {
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setParent(Context context) {
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setNoParent() {
+    return this;
+  }
+
+  @Override
+  public SpanBuilder addLink(SpanContext spanContext) {
+    return this;
+  }
+
+  @Override
+  public SpanBuilder addLink(SpanContext spanContext, Attributes attributes) {
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setSpanKind(SpanKind spanKind) {
+    return this;
+  }
+
+  @Override
+  public SpanBuilder setStartTimestamp(long startTimestamp, TimeUnit unit) {
+    return this;
+  }
+
+  @Override
+  public Span startSpan() {
+    return Span.getInvalid();
+  }
+}
@@ -23,7 +23,9 @@ import io.opentelemetry.instrumentation.api.context.ContextPropagationDebug;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -52,6 +54,16 @@ public abstract class BaseTracer {
   private static final SupportabilityMetrics supportability =
       new SupportabilityMetrics(Config.get()).start();
 
+  // method span names only depend on the class and the method name, so they're computed once per
+  // class and method name instead of on every traced call
+  private static final ClassValue<Map<String, String>> methodSpanNames =
+      new ClassValue<Map<String, String>>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   private final Tracer tracer;
   private final ContextPropagators propagators;
 
@@ -201,7 +213,13 @@ public abstract class BaseTracer {
    * reference. Anonymous classes are named based on their parent.
    */
   public static String spanNameForMethod(Class<?> cl, String methodName) {
-    return spanNameForClass(cl) + "." + methodName;
+    Map<String, String> spanNames = methodSpanNames.get(cl);
+    String spanName = spanNames.get(methodName);
+    if (spanName == null) {
+      spanName = spanNameForClass(cl) + "." + methodName;
+      spanNames.put(methodName, spanName);
+    }
+    return spanName;
   }
 
   /**
@@ -272,6 +290,10 @@ public abstract class BaseTracer {
    */
   public void onException(Context context, Throwable throwable) {
     Span span = Span.fromContext(context);
+    if (!span.isRecording()) {
+      // neither the status nor the exception would be recorded, don't bother unwrapping it
+      return;
+    }
     span.setStatus(StatusCode.ERROR);
     span.recordException(unwrapThrowable(throwable));
   }
@@ -8,11 +8,13 @@ package io.opentelemetry.instrumentation.api.tracer;
 import static io.opentelemetry.api.trace.SpanKind.CLIENT;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -42,19 +44,51 @@ public abstract class DatabaseClientTracer<CONNECTION, STATEMENT, SANITIZEDSTATE
   }
 
   public Context startSpan(Context parentContext, CONNECTION connection, STATEMENT statement) {
+    return startSpan(parentContext, connection, statement, -1);
+  }
+
+  /**
+   * Starts a span for the passed {@code statement}.
+   *
+   * @param startTimeNanos Explicit nanoseconds timestamp from the epoch.
+   */
+  public Context startSpan(
+      Context parentContext, CONNECTION connection, STATEMENT statement, long startTimeNanos) {
     SANITIZEDSTATEMENT sanitizedStatement = sanitizeStatement(statement);
 
     SpanBuilder span =
-        spanBuilder(parentContext, spanName(connection, statement, sanitizedStatement), CLIENT)
-            .setAttribute(SemanticAttributes.DB_SYSTEM, dbSystem(connection));
+        spanBuilder(parentContext, spanName(connection, statement, sanitizedStatement), CLIENT);
+    if (startTimeNanos > 0) {
+      span.setStartTimestamp(startTimeNanos, TimeUnit.NANOSECONDS);
+    }
+    onStart(span, connection, statement, sanitizedStatement);
 
+    return withClientSpan(parentContext, span.startSpan());
+  }
+
+  /**
+   * Returns the attributes that {@link #startSpan(Context, Object, Object)} sets on the span of
+   * the passed {@code statement}, so that they can be computed once for a statement that is
+   * executed many times.
+   */
+  protected Attributes spanAttributes(
+      CONNECTION connection, STATEMENT statement, SANITIZEDSTATEMENT sanitizedStatement) {
+    AttributesSpanBuilder span = new AttributesSpanBuilder();
+    onStart(span, connection, statement, sanitizedStatement);
+    return span.getAttributes();
+  }
+
+  private void onStart(
+      SpanBuilder span,
+      CONNECTION connection,
+      STATEMENT statement,
+      SANITIZEDSTATEMENT sanitizedStatement) {
+    span.setAttribute(SemanticAttributes.DB_SYSTEM, dbSystem(connection));
     if (connection != null) {
       onConnection(span, connection);
       setNetSemanticConvention(span, connection);
     }
     onStatement(span, connection, statement, sanitizedStatement);
-
-    return withClientSpan(parentContext, span.startSpan());
   }
 
   protected abstract SANITIZEDSTATEMENT sanitizeStatement(STATEMENT statement);
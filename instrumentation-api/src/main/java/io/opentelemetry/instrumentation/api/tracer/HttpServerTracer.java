@@ -10,8 +10,10 @@ import static io.opentelemetry.api.trace.SpanKind.SERVER;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +40,13 @@ public abstract class HttpServerTracer<REQUEST, RESPONSE, CONNECTION, STORAGE> e
 
   protected static final String USER_AGENT = "User-Agent";
 
+  // only safe with a sampler that respects the sampling decision of a remote parent, e.g. the
+  // default parent-based one
+  private static final boolean SKIP_UNSAMPLED_ATTRIBUTES =
+      Config.get()
+          .getBooleanProperty(
+              "otel.instrumentation.common.experimental.skip-unsampled-attributes", false);
+
   public HttpServerTracer() {
     super();
   }
@@ -76,9 +85,11 @@ public abstract class HttpServerTracer<REQUEST, RESPONSE, CONNECTION, STORAGE> e
       spanBuilder.setStartTimestamp(startTimestamp, TimeUnit.NANOSECONDS);
     }
 
-    onConnection(spanBuilder, connection);
-    onRequest(spanBuilder, request);
-    onConnectionAndRequest(spanBuilder, connection, request);
+    if (!SKIP_UNSAMPLED_ATTRIBUTES || !isUnsampledRemoteParent(parentContext)) {
+      onConnection(spanBuilder, connection);
+      onRequest(spanBuilder, request);
+      onConnectionAndRequest(spanBuilder, connection, request);
+    }
 
     Context context = withServerSpan(parentContext, spanBuilder.startSpan());
     context = customizeContext(context, request);
@@ -87,6 +98,11 @@ public abstract class HttpServerTracer<REQUEST, RESPONSE, CONNECTION, STORAGE> e
     return context;
   }
 
+  private static boolean isUnsampledRemoteParent(Context parentContext) {
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    return parentSpanContext.isValid() && !parentSpanContext.isSampled();
+  }
+
   /** Override in subclass to customize context that is returned by {@code startSpan}. */
   protected Context customizeContext(Context context, REQUEST request) {
     return context;
@@ -104,7 +120,9 @@ public abstract class HttpServerTracer<REQUEST, RESPONSE, CONNECTION, STORAGE> e
   // TODO should end methods remove SPAN attribute from request as well?
   public void end(Context context, RESPONSE response, long timestamp) {
     Span span = Span.fromContext(context);
-    setStatus(span, responseStatus(response));
+    if (span.isRecording()) {
+      setStatus(span, responseStatus(response));
+    }
     end(context, timestamp);
   }
 
@@ -131,12 +149,14 @@ public abstract class HttpServerTracer<REQUEST, RESPONSE, CONNECTION, STORAGE> e
    */
   public void endExceptionally(
       Context context, Throwable throwable, RESPONSE response, long timestamp) {
-    onException(context, throwable);
     Span span = Span.fromContext(context);
-    if (response == null) {
-      setStatus(span, 500);
-    } else {
-      setStatus(span, responseStatus(response));
+    if (span.isRecording()) {
+      onException(context, throwable);
+      if (response == null) {
+        setStatus(span, 500);
+      } else {
+        setStatus(span, responseStatus(response));
+      }
     }
     end(context, timestamp);
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db
+
+import io.opentelemetry.instrumentation.api.tracer.AttributeSetter
+import spock.lang.Specification
+
+class RedisCommandBatchTest extends Specification {
+
+  def "should summarize commands"() {
+    given:
+    def batch = new RedisCommandBatch()
+    def attributes = [:]
+
+    when:
+    batch.add("SET", 6)
+    batch.add("GET", 3)
+    batch.add("SET", 10)
+    batch.setAttributes({ key, value -> attributes.put(key, value) } as AttributeSetter)
+
+    then:
+    batch.commandCount == 3
+    attributes == [
+      (RedisCommandBatch.COMMAND_COUNT) : 3L,
+      (RedisCommandBatch.COMMAND_COUNTS): "SET=2,GET=1",
+      (RedisCommandBatch.ARGUMENT_BYTES): 19L
+    ]
+  }
+
+  def "should not record the argument size of commands added without it"() {
+    given:
+    def batch = new RedisCommandBatch()
+    def attributes = [:]
+
+    when:
+    batch.add("SET")
+    batch.add("GET")
+    batch.setAttributes({ key, value -> attributes.put(key, value) } as AttributeSetter)
+
+    then:
+    attributes == [
+      (RedisCommandBatch.COMMAND_COUNT) : 2L,
+      (RedisCommandBatch.COMMAND_COUNTS): "SET=1,GET=1"
+    ]
+  }
+
+  def "should be disabled by default"() {
+    expect:
+    !RedisCommandBatch.isEnabled()
+  }
+}
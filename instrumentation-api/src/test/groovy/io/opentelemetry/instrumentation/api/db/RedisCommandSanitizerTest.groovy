@@ -145,4 +145,48 @@ class RedisCommandSanitizerTest extends Specification {
     then:
     sanitized == "NEWAUTH ? ?"
   }
+
+  def "should not read masked arguments"() {
+    given:
+    def read = []
+    def args = new RedisCommandSanitizer.ArgumentIterator() {
+      def values = ["hash", "key1", "value1", "key2", "value2"].iterator()
+
+      @Override
+      boolean hasNext() {
+        return values.hasNext()
+      }
+
+      @Override
+      String next() {
+        def value = values.next()
+        read.add(value)
+        return value
+      }
+
+      @Override
+      void skip() {
+        values.next()
+      }
+    }
+
+    when:
+    def sanitized = RedisCommandSanitizer.sanitize("HMSET", args)
+
+    then:
+    sanitized == "HMSET hash key1 ? key2 ?"
+    read == ["hash", "key1", "key2"]
+  }
+
+  def "should truncate long statements"() {
+    given:
+    def args = (1..100_000).collect { ["key$it".toString(), "value"] }.flatten()
+
+    when:
+    def sanitized = RedisCommandSanitizer.sanitize("MSET", args)
+
+    then:
+    sanitized.length() == RedisCommandSanitizer.MAX_STATEMENT_LENGTH
+    sanitized.startsWith("MSET key1 ? key2 ?")
+  }
 }
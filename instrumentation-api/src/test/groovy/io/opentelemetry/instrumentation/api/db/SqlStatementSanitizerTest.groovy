@@ -103,7 +103,7 @@ class SqlStatementSanitizerTest extends Specification {
     'select col from table1, table2'                                  | SqlStatementInfo.create(sql, 'SELECT', null)
     'select col from table1 t1, table2 t2'                            | SqlStatementInfo.create(sql, 'SELECT', null)
     'select col from table1 as t1, table2 as t2'                      | SqlStatementInfo.create(sql, 'SELECT', null)
-    'select col from table where col in (1, 2, 3)'                    | SqlStatementInfo.create('select col from table where col in (?, ?, ?)', 'SELECT', 'table')
+    'select col from table where col in (1, 2, 3)'                    | SqlStatementInfo.create('select col from table where col in (?)', 'SELECT', 'table')
     'select col from table order by col, col2'                        | SqlStatementInfo.create(sql, 'SELECT', 'table')
     'select ąś∂ń© from źćļńĶ order by col, col2'                      | SqlStatementInfo.create(sql, 'SELECT', 'źćļńĶ')
     'select 12345678'                                                 | SqlStatementInfo.create('select ?', 'SELECT', null)
@@ -132,6 +132,49 @@ class SqlStatementSanitizerTest extends Specification {
     null                                                              | SqlStatementInfo.create(sql, null, null)
   }
 
+  def "collapses lists in #sql"() {
+    expect:
+    SqlStatementSanitizer.sanitize(sql).getFullStatement() == expected
+    AutoSqlSanitizer.sanitize(sql).getFullStatement() == expected
+
+    where:
+    sql                                                                 | expected
+    // IN lists
+    "SELECT * FROM t WHERE id IN (1, 2, 3)"                             | "SELECT * FROM t WHERE id IN (?)"
+    "SELECT * FROM t WHERE id IN (?, ?, ?, ?)"                          | "SELECT * FROM t WHERE id IN (?)"
+    "SELECT * FROM t WHERE id in(?,?) AND name IN ('a', 'b')"           | "SELECT * FROM t WHERE id in(?) AND name IN (?)"
+    "SELECT * FROM t WHERE (a, b) IN ((1, 2), (3, 4))"                  | "SELECT * FROM t WHERE (a, b) IN ((?, ?), (?, ?))"
+    "SELECT * FROM t WHERE id IN (SELECT id FROM t2 WHERE x = 1)"       | "SELECT * FROM t WHERE id IN (SELECT id FROM t2 WHERE x = ?)"
+    "SELECT * FROM t WHERE id IN (?, ?) /* IN (1, 2) */"                | "SELECT * FROM t WHERE id IN (?) /* IN (?, ?) */"
+    "SELECT f(1, 2) FROM t WHERE id IN (1)"                             | "SELECT f(?, ?) FROM t WHERE id IN (?)"
+    "SELECT * FROM t WHERE id IN ( 1 , 2 )"                             | "SELECT * FROM t WHERE id IN (?)"
+    // IN lists that don't only contain plain values are left as they are
+    "SELECT * FROM t WHERE id IN (1, 2, x)"                             | "SELECT * FROM t WHERE id IN (?, ?, x)"
+    "SELECT * FROM t WHERE id IN (x, 1, 2)"                             | "SELECT * FROM t WHERE id IN (x, ?, ?)"
+    "SELECT * FROM t WHERE id IN (?,?, f(1)) AND x IN (1, 2)"           | "SELECT * FROM t WHERE id IN (?,?, f(?)) AND x IN (?)"
+    "SELECT * FROM t WHERE id IN (1, 2, (3))"                           | "SELECT * FROM t WHERE id IN (?, ?, (?))"
+    "SELECT * FROM t WHERE id IN (1 , 2 ,x)"                            | "SELECT * FROM t WHERE id IN (? , ? ,x)"
+    // VALUES tuples
+    "INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y'), (3, 'z')"          | "INSERT INTO t (a, b) VALUES (?, ?)"
+    "INSERT INTO t (a, b) VALUES (?, ?),(?, ?) ON CONFLICT DO NOTHING"  | "INSERT INTO t (a, b) VALUES (?, ?) ON CONFLICT DO NOTHING"
+    "INSERT INTO t VALUES (f(1, 2), 3), (f(4, 5), 6)"                   | "INSERT INTO t VALUES (f(?, ?), ?)"
+    "INSERT INTO t VALUES (1, 2)"                                       | "INSERT INTO t VALUES (?, ?)"
+    "INSERT INTO t VALUES (1),(2);"                                     | "INSERT INTO t VALUES (?);"
+    "INSERT INTO t VALUES (1) , (2) ON CONFLICT DO NOTHING"             | "INSERT INTO t VALUES (?) ON CONFLICT DO NOTHING"
+  }
+
+  def "statements differing only in list lengths are sanitized to the same statement"() {
+    expect:
+    SqlStatementSanitizer.sanitize(sql) == SqlStatementSanitizer.sanitize(other)
+
+    where:
+    sql                                                        | other
+    "SELECT * FROM t WHERE id IN (1, 2, 3)"                    | "SELECT * FROM t WHERE id IN (4)"
+    "SELECT * FROM t WHERE id IN ( ?,? ) AND s IN ('a', 'b')"  | "SELECT * FROM t WHERE id IN ( ? ) AND s IN ('c')"
+    "INSERT INTO t VALUES (?, ?), (?, ?), (?, ?)"              | "INSERT INTO t VALUES (?, ?)"
+    "INSERT INTO t VALUES ('(', ?), (')', ?);"                 | "INSERT INTO t VALUES (1, 2);"
+  }
+
   def "very long SELECT statements don't cause problems"() {
     given:
     def sb = new StringBuilder("SELECT * FROM table WHERE")
@@ -145,6 +188,27 @@ class SqlStatementSanitizerTest extends Specification {
     SqlStatementSanitizer.sanitize(query) == SqlStatementInfo.create(sanitizedQuery, "SELECT", "table")
   }
 
+  def "summary only extracts operation and table of #sql"() {
+    expect:
+    AutoSqlSanitizer.sanitize(sql, true) == expected
+
+    where:
+    sql                                                    | expected
+    "SELECT * FROM table WHERE id IN (1, 2, 3)"            | SqlStatementInfo.create(null, "SELECT", "table")
+    "INSERT INTO table (a, b) VALUES ('x', 'y')"           | SqlStatementInfo.create(null, "INSERT", "table")
+    "UPDATE table SET a = 1"                               | SqlStatementInfo.create(null, "UPDATE", "table")
+    "SELECT * FROM a JOIN b ON a.id = b.id"                | SqlStatementInfo.create(null, "SELECT", null)
+    "and now for something completely different"           | SqlStatementInfo.create(null, null, null)
+  }
+
+  def "sanitizes CharSequence without converting it to String"() {
+    setup:
+    def sb = new StringBuilder("SELECT * FROM table WHERE id = 123")
+
+    expect:
+    AutoSqlSanitizer.sanitize(sb) == SqlStatementInfo.create("SELECT * FROM table WHERE id = ?", "SELECT", "table")
+  }
+
   def "lots and lots of ticks don't cause stack overflow or long runtimes"() {
     setup:
     String s = "'"
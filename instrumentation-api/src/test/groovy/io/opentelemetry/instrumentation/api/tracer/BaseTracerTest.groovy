@@ -59,6 +59,22 @@ class BaseTracerTest extends Specification {
     SpanKind.CLIENT   | tracer.withServerSpan(root, existingSpan) | true
   }
 
+  def "test spanNameForMethod"() {
+    when:
+    def spanName = BaseTracer.spanNameForMethod(clazz, methodName)
+
+    then:
+    spanName == expected
+    // span names are cached, the same instance is returned on subsequent calls
+    BaseTracer.spanNameForMethod(clazz, methodName).is(spanName)
+
+    where:
+    clazz           | methodName | expected
+    SomeInnerClass  | "run"      | "SomeInnerClass.run"
+    SomeNestedClass | "run"      | "SomeNestedClass.run"
+    SomeNestedClass | "call"     | "SomeNestedClass.call"
+  }
+
 
   class SomeInnerClass implements Runnable {
     void run() {
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.tracer
+
+import io.opentelemetry.api.common.Attributes
+import io.opentelemetry.api.trace.SpanBuilder
+import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import spock.lang.Specification
+
+class DatabaseClientTracerTest extends Specification {
+
+  def "span attributes are the ones set by the span hooks"() {
+    setup:
+    def tracer = new TestTracer()
+
+    expect:
+    tracer.spanAttributes("connection", "SELECT 1", "SELECT ?") == Attributes.builder()
+      .put(SemanticAttributes.DB_SYSTEM, "testdb")
+      .put(SemanticAttributes.DB_USER, "user")
+      .put(SemanticAttributes.DB_STATEMENT, "SELECT ?")
+      .put(SemanticAttributes.DB_OPERATION, "SELECT")
+      .put(SemanticAttributes.DB_SQL_TABLE, "overridden")
+      .build()
+  }
+
+  def "span attributes without a connection"() {
+    setup:
+    def tracer = new TestTracer()
+
+    expect:
+    tracer.spanAttributes(null, "SELECT 1", "SELECT ?") == Attributes.builder()
+      .put(SemanticAttributes.DB_SYSTEM, "testdb")
+      .put(SemanticAttributes.DB_STATEMENT, "SELECT ?")
+      .put(SemanticAttributes.DB_OPERATION, "SELECT")
+      .put(SemanticAttributes.DB_SQL_TABLE, "overridden")
+      .build()
+  }
+
+  static class TestTracer extends DatabaseClientTracer<String, String, String> {
+    TestTracer() {
+      super(NetPeerAttributes.INSTANCE)
+    }
+
+    @Override
+    protected String sanitizeStatement(String statement) {
+      return statement
+    }
+
+    @Override
+    protected String dbSystem(String connection) {
+      return "testdb"
+    }
+
+    @Override
+    protected String dbUser(String connection) {
+      return "user"
+    }
+
+    @Override
+    protected InetSocketAddress peerAddress(String connection) {
+      return null
+    }
+
+    @Override
+    protected String dbStatement(String connection, String statement, String sanitizedStatement) {
+      return sanitizedStatement
+    }
+
+    @Override
+    protected String dbOperation(String connection, String statement, String sanitizedStatement) {
+      return "SELECT"
+    }
+
+    @Override
+    protected void onStatement(SpanBuilder span, String connection, String statement, String sanitizedStatement) {
+      super.onStatement(span, connection, statement, sanitizedStatement)
+      span.setAttribute(SemanticAttributes.DB_SQL_TABLE, "overridden")
+    }
+
+    @Override
+    protected String getInstrumentationName() {
+      return "test"
+    }
+  }
+}
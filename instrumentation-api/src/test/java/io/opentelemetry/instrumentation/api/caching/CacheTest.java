@@ -8,6 +8,16 @@ package io.opentelemetry.instrumentation.api.caching;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +67,62 @@ class CacheTest {
       assertThat(caffeineCache.keySet()).hasSize(1);
       assertThat(cache.computeIfAbsent("cat", unused -> "purr")).isEqualTo("purr");
     }
+
+    @Test
+    void weighted() {
+      Cache<String, String> cache =
+          Cache.newBuilder()
+              .setMaximumWeight(10, (String key, String value) -> key.length() + value.length())
+              .build();
+
+      CaffeineCache<?, ?> caffeineCache = ((CaffeineCache<?, ?>) cache);
+      assertThat(cache.computeIfAbsent("cat", unused -> "meow")).isEqualTo("meow");
+      caffeineCache.cleanup();
+      assertThat(caffeineCache.keySet()).hasSize(1);
+
+      // too heavy to keep both entries
+      cache.put("dog", "bark");
+      caffeineCache.cleanup();
+      assertThat(caffeineCache.keySet()).hasSize(1);
+
+      // too heavy to be kept at all
+      cache.put("elephant", "trumpet");
+      caffeineCache.cleanup();
+      assertThat(cache.get("elephant")).isNull();
+    }
+
+    @Test
+    void expireAfterAccess() throws Exception {
+      Cache<String, String> cache =
+          Cache.newBuilder().setExpireAfterAccess(Duration.ofMillis(1)).build();
+
+      CaffeineCache<?, ?> caffeineCache = ((CaffeineCache<?, ?>) cache);
+      assertThat(cache.computeIfAbsent("cat", unused -> "meow")).isEqualTo("meow");
+      assertThat(caffeineCache.keySet()).hasSize(1);
+
+      Thread.sleep(10);
+      caffeineCache.cleanup();
+      assertThat(caffeineCache.keySet()).isEmpty();
+      assertThat(cache.get("cat")).isNull();
+    }
+
+    @Test
+    void recordStats() {
+      Cache<String, String> cache =
+          Cache.newBuilder().setMaximumSize(1).setRecordStats("CacheTest.recordStats").build();
+
+      assertThat(cache.get("cat")).isNull();
+      assertThat(cache.computeIfAbsent("cat", unused -> "meow")).isEqualTo("meow");
+      assertThat(cache.get("cat")).isEqualTo("meow");
+      assertThat(cache.computeIfAbsent("cat", unused -> "purr")).isEqualTo("meow");
+      cache.put("dog", "bark");
+      ((CaffeineCache<?, ?>) cache).cleanup();
+
+      CacheStats stats = CacheStats.snapshot().get("CacheTest.recordStats");
+      assertThat(stats.hitCount()).isEqualTo(2);
+      assertThat(stats.missCount()).isEqualTo(2);
+      assertThat(stats.evictionCount()).isEqualTo(1);
+    }
   }
 
   @Nested
@@ -95,6 +161,184 @@ class CacheTest {
       await().untilAsserted(() -> assertThat(weakLockFreeCache.size()).isEqualTo(0));
     }
 
+    @Test
+    void computeIfAbsentConcurrently() throws Exception {
+      Cache<Object, Object> cache = Cache.newBuilder().setWeakKeys().build();
+      Object[] keys = new Object[100];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = new Object();
+      }
+      AtomicInteger computations = new AtomicInteger();
+
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    for (Object key : keys) {
+                      cache.computeIfAbsent(
+                          key,
+                          unused -> {
+                            computations.incrementAndGet();
+                            return new Object();
+                          });
+                    }
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+
+      assertThat(computations.get()).isEqualTo(keys.length);
+    }
+
+    @Test
+    void nestedComputeIfAbsentConcurrently() throws Exception {
+      Cache<Object, Object> cache = Cache.newBuilder().setWeakKeys().build();
+      Object[] keys = new Object[100];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = new Object();
+      }
+      // computing the value of a key computes the value of the next key first, which must not wait
+      // for threads computing the values of unrelated keys
+      Function<Object, Object> mappingFunction =
+          new Function<Object, Object>() {
+            @Override
+            public Object apply(Object key) {
+              // let other threads start computing the following keys in the meantime
+              Thread.yield();
+              for (int i = 0; i < keys.length - 1; i++) {
+                if (keys[i] == key) {
+                  cache.computeIfAbsent(keys[i + 1], this);
+                }
+              }
+              return new Object();
+            }
+          };
+
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+          int offset = thread * keys.length / 8;
+          futures.add(
+              executor.submit(
+                  () -> {
+                    for (int i = 0; i < keys.length; i++) {
+                      cache.computeIfAbsent(keys[(offset + i) % keys.length], mappingFunction);
+                    }
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get(10, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      for (Object key : keys) {
+        assertThat(cache.get(key)).isNotNull();
+      }
+    }
+
+    @Test
+    void crossKeyNestedComputeIfAbsent() throws Exception {
+      Cache<Object, Object> cache = Cache.newBuilder().setWeakKeys().build();
+      Object first = new Object();
+      Object second = new Object();
+      // both threads are computing the value of their key before they need the other one
+      CountDownLatch computing = new CountDownLatch(2);
+      Function<Object, Object> mappingFunction =
+          new Function<Object, Object>() {
+            @Override
+            public Object apply(Object key) {
+              computing.countDown();
+              try {
+                computing.await();
+              } catch (InterruptedException e) {
+                throw new AssertionError(e);
+              }
+              Object other = key == first ? second : first;
+              return "depends on " + cache.computeIfAbsent(other, unused -> "leaf");
+            }
+          };
+
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        Future<Object> firstValue =
+            executor.submit(() -> cache.computeIfAbsent(first, mappingFunction));
+        Future<Object> secondValue =
+            executor.submit(() -> cache.computeIfAbsent(second, mappingFunction));
+
+        assertThat(firstValue.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(secondValue.get(10, TimeUnit.SECONDS)).isNotNull();
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(cache.get(first)).isNotNull();
+      assertThat(cache.get(second)).isNotNull();
+    }
+
+    @Test
+    void interruptedWhileWaitingForComputation() throws Exception {
+      Cache<Object, Object> cache = Cache.newBuilder().setWeakKeys().build();
+      Object key = new Object();
+      CountDownLatch computing = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        Future<Object> slowValue =
+            executor.submit(
+                () ->
+                    cache.computeIfAbsent(
+                        key,
+                        unused -> {
+                          computing.countDown();
+                          try {
+                            release.await();
+                          } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                          }
+                          return "slow";
+                        }));
+        computing.await();
+
+        Future<Boolean> interrupted =
+            executor.submit(
+                () -> {
+                  Thread.currentThread().interrupt();
+                  Object value = cache.computeIfAbsent(key, unused -> "interrupted");
+                  return value != null && Thread.interrupted();
+                });
+
+        // the interrupted thread doesn't wait for the slow computation
+        assertThat(interrupted.get(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        assertThat(slowValue.get(10, TimeUnit.SECONDS)).isEqualTo("interrupted");
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void recursiveComputeIfAbsent() {
+      Cache<Object, Object> cache = Cache.newBuilder().setWeakKeys().build();
+      Object key = new Object();
+
+      Object value =
+          cache.computeIfAbsent(key, unused -> cache.computeIfAbsent(key, unused2 -> "inner"));
+
+      assertThat(value).isEqualTo("inner");
+      assertThat(cache.get(key)).isEqualTo("inner");
+    }
+
     @Test
     void bounded() throws Exception {
       Cache<String, String> cache = Cache.newBuilder().setWeakKeys().setMaximumSize(1).build();
@@ -130,4 +374,42 @@ class CacheTest {
               });
     }
   }
+
+  // The shaded Caffeine is minimized, so every combination of options needs its generated classes
+  // to be kept by CacheImplementations.
+  @Test
+  void allOptionCombinations() {
+    for (boolean weakKeys : new boolean[] {false, true}) {
+      for (String maximum : new String[] {"none", "size", "weight"}) {
+        for (boolean expireAfterAccess : new boolean[] {false, true}) {
+          for (boolean recordStats : new boolean[] {false, true}) {
+            CacheBuilder builder = Cache.newBuilder();
+            if (weakKeys) {
+              builder.setWeakKeys();
+            }
+            if (maximum.equals("size")) {
+              builder.setMaximumSize(10);
+            } else if (maximum.equals("weight")) {
+              builder.setMaximumWeight(10, (String key, String value) -> 1);
+            }
+            if (expireAfterAccess) {
+              builder.setExpireAfterAccess(Duration.ofMinutes(1));
+            }
+            if (recordStats) {
+              builder.setRecordStats("CacheTest.allOptionCombinations");
+            }
+
+            Cache<String, String> cache = builder.build();
+            String cat = "cat";
+            cache.put(cat, "meow");
+            assertThat(cache.get(cat))
+                .as(
+                    "weakKeys=%s, maximum=%s, expireAfterAccess=%s, recordStats=%s",
+                    weakKeys, maximum, expireAfterAccess, recordStats)
+                .isEqualTo("meow");
+          }
+        }
+      }
+    }
+  }
 }
@@ -9,6 +9,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
 import static org.assertj.core.api.Assertions.entry;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
@@ -18,6 +19,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
 import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
@@ -26,6 +28,8 @@ import io.opentelemetry.sdk.trace.data.StatusData;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -144,6 +148,160 @@ class InstrumenterTest {
                                             attributeEntry("resp3", "resp3_value")))));
   }
 
+  @Test
+  void server_writeAttributesDirectly() {
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractors(new AttributesExtractor1(), new AttributesExtractor2())
+            .setWriteAttributesDirectly(true)
+            .newServerInstrumenter(MapGetter.INSTANCE);
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasKind(SpanKind.SERVER)
+                            .hasAttributesSatisfying(
+                                attributes ->
+                                    assertThat(attributes)
+                                        .containsOnly(
+                                            attributeEntry("req1", "req1_value"),
+                                            attributeEntry("req2", "req2_2_value"),
+                                            attributeEntry("req3", "req3_value"),
+                                            attributeEntry("resp1", "resp1_value"),
+                                            attributeEntry("resp2", "resp2_2_value"),
+                                            attributeEntry("resp3", "resp3_value")))));
+  }
+
+  @Test
+  void requestListeners() {
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+    AtomicReference<Context> endContext = new AtomicReference<>();
+    ContextKey<String> listenerKey = ContextKey.named("listener");
+    RequestListener requestListener =
+        new RequestListener() {
+          @Override
+          public Context start(Context context, Attributes attributes) {
+            startAttributes.set(attributes);
+            return context.with(listenerKey, "started");
+          }
+
+          @Override
+          public void end(Context context, Attributes attributes) {
+            endAttributes.set(attributes);
+            endContext.set(context);
+          }
+        };
+
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractors(new AttributesExtractor1(), new AttributesExtractor2())
+            .addRequestListener(requestListener)
+            .setWriteAttributesDirectly(true)
+            .newServerInstrumenter(MapGetter.INSTANCE);
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    assertThat(context.get(listenerKey)).isEqualTo("started");
+    assertThat(ServerSpan.fromContextOrNull(context)).isNotNull();
+    assertThat(startAttributes.get())
+        .containsOnly(
+            attributeEntry("req1", "req1_value"),
+            attributeEntry("req2", "req2_2_value"),
+            attributeEntry("req3", "req3_value"));
+
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+    assertThat(endContext.get()).isSameAs(context);
+    assertThat(endAttributes.get())
+        .containsOnly(
+            attributeEntry("resp1", "resp1_value"),
+            attributeEntry("resp2", "resp2_2_value"),
+            attributeEntry("resp3", "resp3_value"));
+  }
+
+  @Test
+  void samplingIndependentOfAttributes_notSampled() {
+    AtomicInteger extractorCalls = new AtomicInteger();
+    AttributesExtractor<Map<String, String>, Map<String, String>> countingExtractor =
+        new AttributesExtractor<Map<String, String>, Map<String, String>>() {
+          @Override
+          protected void onStart(AttributesBuilder attributes, Map<String, String> request) {
+            extractorCalls.incrementAndGet();
+          }
+
+          @Override
+          protected void onEnd(
+              AttributesBuilder attributes,
+              Map<String, String> request,
+              Map<String, String> response) {
+            extractorCalls.incrementAndGet();
+          }
+        };
+
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(countingExtractor)
+            .setSamplingIndependentOfAttributes(true)
+            .newInstrumenter();
+
+    Context parent =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        "ff01020304050600ff0a0b0c0d0e0f00",
+                        "090a0b0c0d0e0f00",
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+
+    Context context = instrumenter.start(parent, REQUEST);
+    assertThat(Span.fromContext(context).isRecording()).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, new IllegalStateException("test"));
+
+    assertThat(extractorCalls.get()).isZero();
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
+  @Test
+  void samplingIndependentOfAttributes_sampled() {
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractors(new AttributesExtractor1(), new AttributesExtractor2())
+            .setSamplingIndependentOfAttributes(true)
+            .newInstrumenter();
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasAttributesSatisfying(
+                                attributes ->
+                                    assertThat(attributes)
+                                        .containsOnly(
+                                            attributeEntry("req1", "req1_value"),
+                                            attributeEntry("req2", "req2_2_value"),
+                                            attributeEntry("req3", "req3_value"),
+                                            attributeEntry("resp1", "resp1_value"),
+                                            attributeEntry("resp2", "resp2_2_value"),
+                                            attributeEntry("resp3", "resp3_value")))));
+  }
+
   @Test
   void server_error() {
     Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
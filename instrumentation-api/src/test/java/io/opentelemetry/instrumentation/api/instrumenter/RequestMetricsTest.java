@@ -0,0 +1,199 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.common.Labels;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.testing.InMemoryMetricExporter;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RequestMetricsTest {
+
+  private static final Attributes REQUEST_ATTRIBUTES =
+      Attributes.builder()
+          .put(SemanticAttributes.HTTP_METHOD, "GET")
+          .put(SemanticAttributes.HTTP_HOST, "example.com")
+          .put(SemanticAttributes.HTTP_SCHEME, "https")
+          .put(SemanticAttributes.HTTP_TARGET, "/users/123")
+          .put(SemanticAttributes.NET_PEER_NAME, "peer")
+          .put(SemanticAttributes.NET_PEER_PORT, 8080L)
+          .build();
+
+  private static final Attributes RESPONSE_ATTRIBUTES =
+      Attributes.builder()
+          .put(SemanticAttributes.HTTP_STATUS_CODE, 200L)
+          .put(SemanticAttributes.HTTP_FLAVOR, "2.0")
+          .put(SemanticAttributes.HTTP_SERVER_NAME, "server")
+          .build();
+
+  private static final Attributes RPC_ATTRIBUTES =
+      Attributes.builder()
+          .put(SemanticAttributes.RPC_SYSTEM, "grpc")
+          .put(SemanticAttributes.RPC_SERVICE, "Greeter")
+          .put(SemanticAttributes.RPC_METHOD, "SayHello")
+          .put(SemanticAttributes.NET_PEER_NAME, "peer")
+          .put(SemanticAttributes.NET_PEER_PORT, 8080L)
+          .put(SemanticAttributes.NET_PEER_IP, "127.0.0.1")
+          .build();
+
+  private final SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+  private final InMemoryMetricExporter exporter = InMemoryMetricExporter.create();
+
+  @Test
+  void httpServer() {
+    RequestListener listener = HttpMetrics.server().create(meterProvider.get("test"));
+
+    Context context = listener.start(Context.root(), REQUEST_ATTRIBUTES);
+
+    Labels activeRequestsLabels =
+        Labels.of(
+            SemanticAttributes.HTTP_METHOD.getKey(), "GET",
+            SemanticAttributes.HTTP_HOST.getKey(), "example.com",
+            SemanticAttributes.HTTP_SCHEME.getKey(), "https");
+    assertActiveRequests(collect(), "http.server.active_requests", activeRequestsLabels, 1);
+
+    listener.end(context, RESPONSE_ATTRIBUTES);
+
+    List<MetricData> metrics = collect();
+    assertActiveRequests(metrics, "http.server.active_requests", activeRequestsLabels, 0);
+    assertDuration(
+        metrics,
+        "http.server.duration",
+        Labels.builder()
+            .put(SemanticAttributes.HTTP_METHOD.getKey(), "GET")
+            .put(SemanticAttributes.HTTP_HOST.getKey(), "example.com")
+            .put(SemanticAttributes.HTTP_SCHEME.getKey(), "https")
+            .put(SemanticAttributes.HTTP_STATUS_CODE.getKey(), "200")
+            .put(SemanticAttributes.HTTP_FLAVOR.getKey(), "2.0")
+            .put(SemanticAttributes.HTTP_SERVER_NAME.getKey(), "server")
+            .build());
+  }
+
+  @Test
+  void httpClient() {
+    RequestListener listener = HttpMetrics.client().create(meterProvider.get("test"));
+
+    listener.end(listener.start(Context.root(), REQUEST_ATTRIBUTES), RESPONSE_ATTRIBUTES);
+
+    List<MetricData> metrics = collect();
+    assertActiveRequests(
+        metrics,
+        "http.client.active_requests",
+        Labels.of(
+            SemanticAttributes.HTTP_METHOD.getKey(), "GET",
+            SemanticAttributes.HTTP_HOST.getKey(), "example.com",
+            SemanticAttributes.HTTP_SCHEME.getKey(), "https"),
+        0);
+    assertDuration(
+        metrics,
+        "http.client.duration",
+        Labels.builder()
+            .put(SemanticAttributes.HTTP_METHOD.getKey(), "GET")
+            .put(SemanticAttributes.HTTP_STATUS_CODE.getKey(), "200")
+            .put(SemanticAttributes.HTTP_FLAVOR.getKey(), "2.0")
+            .put(SemanticAttributes.NET_PEER_NAME.getKey(), "peer")
+            .put(SemanticAttributes.NET_PEER_PORT.getKey(), "8080")
+            .build());
+  }
+
+  @Test
+  void rpcServer() {
+    RequestListener listener = RpcMetrics.server().create(meterProvider.get("test"));
+
+    Context context = listener.start(Context.root(), RPC_ATTRIBUTES);
+
+    Labels activeRequestsLabels =
+        Labels.of(
+            SemanticAttributes.RPC_SYSTEM.getKey(), "grpc",
+            SemanticAttributes.RPC_SERVICE.getKey(), "Greeter",
+            SemanticAttributes.RPC_METHOD.getKey(), "SayHello");
+    assertActiveRequests(collect(), "rpc.server.active_requests", activeRequestsLabels, 1);
+
+    listener.end(context, Attributes.empty());
+
+    List<MetricData> metrics = collect();
+    assertActiveRequests(metrics, "rpc.server.active_requests", activeRequestsLabels, 0);
+    assertDuration(
+        metrics,
+        "rpc.server.duration",
+        Labels.builder()
+            .put(SemanticAttributes.RPC_SYSTEM.getKey(), "grpc")
+            .put(SemanticAttributes.RPC_SERVICE.getKey(), "Greeter")
+            .put(SemanticAttributes.RPC_METHOD.getKey(), "SayHello")
+            .put(SemanticAttributes.NET_PEER_NAME.getKey(), "peer")
+            .put(SemanticAttributes.NET_PEER_PORT.getKey(), "8080")
+            .build());
+  }
+
+  @Test
+  void rpcClient() {
+    RequestListener listener = RpcMetrics.client().create(meterProvider.get("test"));
+
+    listener.end(listener.start(Context.root(), RPC_ATTRIBUTES), Attributes.empty());
+
+    List<MetricData> metrics = collect();
+    assertThat(metrics)
+        .extracting(MetricData::getName)
+        .containsExactlyInAnyOrder("rpc.client.duration", "rpc.client.active_requests");
+    assertDuration(
+        metrics,
+        "rpc.client.duration",
+        Labels.builder()
+            .put(SemanticAttributes.RPC_SYSTEM.getKey(), "grpc")
+            .put(SemanticAttributes.RPC_SERVICE.getKey(), "Greeter")
+            .put(SemanticAttributes.RPC_METHOD.getKey(), "SayHello")
+            .put(SemanticAttributes.NET_PEER_NAME.getKey(), "peer")
+            .put(SemanticAttributes.NET_PEER_PORT.getKey(), "8080")
+            .build());
+  }
+
+  private List<MetricData> collect() {
+    exporter.reset();
+    exporter.export(meterProvider.collectAllMetrics());
+    return exporter.getFinishedMetricItems();
+  }
+
+  private static void assertActiveRequests(
+      List<MetricData> metrics, String name, Labels labels, long value) {
+    MetricData activeRequests = find(metrics, name);
+    assertThat(activeRequests.getUnit()).isEqualTo("requests");
+    assertThat(activeRequests.getLongSumData().getPoints())
+        .hasSize(1)
+        .first()
+        .satisfies(
+            point -> {
+              assertThat(point.getLabels()).isEqualTo(labels);
+              assertThat(point.getValue()).isEqualTo(value);
+            });
+  }
+
+  private static void assertDuration(List<MetricData> metrics, String name, Labels labels) {
+    MetricData duration = find(metrics, name);
+    assertThat(duration.getUnit()).isEqualTo("ms");
+    assertThat(duration.getDoubleSummaryData().getPoints())
+        .hasSize(1)
+        .first()
+        .satisfies(
+            point -> {
+              assertThat(point.getLabels()).isEqualTo(labels);
+              assertThat(point.getCount()).isEqualTo(1);
+            });
+  }
+
+  private static MetricData find(List<MetricData> metrics, String name) {
+    return metrics.stream()
+        .filter(metric -> metric.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No metric named " + name + " in " + metrics));
+  }
+}
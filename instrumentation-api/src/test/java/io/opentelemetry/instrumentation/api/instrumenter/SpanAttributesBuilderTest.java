@@ -0,0 +1,115 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SpanAttributesBuilderTest {
+
+  @Mock private Span span;
+  @Mock private SpanBuilder spanBuilder;
+
+  @Test
+  void appliesToSpan() {
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    attributes.put("key", "value");
+    attributes.put(longKey("count"), 3);
+    attributes.put(stringKey("missing"), null);
+    attributes.putAll(Attributes.of(stringKey("other"), "value"));
+    attributes.applyTo(span);
+    attributes.release();
+
+    verify(span).setAttribute(stringKey("key"), "value");
+    verify(span).setAttribute(longKey("count"), 3L);
+    verify(span).setAttribute(stringKey("other"), "value");
+    verifyNoMoreInteractions(span);
+  }
+
+  @Test
+  void appliesToSpanBuilderInOrder() {
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    attributes.put("key", "first");
+    attributes.put("key", "second");
+    attributes.applyTo(spanBuilder);
+    attributes.release();
+
+    InOrder inOrder = inOrder(spanBuilder);
+    inOrder.verify(spanBuilder).setAttribute(stringKey("key"), "first");
+    inOrder.verify(spanBuilder).setAttribute(stringKey("key"), "second");
+    verifyNoMoreInteractions(spanBuilder);
+  }
+
+  @Test
+  void builds() {
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    assertThat(attributes.build()).isEqualTo(Attributes.empty());
+
+    attributes.put("key", "first");
+    attributes.put(longKey("count"), 3);
+    attributes.put("key", "second");
+    assertThat(attributes.build())
+        .isEqualTo(Attributes.of(stringKey("key"), "second", longKey("count"), 3L));
+    attributes.release();
+  }
+
+  @Test
+  void growsPastInitialCapacity() {
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    for (int i = 0; i < 100; i++) {
+      attributes.put(longKey("key" + i), i);
+    }
+
+    Attributes built = attributes.build();
+    attributes.release();
+
+    assertThat(built.size()).isEqualTo(100);
+    assertThat(built.get(longKey("key99"))).isEqualTo(99L);
+  }
+
+  @Test
+  void reusedOnceReleased() {
+    SpanAttributesBuilder attributes = SpanAttributesBuilder.acquire();
+    attributes.put("key", "value");
+    attributes.release();
+
+    assertThat(SpanAttributesBuilder.acquire()).isSameAs(attributes);
+    assertThat(attributes.build()).isEqualTo(Attributes.empty());
+    attributes.release();
+  }
+
+  @Test
+  void nestedExtraction() {
+    SpanAttributesBuilder outer = SpanAttributesBuilder.acquire();
+    SpanAttributesBuilder inner = SpanAttributesBuilder.acquire();
+    assertThat(inner).isNotSameAs(outer);
+
+    inner.put("inner", "value");
+    outer.put("outer", "value");
+    inner.applyTo(spanBuilder);
+    inner.release();
+    outer.applyTo(span);
+    outer.release();
+
+    verify(spanBuilder).setAttribute(stringKey("inner"), "value");
+    verify(span).setAttribute(stringKey("outer"), "value");
+    verifyNoMoreInteractions(span, spanBuilder);
+  }
+}
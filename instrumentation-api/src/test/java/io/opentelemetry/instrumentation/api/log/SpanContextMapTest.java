@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SpanContextMapTest {
+
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "ff01020304050600ff0a0b0c0d0e0f00",
+          "090a0b0c0d0e0f00",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void readsSpanContext() {
+    Map<String, String> map = SpanContextMap.create(SPAN_CONTEXT);
+
+    assertThat(map)
+        .hasSize(3)
+        .containsExactly(
+            entry(TRACE_ID, "ff01020304050600ff0a0b0c0d0e0f00"),
+            entry(SPAN_ID, "090a0b0c0d0e0f00"),
+            entry(TRACE_FLAGS, "01"))
+        .doesNotContainKey("other");
+    assertThat(map.get("other")).isNull();
+  }
+
+  @Test
+  void forEach() {
+    Map<String, String> copy = new LinkedHashMap<>();
+    SpanContextMap.create(SPAN_CONTEXT).forEach(copy::put);
+
+    assertThat(copy).containsExactlyEntriesOf(SpanContextMap.create(SPAN_CONTEXT));
+  }
+
+  @Test
+  void equalsCopy() {
+    Map<String, String> map = SpanContextMap.create(SPAN_CONTEXT);
+    Map<String, String> copy = new HashMap<>(map);
+
+    assertThat(map).isEqualTo(copy);
+    assertThat(copy).isEqualTo(map);
+    assertThat(map.hashCode()).isEqualTo(copy.hashCode());
+  }
+
+  @Test
+  void readOnly() {
+    Map<String, String> map = SpanContextMap.create(SPAN_CONTEXT);
+
+    assertThatThrownBy(() -> map.put("key", "value"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> map.remove(TRACE_ID))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(map::clear).isInstanceOf(UnsupportedOperationException.class);
+  }
+}
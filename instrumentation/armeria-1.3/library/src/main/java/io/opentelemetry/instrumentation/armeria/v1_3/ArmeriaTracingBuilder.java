@@ -11,6 +11,7 @@ import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.HttpMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
@@ -80,6 +81,9 @@ public final class ArmeriaTracingBuilder {
                     .addAttributesExtractor(netAttributesExtractor)
                     .addAttributesExtractors(additionalExtractors));
 
+    clientInstrumenterBuilder.addRequestMetrics(HttpMetrics.client());
+    serverInstrumenterBuilder.addRequestMetrics(HttpMetrics.server());
+
     return new ArmeriaTracing(
         clientInstrumenterBuilder.newClientInstrumenter(ClientRequestContextSetter.INSTANCE),
         serverInstrumenterBuilder.newServerInstrumenter(RequestContextGetter.INSTANCE));
@@ -12,7 +12,6 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 
-import com.couchbase.client.java.CouchbaseCluster;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
 import java.lang.reflect.Method;
@@ -49,7 +48,7 @@ public class CouchbaseBucketInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter
     public static int trackCallDepth() {
-      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseCluster.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseClientTracer.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -61,7 +60,7 @@ public class CouchbaseBucketInstrumentation implements TypeInstrumentation {
       if (callDepth > 0) {
         return;
       }
-      CallDepthThreadLocalMap.reset(CouchbaseCluster.class);
+      CallDepthThreadLocalMap.reset(CouchbaseClientTracer.CALL_DEPTH_KEY);
       result = Observable.create(CouchbaseOnSubscribe.create(result, bucket, method));
     }
   }
@@ -70,7 +69,7 @@ public class CouchbaseBucketInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter
     public static int trackCallDepth() {
-      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseCluster.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseClientTracer.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class)
@@ -83,7 +82,7 @@ public class CouchbaseBucketInstrumentation implements TypeInstrumentation {
       if (callDepth > 0) {
         return;
       }
-      CallDepthThreadLocalMap.reset(CouchbaseCluster.class);
+      CallDepthThreadLocalMap.reset(CouchbaseClientTracer.CALL_DEPTH_KEY);
 
       if (query != null) {
         // A query can be of many different types. We could track the creation of them and try to
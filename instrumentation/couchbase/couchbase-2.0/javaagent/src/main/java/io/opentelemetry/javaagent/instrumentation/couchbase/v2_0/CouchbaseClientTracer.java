@@ -5,13 +5,18 @@
 
 package io.opentelemetry.javaagent.instrumentation.couchbase.v2_0;
 
+import com.couchbase.client.java.CouchbaseCluster;
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 
 public class CouchbaseClientTracer extends DatabaseClientTracer<Void, Method, Void> {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(CouchbaseCluster.class);
+
   private static final CouchbaseClientTracer TRACER = new CouchbaseClientTracer();
 
   private CouchbaseClientTracer() {
@@ -13,7 +13,6 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 
-import com.couchbase.client.java.CouchbaseCluster;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
 import java.lang.reflect.Method;
@@ -44,7 +43,7 @@ public class CouchbaseClusterInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter
     public static int trackCallDepth() {
-      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseCluster.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(CouchbaseClientTracer.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -55,7 +54,7 @@ public class CouchbaseClusterInstrumentation implements TypeInstrumentation {
       if (callDepth > 0) {
         return;
       }
-      CallDepthThreadLocalMap.reset(CouchbaseCluster.class);
+      CallDepthThreadLocalMap.reset(CouchbaseClientTracer.CALL_DEPTH_KEY);
 
       result = Observable.create(CouchbaseOnSubscribe.create(result, null, method));
     }
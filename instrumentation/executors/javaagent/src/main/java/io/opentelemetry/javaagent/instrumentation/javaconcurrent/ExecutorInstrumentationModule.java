@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.javaconcurrent;
 import static java.util.Arrays.asList;
 
 import com.google.auto.service.AutoService;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.State;
 import io.opentelemetry.javaagent.tooling.InstrumentationModule;
 import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
@@ -32,7 +33,9 @@ public class ExecutorInstrumentationModule extends InstrumentationModule {
         new FutureInstrumentation(),
         new JavaExecutorInstrumentation(),
         new JavaForkJoinTaskInstrumentation(),
-        new RunnableInstrumentation());
+        new RunnableInstrumentation(),
+        new ThreadPoolExecutorInstrumentation(),
+        new VirtualThreadInstrumentation());
   }
 
   @Override
@@ -42,6 +45,7 @@ public class ExecutorInstrumentationModule extends InstrumentationModule {
     map.put(ForkJoinTask.class.getName(), State.class.getName());
     map.put(Future.class.getName(), State.class.getName());
     map.put(Runnable.class.getName(), State.class.getName());
+    map.put(Thread.class.getName(), Context.class.getName());
     return Collections.unmodifiableMap(map);
   }
 }
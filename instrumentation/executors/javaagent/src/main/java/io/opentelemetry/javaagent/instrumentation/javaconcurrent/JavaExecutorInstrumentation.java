@@ -73,8 +73,12 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static State enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
-      Runnable newTask = RunnableWrapper.wrapIfNeeded(task);
+      Runnable newTask =
+          ExecutorInstrumentationUtils.shouldTagLambdaTask(executor, task)
+              ? task
+              : RunnableWrapper.wrapIfNeeded(task);
       if (ExecutorInstrumentationUtils.shouldAttachStateToTask(newTask)) {
         task = newTask;
         ContextStore<Runnable, State> contextStore =
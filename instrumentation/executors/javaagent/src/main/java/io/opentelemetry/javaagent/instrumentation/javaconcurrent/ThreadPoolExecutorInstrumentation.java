@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.javaconcurrent;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.AdviceUtils;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ExecutorInstrumentationUtils;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.State;
+import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
+import java.util.HashMap;
+import java.util.Map;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Lambda tasks can't be instrumented, so they are normally wrapped when submitted. With lambda
+ * tagging enabled, lambdas submitted to a {@link java.util.concurrent.ThreadPoolExecutor} get state
+ * attached directly, and their context is made current around the execution hooks instead.
+ */
+public class ThreadPoolExecutorInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("java.util.concurrent.ThreadPoolExecutor");
+  }
+
+  @Override
+  public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+    Map<ElementMatcher<? super MethodDescription>, String> transformers = new HashMap<>();
+    transformers.put(
+        named("beforeExecute").and(takesArguments(2)).and(takesArgument(1, Runnable.class)),
+        ThreadPoolExecutorInstrumentation.class.getName() + "$BeforeExecuteAdvice");
+    transformers.put(
+        named("afterExecute").and(takesArguments(2)).and(takesArgument(0, Runnable.class)),
+        ThreadPoolExecutorInstrumentation.class.getName() + "$AfterExecuteAdvice");
+    return transformers;
+  }
+
+  public static class BeforeExecuteAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void enter(@Advice.Argument(1) Runnable task) {
+      if (ExecutorInstrumentationUtils.isLambdaTaggingEnabled()) {
+        ContextStore<Runnable, State> contextStore =
+            InstrumentationContext.get(Runnable.class, State.class);
+        AdviceUtils.startTaggedTaskScope(contextStore, task);
+      }
+    }
+  }
+
+  public static class AfterExecuteAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void enter() {
+      if (ExecutorInstrumentationUtils.isLambdaTaggingEnabled()) {
+        AdviceUtils.endTaggedTaskScope();
+      }
+    }
+  }
+}
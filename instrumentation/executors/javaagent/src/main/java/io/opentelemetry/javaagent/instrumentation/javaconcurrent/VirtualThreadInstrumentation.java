@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.javaconcurrent;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
+import java.util.HashMap;
+import java.util.Map;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Propagates context into virtual threads (Java 21+), which are created both by {@code
+ * Thread.ofVirtual()} and by {@code Executors.newVirtualThreadPerTaskExecutor()}. Every task gets
+ * its own virtual thread, so the context is attached to the thread itself when it's started and
+ * made current for the whole run of the thread, without wrapping the task or allocating a {@link
+ * io.opentelemetry.javaagent.instrumentation.api.concurrent.State}.
+ *
+ * <p>The continuations the virtual thread scheduler runs on carrier threads are excluded from the
+ * executor instrumentation, see {@code ExecutorInstrumentationUtils}.
+ *
+ * <p>The ByteBuddy version the agent uses only reads Java 21 class files when the JVM is started
+ * with {@code -Dnet.bytebuddy.experimental=true}, without it {@code VirtualThread} isn't
+ * instrumented.
+ */
+public class VirtualThreadInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("java.lang.VirtualThread");
+  }
+
+  @Override
+  public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+    Map<ElementMatcher<? super MethodDescription>, String> transformers = new HashMap<>();
+    transformers.put(named("start"), VirtualThreadInstrumentation.class.getName() + "$StartAdvice");
+    transformers.put(
+        named("run")
+            .and(isPrivate())
+            .and(takesArguments(1))
+            .and(takesArgument(0, Runnable.class)),
+        VirtualThreadInstrumentation.class.getName() + "$RunAdvice");
+    return transformers;
+  }
+
+  public static class StartAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void enter(@Advice.This Thread thread) {
+      // VirtualThread is Java 21 bytecode, so it's fine to call static interface methods here
+      Context context = Context.current();
+      if (context != Context.root()) {
+        ContextStore<Thread, Context> contextStore =
+            InstrumentationContext.get(Thread.class, Context.class);
+        contextStore.put(thread, context);
+      }
+    }
+  }
+
+  public static class RunAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static Scope enter(@Advice.This Thread thread) {
+      ContextStore<Thread, Context> contextStore =
+          InstrumentationContext.get(Thread.class, Context.class);
+      Context context = contextStore.get(thread);
+      if (context == null) {
+        return null;
+      }
+      // don't keep the context reachable from the thread once it's running
+      contextStore.put(thread, null);
+      return context.makeCurrent();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exit(@Advice.Enter Scope scope) {
+      if (scope != null) {
+        scope.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.basicSpan
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.runUnderTrace
+
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class LambdaTaggingTest extends AgentInstrumentationSpecification {
+
+  def "#poolName execute propagates to lambda"() {
+    setup:
+    ThreadPoolExecutor pool = poolImpl
+    def blocker = new CountDownLatch(1)
+    // keep the worker busy so that the lambda stays in the queue
+    pool.execute({ blocker.await() } as Runnable)
+
+    JavaAsyncChild child = new JavaAsyncChild(true, false)
+    Runnable lambda = LambdaGen.wrapRunnable(child)
+    runUnderTrace("parent") {
+      pool.execute(lambda)
+    }
+    def queuedTask = pool.queue.peek()
+    blocker.countDown()
+    child.waitForCompletion()
+
+    expect:
+    queuedTask.is(lambda) == tagged
+    assertTraces(1) {
+      trace(0, 2) {
+        basicSpan(it, 0, "parent")
+        basicSpan(it, 1, "asyncChild", span(0))
+      }
+    }
+
+    cleanup:
+    pool.shutdown()
+    pool.awaitTermination(10, TimeUnit.SECONDS)
+
+    where:
+    poolImpl                              | tagged
+    new ThreadPoolExecutor(1, 1, 1000, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>()) | true
+    new HookOverridingThreadPoolExecutor()                                                         | false
+    poolName = poolImpl.class.simpleName
+  }
+
+  def "non-capturing lambdas are still wrapped"() {
+    setup:
+    def pool = new ThreadPoolExecutor(
+      1, 1, 1000, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>())
+    def blocker = new CountDownLatch(1)
+    pool.execute({ blocker.await() } as Runnable)
+
+    JavaAsyncChild child = new JavaAsyncChild(true, false)
+    LambdaGen.staticTarget = child
+    // the same instance is returned every time, so it can't carry the context of one submission
+    Runnable lambda = LambdaGen.nonCapturingRunnable()
+    runUnderTrace("parent") {
+      pool.execute(lambda)
+    }
+    def queuedTask = pool.queue.peek()
+    blocker.countDown()
+    child.waitForCompletion()
+
+    expect:
+    LambdaGen.nonCapturingRunnable().is(lambda)
+    !queuedTask.is(lambda)
+    assertTraces(1) {
+      trace(0, 2) {
+        basicSpan(it, 0, "parent")
+        basicSpan(it, 1, "asyncChild", span(0))
+      }
+    }
+
+    cleanup:
+    LambdaGen.staticTarget = null
+    pool.shutdown()
+    pool.awaitTermination(10, TimeUnit.SECONDS)
+  }
+
+  static class HookOverridingThreadPoolExecutor extends ThreadPoolExecutor {
+    HookOverridingThreadPoolExecutor() {
+      super(1, 1, 1000, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>())
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+      // doesn't call super
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.basicSpan
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.runUnderTrace
+
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import spock.lang.Requires
+
+// needs -Dnet.bytebuddy.experimental=true, which is set for all test tasks of this module
+@Requires({ javaVersion >= 21 })
+class VirtualThreadTest extends AgentInstrumentationSpecification {
+
+  def "virtual thread started with #name propagates"() {
+    setup:
+    def child = new JavaAsyncChild()
+
+    when:
+    runUnderTrace("parent") {
+      start(child)
+    }
+    child.waitForCompletion()
+
+    then:
+    assertTraces(1) {
+      trace(0, 2) {
+        basicSpan(it, 0, "parent")
+        basicSpan(it, 1, "asyncChild", span(0))
+      }
+    }
+
+    where:
+    name                                | start
+    "Thread.ofVirtual()"                | { Thread.ofVirtual().start(it) }
+    "Thread.startVirtualThread()"       | { Thread.startVirtualThread(it) }
+    "newVirtualThreadPerTaskExecutor()" | { runnable ->
+      def executor = Executors.newVirtualThreadPerTaskExecutor()
+      executor.execute(runnable)
+      executor.shutdown()
+      executor.awaitTermination(10, TimeUnit.SECONDS)
+    }
+  }
+
+  def "virtual thread started without context has no parent"() {
+    setup:
+    def child = new JavaAsyncChild()
+
+    when:
+    Thread.ofVirtual().start(child)
+    child.waitForCompletion()
+
+    then:
+    assertTraces(1) {
+      trace(0, 1) {
+        basicSpan(it, 0, "asyncChild")
+      }
+    }
+  }
+}
@@ -7,6 +7,8 @@ import java.util.concurrent.Callable;
 
 class LambdaGen {
 
+  static volatile Runnable staticTarget;
+
   static Callable<?> wrapCallable(Callable<?> callable) {
     return () -> callable.call();
   }
@@ -14,4 +16,8 @@ class LambdaGen {
   static Runnable wrapRunnable(Runnable runnable) {
     return () -> runnable.run();
   }
+
+  static Runnable nonCapturingRunnable() {
+    return () -> staticTarget.run();
+  }
 }
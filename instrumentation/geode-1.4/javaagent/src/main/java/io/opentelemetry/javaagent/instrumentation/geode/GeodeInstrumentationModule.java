@@ -87,7 +87,7 @@ public class GeodeInstrumentationModule extends InstrumentationModule {
         @Advice.Origin Method method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      if (CallDepthThreadLocalMap.incrementCallDepth(Region.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(GeodeTracer.CALL_DEPTH_KEY) > 0) {
         return;
       }
       context = tracer().startSpan(method.getName(), thiz, null);
@@ -104,7 +104,7 @@ public class GeodeInstrumentationModule extends InstrumentationModule {
       }
       scope.close();
 
-      CallDepthThreadLocalMap.reset(Region.class);
+      CallDepthThreadLocalMap.reset(GeodeTracer.CALL_DEPTH_KEY);
       if (throwable != null) {
         tracer().endExceptionally(context, throwable);
       } else {
@@ -121,7 +121,7 @@ public class GeodeInstrumentationModule extends InstrumentationModule {
         @Advice.Argument(0) String query,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      if (CallDepthThreadLocalMap.incrementCallDepth(Region.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(GeodeTracer.CALL_DEPTH_KEY) > 0) {
         return;
       }
       context = tracer().startSpan(method.getName(), thiz, query);
@@ -138,7 +138,7 @@ public class GeodeInstrumentationModule extends InstrumentationModule {
       }
       scope.close();
 
-      CallDepthThreadLocalMap.reset(Region.class);
+      CallDepthThreadLocalMap.reset(GeodeTracer.CALL_DEPTH_KEY);
       if (throwable != null) {
         tracer().endExceptionally(context, throwable);
       } else {
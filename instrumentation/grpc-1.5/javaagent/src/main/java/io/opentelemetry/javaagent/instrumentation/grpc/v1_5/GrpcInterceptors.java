@@ -6,19 +6,33 @@
 package io.opentelemetry.javaagent.instrumentation.grpc.v1_5;
 
 import io.grpc.ClientInterceptor;
+import io.grpc.ServerBuilder;
 import io.grpc.ServerInterceptor;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.grpc.v1_5.GrpcTracing;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 
 // Holds singleton references to tracers.
 public final class GrpcInterceptors {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(ServerBuilder.class);
+
   private static final GrpcTracing TRACING =
       GrpcTracing.newBuilder(GlobalOpenTelemetry.get())
           .setCaptureExperimentalSpanAttributes(
               Config.get()
                   .getBooleanProperty(
                       "otel.instrumentation.grpc.experimental-span-attributes", false))
+          .setMessageEventLimit(
+              Config.get()
+                  .getIntProperty(
+                      "otel.instrumentation.grpc.experimental-message-event-limit",
+                      Integer.MAX_VALUE))
+          .setCaptureMessageCounts(
+              Config.get()
+                  .getBooleanProperty(
+                      "otel.instrumentation.grpc.experimental-message-counts", false))
           .build();
 
   public static final ClientInterceptor CLIENT_INTERCEPTOR = TRACING.newClientInterceptor();
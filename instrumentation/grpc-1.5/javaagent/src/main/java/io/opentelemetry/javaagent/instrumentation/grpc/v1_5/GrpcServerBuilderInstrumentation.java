@@ -45,7 +45,7 @@ public class GrpcServerBuilderInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void onEnter(@Advice.This ServerBuilder<?> serverBuilder) {
-      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(ServerBuilder.class);
+      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(GrpcInterceptors.CALL_DEPTH_KEY);
       if (callDepth == 0) {
         serverBuilder.intercept(GrpcInterceptors.SERVER_INTERCEPTOR);
       }
@@ -53,7 +53,7 @@ public class GrpcServerBuilderInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void onExit(@Advice.This ServerBuilder<?> serverBuilder) {
-      CallDepthThreadLocalMap.decrementCallDepth(ServerBuilder.class);
+      CallDepthThreadLocalMap.decrementCallDepth(GrpcInterceptors.CALL_DEPTH_KEY);
     }
   }
 }
@@ -5,10 +5,12 @@
 
 package io.opentelemetry.instrumentation.grpc.v1_5;
 
+import io.grpc.MethodDescriptor;
 import io.grpc.Status.Code;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 
 final class GrpcHelper {
@@ -16,16 +18,30 @@ final class GrpcHelper {
   public static final AttributeKey<String> MESSAGE_TYPE = AttributeKey.stringKey("message.type");
   public static final AttributeKey<Long> MESSAGE_ID = AttributeKey.longKey("message.id");
 
-  public static void prepareSpan(Span span, String fullMethodName) {
+  public static final AttributeKey<Long> MESSAGES_SENT =
+      AttributeKey.longKey("grpc.messages.sent");
+  public static final AttributeKey<Long> MESSAGES_RECEIVED =
+      AttributeKey.longKey("grpc.messages.received");
 
+  // method descriptors are usually constants of the generated stubs
+  private static final Cache<MethodDescriptor<?, ?>, RpcMethod> rpcMethods =
+      Cache.newBuilder().setWeakKeys().build();
+
+  public static void prepareSpan(Span span, MethodDescriptor<?, ?> method) {
+    RpcMethod rpcMethod = rpcMethods.computeIfAbsent(method, GrpcHelper::parseRpcMethod);
+
+    span.setAttribute(SemanticAttributes.RPC_SERVICE, rpcMethod.serviceName);
+    if (rpcMethod.methodName != null) {
+      span.setAttribute(SemanticAttributes.RPC_METHOD, rpcMethod.methodName);
+    }
+  }
+
+  private static RpcMethod parseRpcMethod(MethodDescriptor<?, ?> method) {
+    String fullMethodName = method.getFullMethodName();
     int slash = fullMethodName.indexOf('/');
     String serviceName = slash == -1 ? fullMethodName : fullMethodName.substring(0, slash);
     String methodName = slash == -1 ? null : fullMethodName.substring(slash + 1);
-
-    span.setAttribute(SemanticAttributes.RPC_SERVICE, serviceName);
-    if (methodName != null) {
-      span.setAttribute(SemanticAttributes.RPC_METHOD, methodName);
-    }
+    return new RpcMethod(serviceName, methodName);
   }
 
   public static StatusCode statusFromGrpcStatus(io.grpc.Status grpcStatus) {
@@ -36,5 +52,15 @@ final class GrpcHelper {
     return grpcCode.equals(Code.OK) ? StatusCode.UNSET : StatusCode.ERROR;
   }
 
+  private static final class RpcMethod {
+    final String serviceName;
+    final String methodName;
+
+    RpcMethod(String serviceName, String methodName) {
+      this.serviceName = serviceName;
+      this.methodName = methodName;
+    }
+  }
+
   private GrpcHelper() {}
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_5;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Counts the messages of a single call and adds the {@code message} span events for the first
+ * {@code messageEventLimit} messages of each direction.
+ */
+final class GrpcMessageCounter {
+
+  private final int messageEventLimit;
+
+  // each count is only updated by a single thread at a time: gRPC calls must not send messages
+  // concurrently, and the listener callbacks are serialized; the fields are volatile because the
+  // counts are read from a different thread when the call ends
+  private volatile long sent;
+  private volatile long received;
+
+  GrpcMessageCounter(int messageEventLimit) {
+    this.messageEventLimit = messageEventLimit;
+  }
+
+  @SuppressWarnings("NonAtomicVolatileUpdate") // single writer, see above
+  void onMessageSent() {
+    sent++;
+  }
+
+  @SuppressWarnings("NonAtomicVolatileUpdate") // single writer, see above
+  void onMessageReceived(Span span, String messageType) {
+    long messageId = ++received;
+    if (messageId <= messageEventLimit) {
+      span.addEvent(
+          "message",
+          Attributes.of(GrpcHelper.MESSAGE_TYPE, messageType, GrpcHelper.MESSAGE_ID, messageId));
+    }
+  }
+
+  void setMessageCounts(Span span) {
+    span.setAttribute(GrpcHelper.MESSAGES_SENT, sent);
+    span.setAttribute(GrpcHelper.MESSAGES_RECEIVED, received);
+  }
+}
@@ -23,12 +23,20 @@ public final class GrpcTracing {
   }
 
   private final boolean captureExperimentalSpanAttributes;
+  private final int messageEventLimit;
+  private final boolean captureMessageCounts;
 
   private final GrpcClientTracer clientTracer;
   private final GrpcServerTracer serverTracer;
 
-  GrpcTracing(OpenTelemetry openTelemetry, boolean captureExperimentalSpanAttributes) {
+  GrpcTracing(
+      OpenTelemetry openTelemetry,
+      boolean captureExperimentalSpanAttributes,
+      int messageEventLimit,
+      boolean captureMessageCounts) {
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.messageEventLimit = messageEventLimit;
+    this.captureMessageCounts = captureMessageCounts;
     clientTracer = new GrpcClientTracer(openTelemetry);
     serverTracer = new GrpcServerTracer(openTelemetry);
   }
@@ -38,7 +46,7 @@ public final class GrpcTracing {
    * io.grpc.ManagedChannelBuilder#intercept(ClientInterceptor...)}.
    */
   public ClientInterceptor newClientInterceptor() {
-    return new TracingClientInterceptor(clientTracer);
+    return new TracingClientInterceptor(clientTracer, messageEventLimit, captureMessageCounts);
   }
 
   /**
@@ -46,6 +54,7 @@ public final class GrpcTracing {
    * io.grpc.ServerBuilder#intercept(ServerInterceptor)}.
    */
   public ServerInterceptor newServerInterceptor() {
-    return new TracingServerInterceptor(serverTracer, captureExperimentalSpanAttributes);
+    return new TracingServerInterceptor(
+        serverTracer, captureExperimentalSpanAttributes, messageEventLimit, captureMessageCounts);
   }
 }
@@ -13,6 +13,8 @@ public final class GrpcTracingBuilder {
   private final OpenTelemetry openTelemetry;
 
   private boolean captureExperimentalSpanAttributes;
+  private int messageEventLimit = Integer.MAX_VALUE;
+  private boolean captureMessageCounts;
 
   GrpcTracingBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -29,8 +31,29 @@ public final class GrpcTracingBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of {@code message} events added to a span for the received messages of
+   * a call. Long-lived streams can carry far more messages than a span should hold as events, the
+   * following messages are only counted. By default all messages are recorded as events.
+   */
+  public GrpcTracingBuilder setMessageEventLimit(int messageEventLimit) {
+    this.messageEventLimit = messageEventLimit;
+    return this;
+  }
+
+  /**
+   * Sets whether the number of messages sent and received by a call should be set to its span as
+   * the {@code grpc.messages.sent} and {@code grpc.messages.received} attributes when the call
+   * ends. These attributes are experimental and may be changed or removed in the future.
+   */
+  public GrpcTracingBuilder setCaptureMessageCounts(boolean captureMessageCounts) {
+    this.captureMessageCounts = captureMessageCounts;
+    return this;
+  }
+
   /** Returns a new {@link GrpcTracing} with the settings of this {@link GrpcTracingBuilder}. */
   public GrpcTracing build() {
-    return new GrpcTracing(openTelemetry, captureExperimentalSpanAttributes);
+    return new GrpcTracing(
+        openTelemetry, captureExperimentalSpanAttributes, messageEventLimit, captureMessageCounts);
   }
 }
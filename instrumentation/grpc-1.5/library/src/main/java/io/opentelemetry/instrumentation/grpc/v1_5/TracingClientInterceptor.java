@@ -18,30 +18,32 @@ import io.grpc.Grpc;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.concurrent.atomic.AtomicLong;
 
 final class TracingClientInterceptor implements ClientInterceptor {
 
   private final GrpcClientTracer tracer;
+  private final int messageEventLimit;
+  private final boolean captureMessageCounts;
 
-  TracingClientInterceptor(GrpcClientTracer tracer) {
+  TracingClientInterceptor(
+      GrpcClientTracer tracer, int messageEventLimit, boolean captureMessageCounts) {
     this.tracer = tracer;
+    this.messageEventLimit = messageEventLimit;
+    this.captureMessageCounts = captureMessageCounts;
   }
 
   @Override
   public <REQUEST, RESPONSE> ClientCall<REQUEST, RESPONSE> interceptCall(
       MethodDescriptor<REQUEST, RESPONSE> method, CallOptions callOptions, Channel next) {
-    String methodName = method.getFullMethodName();
-    Context context = tracer.startSpan(methodName);
+    Context context = tracer.startSpan(method.getFullMethodName());
     Span span = Span.fromContext(context);
-    GrpcHelper.prepareSpan(span, methodName);
+    GrpcHelper.prepareSpan(span, method);
     final ClientCall<REQUEST, RESPONSE> result;
     try (Scope ignored = context.makeCurrent()) {
       try {
@@ -67,6 +69,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
     private final Span span;
     private final Context context;
+    private final GrpcMessageCounter messageCounter = new GrpcMessageCounter(messageEventLimit);
 
     TracingClientCall(ClientCall<REQUEST, RESPONSE> delegate, Span span, Context context) {
       super(delegate);
@@ -78,7 +81,8 @@ final class TracingClientInterceptor implements ClientInterceptor {
     public void start(Listener<RESPONSE> responseListener, Metadata headers) {
       tracer.inject(context, headers, SETTER);
       try (Scope ignored = context.makeCurrent()) {
-        super.start(new TracingClientCallListener<>(responseListener, context), headers);
+        super.start(
+            new TracingClientCallListener<>(responseListener, context, messageCounter), headers);
       } catch (Throwable e) {
         tracer.endExceptionally(context, e);
         throw e;
@@ -87,6 +91,9 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
     @Override
     public void sendMessage(REQUEST message) {
+      if (captureMessageCounts) {
+        messageCounter.onMessageSent();
+      }
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       } catch (Throwable e) {
@@ -99,21 +106,18 @@ final class TracingClientInterceptor implements ClientInterceptor {
   final class TracingClientCallListener<RESPONSE>
       extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RESPONSE> {
     private final Context context;
+    private final GrpcMessageCounter messageCounter;
 
-    private final AtomicLong messageId = new AtomicLong();
-
-    TracingClientCallListener(Listener<RESPONSE> delegate, Context context) {
+    TracingClientCallListener(
+        Listener<RESPONSE> delegate, Context context, GrpcMessageCounter messageCounter) {
       super(delegate);
       this.context = context;
+      this.messageCounter = messageCounter;
     }
 
     @Override
     public void onMessage(RESPONSE message) {
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE, "SENT", GrpcHelper.MESSAGE_ID, messageId.incrementAndGet());
-      span.addEvent("message", attributes);
+      messageCounter.onMessageReceived(Span.fromContext(context), "SENT");
       try (Scope ignored = context.makeCurrent()) {
         delegate().onMessage(message);
       } catch (Throwable e) {
@@ -130,6 +134,9 @@ final class TracingClientInterceptor implements ClientInterceptor {
         tracer.endExceptionally(context, e);
         throw e;
       }
+      if (captureMessageCounts) {
+        messageCounter.setMessageCounts(Span.fromContext(context));
+      }
       tracer.end(context, status);
     }
 
@@ -9,28 +9,35 @@ import io.grpc.ForwardingServerCall;
 import io.grpc.ForwardingServerCallListener;
 import io.grpc.Grpc;
 import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.Status;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.concurrent.atomic.AtomicLong;
 
 final class TracingServerInterceptor implements ServerInterceptor {
 
   private final GrpcServerTracer tracer;
   private final boolean captureExperimentalSpanAttributes;
-
-  TracingServerInterceptor(GrpcServerTracer tracer, boolean captureExperimentalSpanAttributes) {
+  private final int messageEventLimit;
+  private final boolean captureMessageCounts;
+
+  TracingServerInterceptor(
+      GrpcServerTracer tracer,
+      boolean captureExperimentalSpanAttributes,
+      int messageEventLimit,
+      boolean captureMessageCounts) {
     this.tracer = tracer;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.messageEventLimit = messageEventLimit;
+    this.captureMessageCounts = captureMessageCounts;
   }
 
   @Override
@@ -39,8 +46,8 @@ final class TracingServerInterceptor implements ServerInterceptor {
       Metadata headers,
       ServerCallHandler<REQUEST, RESPONSE> next) {
 
-    String methodName = call.getMethodDescriptor().getFullMethodName();
-    Context context = tracer.startSpan(methodName, headers);
+    MethodDescriptor<REQUEST, RESPONSE> method = call.getMethodDescriptor();
+    Context context = tracer.startSpan(method.getFullMethodName(), headers);
     Span span = Span.fromContext(context);
 
     SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
@@ -50,11 +57,14 @@ final class TracingServerInterceptor implements ServerInterceptor {
       span.setAttribute(
           SemanticAttributes.NET_PEER_IP, inetSocketAddress.getAddress().getHostAddress());
     }
-    GrpcHelper.prepareSpan(span, methodName);
+    GrpcHelper.prepareSpan(span, method);
 
+    GrpcMessageCounter messageCounter = new GrpcMessageCounter(messageEventLimit);
     try (Scope ignored = context.makeCurrent()) {
       return new TracingServerCallListener<>(
-          next.startCall(new TracingServerCall<>(call, context), headers), context);
+          next.startCall(new TracingServerCall<>(call, context, messageCounter), headers),
+          context,
+          messageCounter);
     } catch (Throwable e) {
       tracer.endExceptionally(context, e);
       throw e;
@@ -64,10 +74,23 @@ final class TracingServerInterceptor implements ServerInterceptor {
   final class TracingServerCall<REQUEST, RESPONSE>
       extends ForwardingServerCall.SimpleForwardingServerCall<REQUEST, RESPONSE> {
     private final Context context;
+    private final GrpcMessageCounter messageCounter;
 
-    TracingServerCall(ServerCall<REQUEST, RESPONSE> delegate, Context context) {
+    TracingServerCall(
+        ServerCall<REQUEST, RESPONSE> delegate,
+        Context context,
+        GrpcMessageCounter messageCounter) {
       super(delegate);
       this.context = context;
+      this.messageCounter = messageCounter;
+    }
+
+    @Override
+    public void sendMessage(RESPONSE message) {
+      if (captureMessageCounts) {
+        messageCounter.onMessageSent();
+      }
+      super.sendMessage(message);
     }
 
     @Override
@@ -85,24 +108,19 @@ final class TracingServerInterceptor implements ServerInterceptor {
   final class TracingServerCallListener<REQUEST>
       extends ForwardingServerCallListener.SimpleForwardingServerCallListener<REQUEST> {
     private final Context context;
+    private final GrpcMessageCounter messageCounter;
 
-    private final AtomicLong messageId = new AtomicLong();
-
-    TracingServerCallListener(Listener<REQUEST> delegate, Context context) {
+    TracingServerCallListener(
+        Listener<REQUEST> delegate, Context context, GrpcMessageCounter messageCounter) {
       super(delegate);
       this.context = context;
+      this.messageCounter = messageCounter;
     }
 
     @Override
     public void onMessage(REQUEST message) {
       // TODO(anuraaga): Restore
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "RECEIVED",
-              GrpcHelper.MESSAGE_ID,
-              messageId.incrementAndGet());
-      Span.fromContext(context).addEvent("message", attributes);
+      messageCounter.onMessageReceived(Span.fromContext(context), "RECEIVED");
       try (Scope ignored = context.makeCurrent()) {
         delegate().onMessage(message);
       }
@@ -129,7 +147,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         tracer.endExceptionally(context, e);
         throw e;
       }
-      tracer.end(context);
+      end();
     }
 
     @Override
@@ -140,7 +158,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         tracer.endExceptionally(context, e);
         throw e;
       }
-      tracer.end(context);
+      end();
     }
 
     @Override
@@ -152,5 +170,12 @@ final class TracingServerInterceptor implements ServerInterceptor {
         throw e;
       }
     }
+
+    private void end() {
+      if (captureMessageCounts) {
+        messageCounter.setMessageCounts(Span.fromContext(context));
+      }
+      tracer.end(context);
+    }
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_5
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+import static io.opentelemetry.api.trace.SpanKind.SERVER
+
+import example.GreeterGrpc
+import example.Helloworld
+import io.grpc.BindableService
+import io.grpc.ManagedChannel
+import io.grpc.ManagedChannelBuilder
+import io.grpc.Server
+import io.grpc.ServerBuilder
+import io.grpc.stub.StreamObserver
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
+
+class GrpcMessageCountsTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  def "conversation records message counts and limited message events"() {
+    setup:
+    def error = new AtomicReference()
+
+    BindableService greeter = new GreeterGrpc.GreeterImplBase() {
+      @Override
+      StreamObserver<Helloworld.Response> conversation(StreamObserver<Helloworld.Response> observer) {
+        return new StreamObserver<Helloworld.Response>() {
+          @Override
+          void onNext(Helloworld.Response value) {
+            observer.onNext(value)
+            observer.onNext(value)
+          }
+
+          @Override
+          void onError(Throwable t) {
+            error.set(t)
+            observer.onError(t)
+          }
+
+          @Override
+          void onCompleted() {
+            observer.onCompleted()
+          }
+        }
+      }
+    }
+    def tracing = GrpcTracing.newBuilder(getOpenTelemetry())
+      .setMessageEventLimit(1)
+      .setCaptureMessageCounts(true)
+      .build()
+    def port = PortUtils.findOpenPort()
+    Server server = ServerBuilder.forPort(port)
+      .addService(greeter)
+      .intercept(tracing.newServerInterceptor())
+      .build()
+      .start()
+    ManagedChannelBuilder channelBuilder = ManagedChannelBuilder.forAddress("localhost", port)
+      .intercept(tracing.newClientInterceptor())
+
+    // Depending on the version of gRPC usePlainText may or may not take an argument.
+    try {
+      channelBuilder.usePlaintext()
+    } catch (MissingMethodException e) {
+      channelBuilder.usePlaintext(true)
+    }
+    ManagedChannel channel = channelBuilder.build()
+    GreeterGrpc.GreeterStub client = GreeterGrpc.newStub(channel).withWaitForReady()
+
+    when:
+    def observer = client.conversation(new StreamObserver<Helloworld.Response>() {
+      @Override
+      void onNext(Helloworld.Response value) {
+      }
+
+      @Override
+      void onError(Throwable t) {
+        error.set(t)
+      }
+
+      @Override
+      void onCompleted() {
+      }
+    })
+
+    (1..3).each {
+      observer.onNext(Helloworld.Response.newBuilder().setMessage("call $it").build())
+    }
+    observer.onCompleted()
+
+    then:
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "example.Greeter/Conversation"
+          kind CLIENT
+          hasNoParent()
+          errored false
+          attributes {
+            "${SemanticAttributes.RPC_SYSTEM.key}" "grpc"
+            "${SemanticAttributes.RPC_SERVICE.key}" "example.Greeter"
+            "${SemanticAttributes.RPC_METHOD.key}" "Conversation"
+            "grpc.messages.sent" 3
+            "grpc.messages.received" 6
+          }
+          event(0) {
+            eventName "message"
+            attributes {
+              "message.type" "SENT"
+              "message.id" 1
+            }
+          }
+        }
+        span(1) {
+          name "example.Greeter/Conversation"
+          kind SERVER
+          childOf span(0)
+          errored false
+          attributes {
+            "${SemanticAttributes.RPC_SYSTEM.key}" "grpc"
+            "${SemanticAttributes.RPC_SERVICE.key}" "example.Greeter"
+            "${SemanticAttributes.RPC_METHOD.key}" "Conversation"
+            "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+            "${SemanticAttributes.NET_PEER_PORT.key}" Long
+            "grpc.messages.sent" 6
+            "grpc.messages.received" 3
+          }
+          event(0) {
+            eventName "message"
+            attributes {
+              "message.type" "RECEIVED"
+              "message.id" 1
+            }
+          }
+        }
+      }
+    }
+    error.get() == null
+
+    cleanup:
+    channel?.shutdownNow()?.awaitTermination(10, TimeUnit.SECONDS)
+    server?.shutdownNow()?.awaitTermination()
+  }
+}
@@ -136,7 +136,7 @@ public class SessionInstrumentation implements TypeInstrumentation {
         return; // No state found. We aren't in a Session.
       }
 
-      if (CallDepthThreadLocalMap.incrementCallDepth(SessionMethodUtils.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(SessionMethodUtils.CALL_DEPTH_KEY) > 0) {
         return; // This method call is being traced already.
       }
 
@@ -18,6 +18,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class SessionMethodUtils {
 
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(SessionMethodUtils.class);
+
   public static final Set<String> SCOPE_ONLY_METHODS =
       new HashSet<>(Arrays.asList("immediateLoad", "internalLoad"));
 
@@ -32,7 +35,7 @@ public class SessionMethodUtils {
       return null; // No state found. We aren't in a Session.
     }
 
-    int depth = CallDepthThreadLocalMap.incrementCallDepth(SessionMethodUtils.class);
+    int depth = CallDepthThreadLocalMap.incrementCallDepth(CALL_DEPTH_KEY);
     if (depth > 0) {
       return null; // This method call is being traced already.
     }
@@ -43,7 +46,7 @@ public class SessionMethodUtils {
   public static void end(
       @Nullable Context context, Throwable throwable, String operationName, Object entity) {
 
-    CallDepthThreadLocalMap.reset(SessionMethodUtils.class);
+    CallDepthThreadLocalMap.reset(CALL_DEPTH_KEY);
 
     if (context == null) {
       return;
@@ -97,7 +97,7 @@ public class HttpUrlConnectionInstrumentationModule extends InstrumentationModul
         @Advice.Local("otelScope") Scope scope,
         @Advice.Local("otelCallDepth") CallDepth callDepth) {
 
-      callDepth = CallDepthThreadLocalMap.getCallDepth(HttpURLConnection.class);
+      callDepth = CallDepthThreadLocalMap.getCallDepth(HttpUrlConnectionTracer.CALL_DEPTH_KEY);
       if (callDepth.getAndIncrement() > 0) {
         // only want the rest of the instrumentation rules (which are complex enough) to apply to
         // top-level HttpURLConnection calls
@@ -11,6 +11,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import io.opentelemetry.instrumentation.api.tracer.HttpClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -18,6 +19,9 @@ import java.net.URISyntaxException;
 public class HttpUrlConnectionTracer
     extends HttpClientTracer<HttpURLConnection, HttpURLConnection, HttpUrlResponse> {
 
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(HttpURLConnection.class);
+
   private static final HttpUrlConnectionTracer TRACER = new HttpUrlConnectionTracer();
 
   private HttpUrlConnectionTracer() {
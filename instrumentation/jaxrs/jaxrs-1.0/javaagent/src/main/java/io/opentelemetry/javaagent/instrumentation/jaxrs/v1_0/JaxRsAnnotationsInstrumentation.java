@@ -68,7 +68,7 @@ public class JaxRsAnnotationsInstrumentation implements TypeInstrumentation {
         @Advice.Origin Method method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      if (CallDepthThreadLocalMap.incrementCallDepth(Path.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(JaxRsAnnotationsTracer.CALL_DEPTH_KEY) > 0) {
         return;
       }
       context = tracer().startSpan(target.getClass(), method);
@@ -83,7 +83,7 @@ public class JaxRsAnnotationsInstrumentation implements TypeInstrumentation {
       if (scope == null) {
         return;
       }
-      CallDepthThreadLocalMap.reset(Path.class);
+      CallDepthThreadLocalMap.reset(JaxRsAnnotationsTracer.CALL_DEPTH_KEY);
 
       scope.close();
       if (throwable == null) {
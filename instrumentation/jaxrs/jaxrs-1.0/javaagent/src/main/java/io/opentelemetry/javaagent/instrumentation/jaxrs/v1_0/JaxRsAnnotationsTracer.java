@@ -11,6 +11,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.servlet.ServletContextPath;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.javaagent.instrumentation.api.ClassHierarchyIterable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -21,6 +22,9 @@ import javax.ws.rs.Path;
 
 public class JaxRsAnnotationsTracer extends BaseTracer {
 
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(Path.class);
+
   private static final JaxRsAnnotationsTracer TRACER = new JaxRsAnnotationsTracer();
 
   public static JaxRsAnnotationsTracer tracer() {
@@ -93,7 +93,7 @@ public class JaxRsAnnotationsInstrumentation implements TypeInstrumentation {
         }
       }
 
-      if (CallDepthThreadLocalMap.incrementCallDepth(Path.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(JaxRsAnnotationsTracer.CALL_DEPTH_KEY) > 0) {
         return;
       }
 
@@ -116,7 +116,7 @@ public class JaxRsAnnotationsInstrumentation implements TypeInstrumentation {
       if (context == null || scope == null) {
         return;
       }
-      CallDepthThreadLocalMap.reset(Path.class);
+      CallDepthThreadLocalMap.reset(JaxRsAnnotationsTracer.CALL_DEPTH_KEY);
 
       if (throwable != null) {
         tracer().endExceptionally(context, throwable);
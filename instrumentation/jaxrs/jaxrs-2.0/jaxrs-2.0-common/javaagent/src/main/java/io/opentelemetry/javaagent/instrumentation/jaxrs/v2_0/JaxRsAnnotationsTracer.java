@@ -12,6 +12,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.servlet.ServletContextPath;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.javaagent.instrumentation.api.ClassHierarchyIterable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -21,6 +22,9 @@ import javax.ws.rs.HttpMethod;
 import javax.ws.rs.Path;
 
 public class JaxRsAnnotationsTracer extends BaseTracer {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(Path.class);
+
   public static final String ABORT_FILTER_CLASS =
       "io.opentelemetry.javaagent.instrumentation.jaxrs2.filter.abort.class";
   public static final String ABORT_HANDLED =
@@ -17,6 +17,6 @@ import java.sql.PreparedStatement;
 public class JdbcMaps {
   public static final Cache<Connection, DbInfo> connectionInfo =
       Cache.newBuilder().setWeakKeys().build();
-  public static final Cache<PreparedStatement, String> preparedStatements =
+  public static final Cache<PreparedStatement, PreparedStatementTemplate> preparedStatements =
       Cache.newBuilder().setWeakKeys().build();
 }
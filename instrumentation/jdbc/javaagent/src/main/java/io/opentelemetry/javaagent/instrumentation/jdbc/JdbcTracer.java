@@ -5,8 +5,11 @@
 
 package io.opentelemetry.javaagent.instrumentation.jdbc;
 
+import static io.opentelemetry.api.trace.SpanKind.CLIENT;
 import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcUtils.connectionFromStatement;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
@@ -38,7 +41,33 @@ public class JdbcTracer extends DatabaseClientTracer<DbInfo, String, SqlStatemen
   }
 
   public Context startSpan(Context parentContext, PreparedStatement statement) {
-    return startSpan(parentContext, statement, JdbcMaps.preparedStatements.get(statement));
+    PreparedStatementTemplate template = JdbcMaps.preparedStatements.get(statement);
+    if (template == null) {
+      // the statement wasn't prepared by an instrumented connection
+      return startSpan(parentContext, statement, null);
+    }
+
+    SpanBuilder span = spanBuilder(parentContext, template.getSpanName(), CLIENT);
+    setAll(span, template.getAttributes());
+    return withClientSpan(parentContext, span.startSpan());
+  }
+
+  /**
+   * Computes the span name and attributes of a prepared statement, which are then reused by every
+   * execution of that statement. Returns {@code null} if the statement connection isn't available.
+   */
+  public PreparedStatementTemplate createTemplate(PreparedStatement statement, String query) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    DbInfo dbInfo = extractDbInfo(connection);
+    SqlStatementInfo sanitizedStatement = sanitizeStatement(query);
+
+    return new PreparedStatementTemplate(
+        spanName(dbInfo, query, sanitizedStatement),
+        spanAttributes(dbInfo, query, sanitizedStatement));
   }
 
   public Context startSpan(Context parentContext, Statement statement, String query) {
@@ -116,6 +145,11 @@ public class JdbcTracer extends DatabaseClientTracer<DbInfo, String, SqlStatemen
     return sanitizedStatement.getOperation();
   }
 
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void setAll(SpanBuilder span, Attributes attributes) {
+    attributes.forEach((key, value) -> span.setAttribute((AttributeKey) key, value));
+  }
+
   private DbInfo extractDbInfo(Connection connection) {
     DbInfo dbInfo = JdbcMaps.connectionInfo.get(connection);
     /*
@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jdbc;
+
+import io.opentelemetry.api.common.Attributes;
+
+/**
+ * Span name and attributes of a prepared statement. They don't change between executions, so
+ * they're computed once when the statement is prepared.
+ */
+public final class PreparedStatementTemplate {
+  private final String spanName;
+  private final Attributes attributes;
+
+  PreparedStatementTemplate(String spanName, Attributes attributes) {
+    this.spanName = spanName;
+    this.attributes = attributes;
+  }
+
+  public String getSpanName() {
+    return spanName;
+  }
+
+  public Attributes getAttributes() {
+    return attributes;
+  }
+}
@@ -27,6 +27,7 @@ import spock.lang.Shared
 import spock.lang.Unroll
 import test.TestConnection
 import test.TestDriver
+import test.TestPreparedStatement
 
 class JdbcInstrumentationTest extends AgentInstrumentationSpecification {
 
@@ -662,6 +663,82 @@ class JdbcInstrumentationTest extends AgentInstrumentationSpecification {
     "jdbc:testdb://localhost"                   | "CREATE TABLE table"  | "CREATE TABLE table"  | "DB Query"          | null         | null      | null
   }
 
+  @Unroll
+  def "prepared statement span matches statement span for #query on #url"() {
+    setup:
+    def connection = new TestDriver().connect(url, null)
+
+    when:
+    runUnderTrace("statement") {
+      connection.createStatement().executeQuery(query)
+    }
+    runUnderTrace("prepared statement") {
+      connection.prepareStatement(query).executeQuery()
+    }
+
+    then:
+    def traces = waitForTraces(2)
+    def statementSpan = traces.find { it[0].name == "statement" }[1]
+    def preparedStatementSpan = traces.find { it[0].name == "prepared statement" }[1]
+    preparedStatementSpan.name == statementSpan.name
+    preparedStatementSpan.kind == statementSpan.kind
+    preparedStatementSpan.attributes == statementSpan.attributes
+
+    where:
+    url                                         | query
+    "jdbc:testdb://localhost?databaseName=test" | "SELECT * FROM table"
+    "jdbc:testdb://localhost?databaseName=test" | "SELECT 42"
+    "jdbc:testdb://localhost"                   | "SELECT * FROM table"
+    "jdbc:testdb://localhost?databaseName=test" | "CREATE TABLE table"
+    "jdbc:testdb://localhost"                   | "CREATE TABLE table"
+  }
+
+  def "prepared statement not prepared by an instrumented connection generates a span"() {
+    setup:
+    def connection = new TestDriver().connect("jdbc:testdb://localhost?databaseName=test", null)
+    def statement = new TestPreparedStatement(connection)
+
+    when:
+    runUnderTrace("parent") {
+      statement.executeQuery()
+    }
+
+    then:
+    assertTraces(1) {
+      trace(0, 2) {
+        basicSpan(it, 0, "parent")
+        span(1) {
+          name "test"
+          kind CLIENT
+          childOf span(0)
+          errored false
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "testdb"
+            "$SemanticAttributes.DB_NAME.key" "test"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "testdb://localhost"
+          }
+        }
+      }
+    }
+  }
+
+  def "prepared statement without an available connection does not generate a span"() {
+    setup:
+    def statement = new TestPreparedStatement(null)
+
+    when:
+    runUnderTrace("parent") {
+      statement.executeQuery()
+    }
+
+    then:
+    assertTraces(1) {
+      trace(0, 1) {
+        basicSpan(it, 0, "parent")
+      }
+    }
+  }
+
   @Unroll
   def "#connectionPoolName connections should be cached in case of wrapped connections"() {
     setup:
@@ -6,13 +6,12 @@
 package io.opentelemetry.javaagent.instrumentation.jedis.v1_4;
 
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.ArgumentIterator;
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
 import io.opentelemetry.javaagent.instrumentation.jedis.v1_4.JedisClientTracer.CommandWithArgs;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.net.InetSocketAddress;
-import java.util.Arrays;
-import java.util.List;
 import redis.clients.jedis.Connection;
 import redis.clients.jedis.Protocol.Command;
 
@@ -83,8 +82,9 @@ public class JedisClientTracer extends DatabaseClientTracer<Connection, CommandW
       return command.name();
     }
 
-    private List<?> getArgs() {
-      return Arrays.asList(args);
+    private ArgumentIterator getArgs() {
+      // masked args are skipped without being decoded
+      return ArgumentIterator.of(args);
     }
   }
 }
@@ -5,20 +5,29 @@
 
 package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
 
+import static io.opentelemetry.api.trace.SpanKind.CLIENT;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.ArgumentIterator;
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
 import io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisClientTracer.CommandWithArgs;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import redis.clients.jedis.Connection;
 import redis.clients.jedis.Protocol;
 import redis.clients.jedis.commands.ProtocolCommand;
 
 public class JedisClientTracer extends DatabaseClientTracer<Connection, CommandWithArgs, String> {
+  private static final String PIPELINE = "PIPELINE";
+
   private static final JedisClientTracer TRACER = new JedisClientTracer();
 
   private JedisClientTracer() {
@@ -29,6 +38,30 @@ public class JedisClientTracer extends DatabaseClientTracer<Connection, CommandW
     return TRACER;
   }
 
+  /**
+   * Starts the span of a pipeline. The commands that were sent through the pipeline are added when
+   * it's {@linkplain #endPipelineSpan ended}.
+   */
+  public Context startPipelineSpan(Context parentContext, Connection connection) {
+    SpanBuilder span =
+        spanBuilder(parentContext, PIPELINE, CLIENT)
+            .setAttribute(SemanticAttributes.DB_SYSTEM, dbSystem(connection));
+    onConnection(span, connection);
+    setNetSemanticConvention(span, connection);
+    return withClientSpan(parentContext, span.startSpan());
+  }
+
+  public void endPipelineSpan(
+      Context context, RedisCommandBatch commands, @Nullable Throwable throwable) {
+    Span span = Span.fromContext(context);
+    commands.setAttributes(span::setAttribute);
+    if (throwable != null) {
+      endExceptionally(context, throwable);
+    } else {
+      end(context);
+    }
+  }
+
   @Override
   protected String sanitizeStatement(CommandWithArgs command) {
     return RedisCommandSanitizer.sanitize(command.getStringCommand(), command.getArgs());
@@ -75,7 +108,7 @@ public class JedisClientTracer extends DatabaseClientTracer<Connection, CommandW
       this.args = args;
     }
 
-    private String getStringCommand() {
+    String getStringCommand() {
       if (command instanceof Protocol.Command) {
         return ((Protocol.Command) command).name();
       } else {
@@ -85,8 +118,9 @@ public class JedisClientTracer extends DatabaseClientTracer<Connection, CommandW
       }
     }
 
-    private List<?> getArgs() {
-      return Arrays.asList(args);
+    private ArgumentIterator getArgs() {
+      // masked args are skipped without being decoded
+      return ArgumentIterator.of(args);
     }
   }
 }
@@ -7,20 +7,27 @@ package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
 
 import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge.currentContext;
 import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisClientTracer.tracer;
-import static java.util.Collections.singletonList;
+import static io.opentelemetry.javaagent.tooling.bytebuddy.matcher.NameMatchers.namedOneOf;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.returns;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisClientTracer.CommandWithArgs;
 import io.opentelemetry.javaagent.tooling.InstrumentationModule;
 import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import net.bytebuddy.asm.Advice;
@@ -28,6 +35,7 @@ import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import redis.clients.jedis.Connection;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.commands.ProtocolCommand;
 
 @AutoService(InstrumentationModule.class)
@@ -39,7 +47,22 @@ public class JedisInstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return singletonList(new ConnectionInstrumentation());
+    return asList(
+        new ConnectionInstrumentation(),
+        new PipelineInstrumentation(),
+        new PipelineCommandInstrumentation(),
+        new QueableInstrumentation(),
+        new BinaryJedisInstrumentation());
+  }
+
+  @Override
+  public Map<String, String> contextStore() {
+    Map<String, String> map = new HashMap<>();
+    // the batch of each pipeline
+    map.put("redis.clients.jedis.Pipeline", JedisPipelineBatch.class.getName());
+    // the batch of the pipeline that is sending a command through the connection
+    map.put("redis.clients.jedis.Connection", JedisPipelineBatch.class.getName());
+    return map;
   }
 
   public static class ConnectionInstrumentation implements TypeInstrumentation {
@@ -62,6 +85,77 @@ public class JedisInstrumentationModule extends InstrumentationModule {
     }
   }
 
+  public static class PipelineInstrumentation implements TypeInstrumentation {
+    @Override
+    public ElementMatcher<TypeDescription> typeMatcher() {
+      return named("redis.clients.jedis.Pipeline");
+    }
+
+    @Override
+    public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+      Map<ElementMatcher<? super MethodDescription>, String> transformers = new HashMap<>();
+      transformers.put(
+          isMethod().and(named("setClient")).and(takesArguments(1)),
+          JedisInstrumentationModule.class.getName() + "$PipelineSetClientAdvice");
+      transformers.put(
+          isMethod().and(namedOneOf("sync", "syncAndReturnAll")).and(takesArguments(0)),
+          JedisInstrumentationModule.class.getName() + "$PipelineSyncAdvice");
+      transformers.put(
+          isMethod().and(named("close")).and(takesArguments(0)),
+          JedisInstrumentationModule.class.getName() + "$PipelineCloseAdvice");
+      return transformers;
+    }
+  }
+
+  public static class PipelineCommandInstrumentation implements TypeInstrumentation {
+    @Override
+    public ElementMatcher<TypeDescription> typeMatcher() {
+      // the pipelined commands are declared in the superclasses that Pipeline shares with
+      // Transaction
+      return namedOneOf(
+          "redis.clients.jedis.PipelineBase",
+          "redis.clients.jedis.MultiKeyPipelineBase",
+          "redis.clients.jedis.Pipeline");
+    }
+
+    @Override
+    public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+      return singletonMap(
+          isMethod().and(isPublic()).and(returns(named("redis.clients.jedis.Response"))),
+          JedisInstrumentationModule.class.getName() + "$PipelineCommandAdvice");
+    }
+  }
+
+  public static class QueableInstrumentation implements TypeInstrumentation {
+    @Override
+    public ElementMatcher<TypeDescription> typeMatcher() {
+      // the replies of pipelined commands are handed out by the superclass of Pipeline
+      return named("redis.clients.jedis.Queable");
+    }
+
+    @Override
+    public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+      return singletonMap(
+          isMethod().and(named("generateResponse")).and(takesArguments(1)),
+          JedisInstrumentationModule.class.getName() + "$PipelineReplyAdvice");
+    }
+  }
+
+  public static class BinaryJedisInstrumentation implements TypeInstrumentation {
+    @Override
+    public ElementMatcher<TypeDescription> typeMatcher() {
+      return named("redis.clients.jedis.BinaryJedis");
+    }
+
+    @Override
+    public Map<? extends ElementMatcher<? super MethodDescription>, String> transformers() {
+      // a pooled Jedis is reset when it's returned to the pool, the other ones are closed
+      return singletonMap(
+          isMethod().and(namedOneOf("close", "resetState")).and(takesArguments(0)),
+          JedisInstrumentationModule.class.getName() + "$JedisCloseAdvice");
+    }
+  }
+
   public static class JedisAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
@@ -69,8 +163,18 @@ public class JedisInstrumentationModule extends InstrumentationModule {
         @Advice.This Connection connection,
         @Advice.Argument(0) ProtocolCommand command,
         @Advice.Argument(1) byte[][] args,
+        @Advice.Local("otelPipeline") JedisPipelineBatch pipeline,
+        @Advice.Local("otelStartNanos") long startNanos,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
+      pipeline =
+          InstrumentationContext.get(Connection.class, JedisPipelineBatch.class).get(connection);
+      if (pipeline != null) {
+        pipeline.onCommandStart(currentContext());
+        startNanos = System.nanoTime();
+        return;
+      }
+
       context =
           tracer().startSpan(currentContext(), connection, new CommandWithArgs(command, args));
       scope = context.makeCurrent();
@@ -78,9 +182,18 @@ public class JedisInstrumentationModule extends InstrumentationModule {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
+        @Advice.This Connection connection,
+        @Advice.Argument(0) ProtocolCommand command,
+        @Advice.Argument(1) byte[][] args,
         @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelPipeline") JedisPipelineBatch pipeline,
+        @Advice.Local("otelStartNanos") long startNanos,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
+      if (pipeline != null) {
+        pipeline.onCommandEnd(command, args, startNanos, throwable);
+        return;
+      }
       if (scope == null) {
         return;
       }
@@ -93,4 +206,117 @@ public class JedisInstrumentationModule extends InstrumentationModule {
       }
     }
   }
+
+  public static class PipelineSetClientAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(
+        @Advice.This Pipeline pipeline, @Advice.Argument(0) Connection client) {
+      if (!RedisCommandBatch.isEnabled()) {
+        return;
+      }
+      ContextStore<Pipeline, JedisPipelineBatch> contextStore =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class);
+      JedisPipelineBatch previous = contextStore.get(pipeline);
+      if (previous != null) {
+        previous.end(null);
+      }
+      contextStore.put(pipeline, new JedisPipelineBatch(client));
+    }
+  }
+
+  public static class PipelineCommandAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static JedisPipelineBatch onEnter(@Advice.This Object pipeline) {
+      if (!(pipeline instanceof Pipeline)) {
+        return null;
+      }
+      JedisPipelineBatch batch =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class)
+              .get((Pipeline) pipeline);
+      if (batch == null) {
+        return null;
+      }
+      ContextStore<Connection, JedisPipelineBatch> contextStore =
+          InstrumentationContext.get(Connection.class, JedisPipelineBatch.class);
+      // commands that delegate to another pipelined command
+      if (contextStore.get(batch.getConnection()) != null) {
+        return null;
+      }
+      // only the commands sent while the pipelined command is running belong to the batch, the
+      // connection is free to send commands of its own in between
+      contextStore.put(batch.getConnection(), batch);
+      return batch;
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(@Advice.Enter JedisPipelineBatch batch) {
+      if (batch != null) {
+        InstrumentationContext.get(Connection.class, JedisPipelineBatch.class)
+            .put(batch.getConnection(), null);
+      }
+    }
+  }
+
+  public static class PipelineReplyAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(@Advice.This Object pipeline, @Advice.Argument(0) Object reply) {
+      if (!(pipeline instanceof Pipeline)) {
+        return;
+      }
+      JedisPipelineBatch batch =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class)
+              .get((Pipeline) pipeline);
+      if (batch != null) {
+        batch.onReply(reply);
+      }
+    }
+  }
+
+  public static class PipelineSyncAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(@Advice.This Pipeline pipeline, @Advice.Thrown Throwable throwable) {
+      JedisPipelineBatch batch =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class).get(pipeline);
+      if (batch != null) {
+        // the pipeline can still be used after it's synced
+        batch.end(throwable);
+      }
+    }
+  }
+
+  public static class PipelineCloseAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(@Advice.This Pipeline pipeline) {
+      ContextStore<Pipeline, JedisPipelineBatch> contextStore =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class);
+      JedisPipelineBatch batch = contextStore.get(pipeline);
+      if (batch != null) {
+        contextStore.put(pipeline, null);
+        batch.end(null);
+      }
+    }
+  }
+
+  public static class JedisCloseAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(@Advice.FieldValue("pipeline") Pipeline pipeline) {
+      if (pipeline == null) {
+        return;
+      }
+      // ends the span of a pipeline that was abandoned without being synced
+      ContextStore<Pipeline, JedisPipelineBatch> contextStore =
+          InstrumentationContext.get(Pipeline.class, JedisPipelineBatch.class);
+      JedisPipelineBatch batch = contextStore.get(pipeline);
+      if (batch != null) {
+        contextStore.put(pipeline, null);
+        batch.end(null);
+      }
+    }
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
+
+import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisClientTracer.tracer;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
+import io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisClientTracer.CommandWithArgs;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * The commands sent through a {@code Pipeline} since it was last synced, recorded as a single span
+ * that ends when the pipeline is synced again. A command only gets a span of its own when sending
+ * it fails, its reply is an error, or it takes longer than the configured threshold from being sent
+ * until its reply is read. Jedis reads the replies when the pipeline is synced, so that's the time
+ * the application waits for the command.
+ */
+public final class JedisPipelineBatch {
+
+  private final Connection connection;
+  private RedisCommandBatch commands = new RedisCommandBatch();
+  // the commands that were sent and whose replies were not read yet, in the order they were sent
+  private final Queue<SentCommand> sentCommands = new ArrayDeque<>();
+  @Nullable private Context context;
+
+  public JedisPipelineBatch(Connection connection) {
+    this.connection = connection;
+  }
+
+  /** Returns the connection the pipeline sends its commands through. */
+  public Connection getConnection() {
+    return connection;
+  }
+
+  public void onCommandStart(Context parentContext) {
+    if (context == null) {
+      context = tracer().startPipelineSpan(parentContext, connection);
+    }
+  }
+
+  public void onCommandEnd(
+      ProtocolCommand command,
+      byte[][] args,
+      long startNanos,
+      @Nullable Throwable throwable) {
+    CommandWithArgs commandWithArgs = new CommandWithArgs(command, args);
+    commands.add(commandWithArgs.getStringCommand(), argumentBytes(args));
+    if (throwable != null) {
+      // the command was not sent, there won't be a reply to wait for
+      recordCommand(commandWithArgs, startNanos, throwable);
+    } else {
+      sentCommands.add(new SentCommand(commandWithArgs, startNanos));
+    }
+  }
+
+  /**
+   * Called with every reply that is read when the pipeline is synced, which are read in the order
+   * the commands were sent.
+   */
+  public void onReply(Object reply) {
+    SentCommand command = sentCommands.poll();
+    if (command == null) {
+      return;
+    }
+    if (reply instanceof JedisDataException) {
+      recordCommand(command.command, command.startNanos, (JedisDataException) reply);
+    } else if (RedisCommandBatch.isSlow(System.nanoTime() - command.startNanos)) {
+      recordCommand(command.command, command.startNanos, null);
+    }
+  }
+
+  private void recordCommand(
+      CommandWithArgs command, long startNanos, @Nullable Throwable throwable) {
+    long durationNanos = System.nanoTime() - startNanos;
+    long endTimeNanos = MILLISECONDS.toNanos(System.currentTimeMillis());
+    Context commandContext =
+        tracer().startSpan(context, connection, command, endTimeNanos - durationNanos);
+    if (throwable != null) {
+      tracer().endExceptionally(commandContext, throwable, endTimeNanos);
+    } else {
+      tracer().end(commandContext, endTimeNanos);
+    }
+  }
+
+  /**
+   * Ends the span of the commands sent since the pipeline was last synced, the next command will
+   * start a new one.
+   */
+  public void end(@Nullable Throwable throwable) {
+    if (context != null) {
+      tracer().endPipelineSpan(context, commands, throwable);
+      context = null;
+      commands = new RedisCommandBatch();
+      sentCommands.clear();
+    }
+  }
+
+  private static long argumentBytes(byte[][] args) {
+    long bytes = 0;
+    for (byte[] arg : args) {
+      bytes += arg.length;
+    }
+    return bytes;
+  }
+
+  private static final class SentCommand {
+    private final CommandWithArgs command;
+    private final long startNanos;
+
+    private SentCommand(CommandWithArgs command, long startNanos) {
+      this.command = command;
+      this.startNanos = startNanos;
+    }
+  }
+}
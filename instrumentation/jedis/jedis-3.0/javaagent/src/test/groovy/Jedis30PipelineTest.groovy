@@ -0,0 +1,228 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import redis.clients.jedis.Jedis
+import redis.clients.jedis.exceptions.JedisDataException
+import redis.embedded.RedisServer
+import spock.lang.Shared
+
+// runs in the testBatchSpans task, with otel.instrumentation.redis.experimental-batch-spans.enabled
+class Jedis30PipelineTest extends AgentInstrumentationSpecification {
+
+  @Shared
+  int port = PortUtils.findOpenPort()
+
+  @Shared
+  RedisServer redisServer = RedisServer.builder()
+  // bind to localhost to avoid firewall popup
+    .setting("bind 127.0.0.1")
+  // set max memory to avoid problems in CI
+    .setting("maxmemory 128M")
+    .port(port).build()
+  @Shared
+  Jedis jedis = new Jedis("localhost", port)
+
+  def setupSpec() {
+    println "Using redis: $redisServer.args"
+    redisServer.start()
+  }
+
+  def cleanupSpec() {
+    redisServer.stop()
+    jedis.close()
+  }
+
+  def setup() {
+    jedis.flushAll()
+    clearExportedData()
+  }
+
+  def "pipeline is recorded as a single span"() {
+    when:
+    def pipeline = jedis.pipelined()
+    pipeline.set("foo", "bar")
+    pipeline.set("baz", "qux")
+    def response = pipeline.get("foo")
+    pipeline.sync()
+    // not pipelined anymore
+    def value = jedis.get("baz")
+
+    then:
+    response.get() == "bar"
+    value == "qux"
+
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 3
+            "db.redis.batch.command_counts" "SET=2,GET=1"
+            "db.redis.batch.argument_bytes" 15
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "GET"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.DB_STATEMENT.key" "GET baz"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+          }
+        }
+      }
+    }
+  }
+
+  def "pipeline reused after sync starts a new span"() {
+    when:
+    def pipeline = jedis.pipelined()
+    pipeline.set("foo", "bar")
+    pipeline.sync()
+    pipeline.get("foo")
+    pipeline.sync()
+
+    then:
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 1
+            "db.redis.batch.command_counts" "SET=1"
+            "db.redis.batch.argument_bytes" 6
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 1
+            "db.redis.batch.command_counts" "GET=1"
+            "db.redis.batch.argument_bytes" 3
+          }
+        }
+      }
+    }
+  }
+
+  def "pipeline abandoned by resetting the client is ended"() {
+    when:
+    jedis.pipelined().set("foo", "bar")
+    jedis.resetState()
+    def value = jedis.get("foo")
+
+    then:
+    value == "bar"
+
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 1
+            "db.redis.batch.command_counts" "SET=1"
+            "db.redis.batch.argument_bytes" 6
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "GET"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.DB_STATEMENT.key" "GET foo"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+          }
+        }
+      }
+    }
+  }
+
+  def "command with an error reply gets a span of its own"() {
+    when:
+    def pipeline = jedis.pipelined()
+    pipeline.set("foo", "bar")
+    def response = pipeline.hget("foo", "field")
+    pipeline.sync()
+    response.get()
+
+    then:
+    thrown(JedisDataException)
+
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 2
+            "db.redis.batch.command_counts" "SET=1,HGET=1"
+            "db.redis.batch.argument_bytes" 14
+          }
+        }
+        span(1) {
+          name "HGET"
+          kind CLIENT
+          childOf span(0)
+          errored true
+          errorEvent(JedisDataException, ~/WRONGTYPE.*/)
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.DB_STATEMENT.key" "HGET foo field"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+          }
+        }
+      }
+    }
+  }
+}
@@ -62,7 +62,7 @@ public class JmsMessageProducerInstrumentation implements TypeInstrumentation {
         @Advice.This MessageProducer producer,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(MessageProducer.class);
+      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(JmsTracer.CALL_DEPTH_KEY);
       if (callDepth > 0) {
         return;
       }
@@ -88,7 +88,7 @@ public class JmsMessageProducerInstrumentation implements TypeInstrumentation {
       if (scope == null) {
         return;
       }
-      CallDepthThreadLocalMap.reset(MessageProducer.class);
+      CallDepthThreadLocalMap.reset(JmsTracer.CALL_DEPTH_KEY);
 
       scope.close();
       if (throwable != null) {
@@ -107,7 +107,7 @@ public class JmsMessageProducerInstrumentation implements TypeInstrumentation {
         @Advice.Argument(1) Message message,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(MessageProducer.class);
+      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(JmsTracer.CALL_DEPTH_KEY);
       if (callDepth > 0) {
         return;
       }
@@ -125,7 +125,7 @@ public class JmsMessageProducerInstrumentation implements TypeInstrumentation {
       if (scope == null) {
         return;
       }
-      CallDepthThreadLocalMap.reset(MessageProducer.class);
+      CallDepthThreadLocalMap.reset(JmsTracer.CALL_DEPTH_KEY);
 
       scope.close();
       if (throwable != null) {
@@ -17,6 +17,11 @@ public final class KafkaClientsConfig {
       Config.get()
           .getBooleanProperty("otel.instrumentation.kafka.experimental-span-attributes", false);
 
+  private static final boolean BATCH_RECEIVE_SPANS_ENABLED =
+      Config.get()
+          .getBooleanProperty(
+              "otel.instrumentation.kafka.experimental-batch-receive.enabled", false);
+
   public static boolean isPropagationEnabled() {
     return CLIENT_PROPAGATION_ENABLED;
   }
@@ -25,5 +30,13 @@ public final class KafkaClientsConfig {
     return CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES;
   }
 
+  /**
+   * Whether a single receive span, linked to the producer spans of all its records, is created per
+   * batch of consumed records instead of a process span per record.
+   */
+  public static boolean isBatchReceiveSpansEnabled() {
+    return BATCH_RECEIVE_SPANS_ENABLED;
+  }
+
   private KafkaClientsConfig() {}
 }
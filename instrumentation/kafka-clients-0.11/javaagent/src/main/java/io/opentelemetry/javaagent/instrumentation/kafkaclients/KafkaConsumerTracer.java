@@ -9,16 +9,30 @@ import static io.opentelemetry.api.trace.SpanKind.CONSUMER;
 import static io.opentelemetry.javaagent.instrumentation.kafkaclients.TextMapExtractAdapter.GETTER;
 
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.record.TimestampType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class KafkaConsumerTracer extends BaseTracer {
+  // the default span link limit of the SDK, links beyond it would be dropped anyway
+  public static final int MAX_RECEIVE_SPAN_LINKS = 128;
+
   private static final KafkaConsumerTracer TRACER = new KafkaConsumerTracer();
 
+  // a consumer usually reads from a handful of topics, so span names are computed once per topic
+  private static final Cache<String, String> PROCESS_SPAN_NAMES =
+      Cache.newBuilder().setMaximumSize(1000).build();
+  private static final Cache<String, String> RECEIVE_SPAN_NAMES =
+      Cache.newBuilder().setMaximumSize(1000).build();
+
   public static KafkaConsumerTracer tracer() {
     return TRACER;
   }
@@ -43,6 +57,78 @@ public class KafkaConsumerTracer extends BaseTracer {
     return parentContext.with(span);
   }
 
+  /**
+   * Returns whether the receive span should link to the producer spans of its records. Links can
+   * only be added when a span starts, before it's known whether it's recorded, so the records are
+   * only read up front when the parent isn't known to be unsampled.
+   */
+  public boolean shouldLinkProducers(Context parentContext) {
+    if (!KafkaClientsConfig.isPropagationEnabled()) {
+      return false;
+    }
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    return !parentSpanContext.isValid() || parentSpanContext.isSampled();
+  }
+
+  /**
+   * Starts a span for a whole batch of consumed records. The producer spans of the {@code records}
+   * are added as links, up to {@link #MAX_RECEIVE_SPAN_LINKS} of them, instead of being the parent
+   * of a separate span per record. The span is named after the topic of the whole batch when it's
+   * {@linkplain #endReceiveSpan ended}.
+   */
+  public Context startReceiveSpan(List<ConsumerRecord<?, ?>> records) {
+    SpanBuilder spanBuilder =
+        spanBuilder(Context.current(), receiveSpanName(commonTopic(records)), CONSUMER)
+            .setAttribute(SemanticAttributes.MESSAGING_SYSTEM, "kafka")
+            .setAttribute(SemanticAttributes.MESSAGING_OPERATION, "receive");
+    int links = 0;
+    for (int i = 0; i < records.size() && links < MAX_RECEIVE_SPAN_LINKS; i++) {
+      SpanContext producerSpanContext =
+          Span.fromContext(extract(records.get(i).headers(), GETTER)).getSpanContext();
+      if (producerSpanContext.isValid()) {
+        spanBuilder.addLink(producerSpanContext);
+        links++;
+      }
+    }
+    return Context.current().with(spanBuilder.startSpan());
+  }
+
+  /**
+   * Ends the receive span of a batch whose records all came from {@code topic}, or from several
+   * topics if it's {@code null}.
+   */
+  public void endReceiveSpan(Context context, @Nullable String topic) {
+    Span span = Span.fromContext(context);
+    if (span.isRecording()) {
+      span.updateName(receiveSpanName(topic));
+      if (topic != null) {
+        span.setAttribute(SemanticAttributes.MESSAGING_DESTINATION, topic);
+        span.setAttribute(SemanticAttributes.MESSAGING_DESTINATION_KIND, "topic");
+      }
+    }
+    end(context);
+  }
+
+  private static String receiveSpanName(@Nullable String topic) {
+    return topic == null
+        ? "multiple_sources receive"
+        : RECEIVE_SPAN_NAMES.computeIfAbsent(topic, t -> t + " receive");
+  }
+
+  @Nullable
+  private static String commonTopic(List<ConsumerRecord<?, ?>> records) {
+    if (records.isEmpty()) {
+      return null;
+    }
+    String topic = records.get(0).topic();
+    for (int i = 1; i < records.size(); i++) {
+      if (!topic.equals(records.get(i).topic())) {
+        return null;
+      }
+    }
+    return topic;
+  }
+
   private Context extractParent(ConsumerRecord<?, ?> record) {
     if (KafkaClientsConfig.isPropagationEnabled()) {
       return extract(record.headers(), GETTER);
@@ -52,7 +138,7 @@ public class KafkaConsumerTracer extends BaseTracer {
   }
 
   public String spanNameOnConsume(ConsumerRecord<?, ?> record) {
-    return record.topic() + " process";
+    return PROCESS_SPAN_NAMES.computeIfAbsent(record.topic(), topic -> topic + " process");
   }
 
   public void onConsume(Span span, long startTimeMillis, ConsumerRecord<?, ?> record) {
@@ -7,7 +7,10 @@ package io.opentelemetry.javaagent.instrumentation.kafkaclients;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,9 +19,22 @@ public class TracingIterator implements Iterator<ConsumerRecord<?, ?>> {
 
   private static final Logger log = LoggerFactory.getLogger(TracingIterator.class);
 
+  // the iterator whose receive span is still open on this thread, so that it can be ended when the
+  // application stops iterating early and polls again
+  private static final ThreadLocal<TracingIterator> openBatch = new ThreadLocal<>();
+
   private final Iterator<ConsumerRecord<?, ?>> delegateIterator;
   private final KafkaConsumerTracer tracer;
 
+  // only used when batch receive spans are enabled
+  private final boolean batchReceiveSpans = KafkaClientsConfig.isBatchReceiveSpansEnabled();
+  private boolean batchStarted;
+  // records read ahead of the delegate to link the receive span to their producers
+  private Iterator<ConsumerRecord<?, ?>> bufferedIterator = Collections.emptyIterator();
+  private Context batchContext;
+  private String batchTopic;
+  private boolean batchHasMultipleTopics;
+
   /**
    * Note: this may potentially create problems if this iterator is used from different threads. But
    * at the moment we cannot do much about this.
@@ -36,18 +52,31 @@ public class TracingIterator implements Iterator<ConsumerRecord<?, ?>> {
   @Override
   public boolean hasNext() {
     closeScopeAndEndSpan();
-    return delegateIterator.hasNext();
+    startBatchIfNeeded();
+    boolean hasNext = bufferedIterator.hasNext() || delegateIterator.hasNext();
+    if (!hasNext) {
+      endBatchIfNeeded();
+    }
+    return hasNext;
   }
 
   @Override
   public ConsumerRecord<?, ?> next() {
     // in case they didn't call hasNext()...
     closeScopeAndEndSpan();
+    startBatchIfNeeded();
 
-    ConsumerRecord<?, ?> next = delegateIterator.next();
+    ConsumerRecord<?, ?> next =
+        bufferedIterator.hasNext() ? bufferedIterator.next() : delegateIterator.next();
 
     try {
-      if (next != null) {
+      if (batchReceiveSpans) {
+        // records are processed in the context of the receive span, no span is created per record
+        if (batchContext != null) {
+          updateBatchTopic(next);
+          currentScope = batchContext.makeCurrent();
+        }
+      } else if (next != null) {
         currentContext = tracer.startSpan(next);
         currentScope = currentContext.makeCurrent();
       }
@@ -61,8 +90,80 @@ public class TracingIterator implements Iterator<ConsumerRecord<?, ?>> {
     if (currentScope != null) {
       currentScope.close();
       currentScope = null;
-      tracer.end(currentContext);
-      currentContext = null;
+      if (currentContext != null) {
+        tracer.end(currentContext);
+        currentContext = null;
+      }
+    }
+  }
+
+  /**
+   * Starts the receive span before the first record is processed. When it links to the producer
+   * spans, up to {@link KafkaConsumerTracer#MAX_RECEIVE_SPAN_LINKS} records are read ahead first,
+   * since links can only be added when the span starts. The SDK would drop any further links.
+   */
+  private void startBatchIfNeeded() {
+    if (!batchReceiveSpans || batchStarted) {
+      return;
+    }
+    batchStarted = true;
+    if (!delegateIterator.hasNext()) {
+      return;
+    }
+    List<ConsumerRecord<?, ?>> records = Collections.emptyList();
+    if (tracer.shouldLinkProducers(Context.current())) {
+      records = new ArrayList<>();
+      while (records.size() < KafkaConsumerTracer.MAX_RECEIVE_SPAN_LINKS
+          && delegateIterator.hasNext()) {
+        records.add(delegateIterator.next());
+      }
+      bufferedIterator = records.iterator();
+    }
+    endAbandonedBatch();
+    try {
+      batchContext = tracer.startReceiveSpan(records);
+      openBatch.set(this);
+    } catch (Exception e) {
+      log.debug("Error during decoration", e);
+    }
+  }
+
+  private void updateBatchTopic(ConsumerRecord<?, ?> record) {
+    if (batchTopic == null) {
+      batchTopic = record.topic();
+    } else if (!batchTopic.equals(record.topic())) {
+      batchHasMultipleTopics = true;
+    }
+  }
+
+  /**
+   * Ends the receive span once all the records were processed. If the application stops iterating
+   * early, the span is ended by {@link #endAbandonedBatch()} instead.
+   */
+  private void endBatchIfNeeded() {
+    if (batchContext == null) {
+      return;
+    }
+    if (openBatch.get() == this) {
+      openBatch.remove();
+    }
+    try {
+      tracer.endReceiveSpan(batchContext, batchHasMultipleTopics ? null : batchTopic);
+    } catch (Exception e) {
+      log.debug("Error during decoration", e);
+    }
+    batchContext = null;
+  }
+
+  /**
+   * Ends the receive span of the records that this thread stopped iterating over early, which is
+   * called when the consumer polls again or when the next batch starts.
+   */
+  public static void endAbandonedBatch() {
+    TracingIterator iterator = openBatch.get();
+    if (iterator != null) {
+      iterator.closeScopeAndEndSpan();
+      iterator.endBatchIfNeeded();
     }
   }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.api.trace.SpanKind.CONSUMER
+import static io.opentelemetry.api.trace.SpanKind.PRODUCER
+
+import io.opentelemetry.api.trace.Span
+import io.opentelemetry.sdk.trace.data.SpanData
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import org.apache.kafka.clients.consumer.ConsumerConfig
+import org.apache.kafka.clients.consumer.KafkaConsumer
+import org.springframework.kafka.core.DefaultKafkaProducerFactory
+import org.springframework.kafka.core.KafkaTemplate
+import org.springframework.kafka.test.utils.KafkaTestUtils
+
+class KafkaClientBatchReceiveTest extends KafkaClientBaseTest {
+
+  def "should create a single receive span linked to all producer spans"() {
+    setup:
+    def senderProps = KafkaTestUtils.senderProps(embeddedKafka.getBrokersAsString())
+    def producerFactory = new DefaultKafkaProducerFactory<String, String>(senderProps)
+    def kafkaTemplate = new KafkaTemplate<String, String>(producerFactory)
+
+    def consumerProperties = KafkaTestUtils.consumerProps("batch-receive", "false", embeddedKafka)
+    consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest")
+    def consumer = new KafkaConsumer<String, String>(consumerProperties)
+    consumer.subscribe([SHARED_TOPIC])
+
+    when: "send messages"
+    kafkaTemplate.send(SHARED_TOPIC, "first").get()
+    kafkaTemplate.send(SHARED_TOPIC, "second").get()
+
+    and: "consume them in a single batch"
+    def received = 0
+    def processedInReceiveSpan = 0
+    def deadline = System.currentTimeMillis() + 10_000
+    while (received < 2 && System.currentTimeMillis() < deadline) {
+      def records = consumer.poll(100)
+      if (records.count() == 2) {
+        for (def record : records) {
+          received++
+          // the receive span is still open while its records are processed
+          if (Span.current().isRecording()) {
+            processedInReceiveSpan++
+          }
+        }
+      } else if (records.count() > 0) {
+        // the records didn't arrive in a single batch, read them again
+        consumer.seekToBeginning(consumer.assignment())
+      }
+    }
+
+    then:
+    received == 2
+    processedInReceiveSpan == 2
+
+    SpanData firstProducer
+    SpanData secondProducer
+    assertTraces(3) {
+      trace(0, 1) {
+        span(0) {
+          name SHARED_TOPIC + " send"
+          kind PRODUCER
+          hasNoParent()
+        }
+        firstProducer = span(0)
+      }
+      trace(1, 1) {
+        span(0) {
+          name SHARED_TOPIC + " send"
+          kind PRODUCER
+          hasNoParent()
+        }
+        secondProducer = span(0)
+      }
+      trace(2, 1) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          errored false
+          hasNoParent()
+          hasLink firstProducer
+          hasLink secondProducer
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION.key}" SHARED_TOPIC
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "receive"
+          }
+        }
+      }
+    }
+
+    cleanup:
+    producerFactory.stop()
+    consumer?.close()
+  }
+
+  def "should end the receive span when the records are not all processed"() {
+    setup:
+    def senderProps = KafkaTestUtils.senderProps(embeddedKafka.getBrokersAsString())
+    def producerFactory = new DefaultKafkaProducerFactory<String, String>(senderProps)
+    def kafkaTemplate = new KafkaTemplate<String, String>(producerFactory)
+
+    def consumerProperties = KafkaTestUtils.consumerProps("batch-receive-abandoned", "false", embeddedKafka)
+    consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest")
+    def consumer = new KafkaConsumer<String, String>(consumerProperties)
+    consumer.subscribe([SHARED_TOPIC])
+
+    when: "send messages"
+    kafkaTemplate.send(SHARED_TOPIC, "first").get()
+    kafkaTemplate.send(SHARED_TOPIC, "second").get()
+
+    and: "stop iterating after the first record of a batch"
+    def processed = false
+    def deadline = System.currentTimeMillis() + 10_000
+    while (!processed && System.currentTimeMillis() < deadline) {
+      def records = consumer.poll(100)
+      if (records.count() == 2) {
+        def iterator = records.iterator()
+        iterator.hasNext()
+        iterator.next()
+        processed = true
+      } else if (records.count() > 0) {
+        // the records didn't arrive in a single batch, read them again
+        consumer.seekToBeginning(consumer.assignment())
+      }
+    }
+    def recordingAfterAbandoning = Span.current().isRecording()
+
+    and: "poll again"
+    consumer.poll(0)
+
+    then:
+    processed
+    // the scope of the receive span is still open until the next poll
+    recordingAfterAbandoning
+    !Span.current().isRecording()
+
+    assertTraces(3) {
+      trace(0, 1) {
+        span(0) {
+          name SHARED_TOPIC + " send"
+          kind PRODUCER
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name SHARED_TOPIC + " send"
+          kind PRODUCER
+        }
+      }
+      trace(2, 1) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          errored false
+          hasNoParent()
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION.key}" SHARED_TOPIC
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "receive"
+          }
+        }
+      }
+    }
+
+    cleanup:
+    producerFactory.stop()
+    consumer?.close()
+  }
+}
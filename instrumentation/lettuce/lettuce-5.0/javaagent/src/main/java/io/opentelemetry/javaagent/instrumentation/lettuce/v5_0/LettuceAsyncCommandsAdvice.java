@@ -9,19 +9,37 @@ import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge
 import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceDatabaseClientTracer.tracer;
 import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceInstrumentationUtil.expectsResponse;
 
+import io.lettuce.core.AbstractRedisAsyncCommands;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.RedisCommand;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import net.bytebuddy.asm.Advice;
 
 public class LettuceAsyncCommandsAdvice {
 
   @Advice.OnMethodEnter(suppress = Throwable.class)
   public static void onEnter(
+      @Advice.This AbstractRedisAsyncCommands<?, ?> commands,
       @Advice.Argument(0) RedisCommand<?, ?, ?> command,
+      @Advice.Local("otelBatch") LettuceCommandBatch batch,
+      @Advice.Local("otelStartNanos") long startNanos,
       @Advice.Local("otelContext") Context context,
       @Advice.Local("otelScope") Scope scope) {
+    StatefulConnection<?, ?> connection = commands.getConnection();
+    if (connection instanceof RedisChannelHandler) {
+      batch =
+          InstrumentationContext.get(RedisChannelHandler.class, LettuceCommandBatch.class)
+              .get((RedisChannelHandler<?, ?>) connection);
+    }
+    if (batch != null) {
+      context = batch.onCommandStart(currentContext(), command);
+      startNanos = System.nanoTime();
+      return;
+    }
 
     context = tracer().startSpan(currentContext(), null, command);
     scope = context.makeCurrent();
@@ -32,8 +50,14 @@ public class LettuceAsyncCommandsAdvice {
       @Advice.Argument(0) RedisCommand<?, ?, ?> command,
       @Advice.Thrown Throwable throwable,
       @Advice.Return AsyncCommand<?, ?, ?> asyncCommand,
+      @Advice.Local("otelBatch") LettuceCommandBatch batch,
+      @Advice.Local("otelStartNanos") long startNanos,
       @Advice.Local("otelContext") Context context,
       @Advice.Local("otelScope") Scope scope) {
+    if (batch != null) {
+      batch.onCommandEnd(context, command, startNanos, throwable, asyncCommand);
+      return;
+    }
     scope.close();
 
     if (throwable != null) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
+
+import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceDatabaseClientTracer.tracer;
+import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceInstrumentationUtil.expectsResponse;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
+import java.util.concurrent.CancellationException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The commands dispatched through a connection that doesn't flush its commands automatically,
+ * recorded as a single span that ends when they are flushed. A command only gets a span of its own
+ * when it fails or takes longer than the configured threshold from being dispatched until it
+ * completes.
+ *
+ * <p>Lettuce connections are shared between threads, so commands can be dispatched and flushed
+ * concurrently.
+ */
+public final class LettuceCommandBatch {
+
+  private RedisCommandBatch commands = new RedisCommandBatch();
+  @Nullable private Context context;
+
+  /**
+   * Adds a dispatched command to the batch, and returns the context of the span it's recorded in.
+   */
+  public synchronized Context onCommandStart(Context parentContext, RedisCommand<?, ?, ?> command) {
+    if (context == null) {
+      context = tracer().startPipelineSpan(parentContext);
+    }
+    // the arguments are only encoded when the commands are flushed
+    commands.add(LettuceInstrumentationUtil.getCommandName(command));
+    return context;
+  }
+
+  public void onCommandEnd(
+      Context batchContext,
+      RedisCommand<?, ?, ?> command,
+      long startNanos,
+      @Nullable Throwable throwable,
+      @Nullable AsyncCommand<?, ?, ?> asyncCommand) {
+    if (throwable != null) {
+      recordCommand(batchContext, command, startNanos, throwable);
+    } else if (asyncCommand != null && expectsResponse(command)) {
+      asyncCommand.whenComplete(
+          (result, error) -> onCommandComplete(batchContext, command, startNanos, error));
+    }
+  }
+
+  private static void onCommandComplete(
+      Context batchContext,
+      RedisCommand<?, ?, ?> command,
+      long startNanos,
+      @Nullable Throwable error) {
+    if (error != null && !(error instanceof CancellationException)) {
+      recordCommand(batchContext, command, startNanos, error);
+    } else if (RedisCommandBatch.isSlow(System.nanoTime() - startNanos)) {
+      recordCommand(batchContext, command, startNanos, null);
+    }
+  }
+
+  private static void recordCommand(
+      Context batchContext,
+      RedisCommand<?, ?, ?> command,
+      long startNanos,
+      @Nullable Throwable throwable) {
+    long durationNanos = System.nanoTime() - startNanos;
+    long endTimeNanos = MILLISECONDS.toNanos(System.currentTimeMillis());
+    Context commandContext =
+        tracer().startSpan(batchContext, null, command, endTimeNanos - durationNanos);
+    if (throwable != null) {
+      tracer().endExceptionally(commandContext, throwable, endTimeNanos);
+    } else {
+      tracer().end(commandContext, endTimeNanos);
+    }
+  }
+
+  /**
+   * Ends the span of the commands dispatched since they were last flushed, the next command will
+   * start a new one.
+   */
+  public void end() {
+    Context context;
+    RedisCommandBatch commands;
+    synchronized (this) {
+      if (this.context == null) {
+        return;
+      }
+      context = this.context;
+      commands = this.commands;
+      this.context = null;
+      this.commands = new RedisCommandBatch();
+    }
+    tracer().endPipelineSpan(context, commands);
+  }
+}
@@ -5,29 +5,49 @@
 
 package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
 
+import static io.opentelemetry.api.trace.SpanKind.CLIENT;
+
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.protocol.RedisCommand;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter;
-import java.util.Collections;
-import java.util.List;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 
 public class LettuceDatabaseClientTracer
     extends LettuceAbstractDatabaseClientTracer<RedisCommand<?, ?, ?>> {
+  private static final String PIPELINE = "PIPELINE";
+
   private static final LettuceDatabaseClientTracer TRACER = new LettuceDatabaseClientTracer();
 
   public static LettuceDatabaseClientTracer tracer() {
     return TRACER;
   }
 
+  /**
+   * Starts the span of the commands dispatched while a connection doesn't flush them automatically.
+   * The commands are added when it's {@linkplain #endPipelineSpan ended}.
+   */
+  public Context startPipelineSpan(Context parentContext) {
+    Span span =
+        spanBuilder(parentContext, PIPELINE, CLIENT)
+            .setAttribute(SemanticAttributes.DB_SYSTEM, dbSystem(null))
+            .startSpan();
+    return withClientSpan(parentContext, span);
+  }
+
+  public void endPipelineSpan(Context context, RedisCommandBatch commands) {
+    commands.setAttributes(Span.fromContext(context)::setAttribute);
+    end(context);
+  }
+
   @Override
   protected String sanitizeStatement(RedisCommand<?, ?, ?> redisCommand) {
     String command = LettuceInstrumentationUtil.getCommandName(redisCommand);
-    List<String> args =
-        redisCommand.getArgs() == null
-            ? Collections.emptyList()
-            : LettuceArgSplitter.splitArgs(redisCommand.getArgs().toCommandString());
-    return RedisCommandSanitizer.sanitize(command, args);
+    return RedisCommandSanitizer.sanitize(
+        command, LettuceArgSplitter.iterateCommandArgs(redisCommand.getArgs()));
   }
 
   @Override
@@ -0,0 +1,24 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import net.bytebuddy.asm.Advice;
+
+public class LettuceFlushCommandsAdvice {
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+  public static void onExit(@Advice.This RedisChannelHandler<?, ?> connection) {
+    LettuceCommandBatch batch =
+        InstrumentationContext.get(RedisChannelHandler.class, LettuceCommandBatch.class)
+            .get(connection);
+    if (batch != null) {
+      // the connection still doesn't flush automatically, the next command starts a new span
+      batch.end();
+    }
+  }
+}
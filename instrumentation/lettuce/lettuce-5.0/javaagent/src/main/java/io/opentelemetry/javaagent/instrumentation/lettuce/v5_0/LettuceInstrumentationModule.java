@@ -7,12 +7,14 @@ package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
 
 import static io.opentelemetry.javaagent.tooling.bytebuddy.matcher.ClassLoaderMatcher.hasClassesNamed;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.tooling.InstrumentationModule;
 import io.opentelemetry.javaagent.tooling.TypeInstrumentation;
 import java.util.List;
+import java.util.Map;
 import net.bytebuddy.matcher.ElementMatcher;
 
 @AutoService(InstrumentationModule.class)
@@ -31,6 +33,13 @@ public class LettuceInstrumentationModule extends InstrumentationModule {
     return asList(
         new LettuceAsyncCommandsInstrumentation(),
         new LettuceClientInstrumentation(),
+        new LettuceConnectionInstrumentation(),
         new LettuceReactiveCommandsInstrumentation());
   }
+
+  @Override
+  public Map<String, String> contextStore() {
+    // the batch of a connection that doesn't flush its commands automatically
+    return singletonMap("io.lettuce.core.RedisChannelHandler", LettuceCommandBatch.class.getName());
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import net.bytebuddy.asm.Advice;
+
+public class LettuceSetAutoFlushCommandsAdvice {
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+  public static void onExit(
+      @Advice.This RedisChannelHandler<?, ?> connection, @Advice.Argument(0) boolean autoFlush) {
+    ContextStore<RedisChannelHandler, LettuceCommandBatch> contextStore =
+        InstrumentationContext.get(RedisChannelHandler.class, LettuceCommandBatch.class);
+    LettuceCommandBatch batch = contextStore.get(connection);
+    if (autoFlush) {
+      if (batch != null) {
+        contextStore.put(connection, null);
+        batch.end();
+      }
+    } else if (batch == null && RedisCommandBatch.isEnabled()) {
+      contextStore.put(connection, new LettuceCommandBatch());
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+
+import io.lettuce.core.ClientOptions
+import io.lettuce.core.RedisClient
+import io.lettuce.core.RedisCommandExecutionException
+import io.lettuce.core.api.StatefulRedisConnection
+import io.lettuce.core.api.async.RedisAsyncCommands
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import redis.embedded.RedisServer
+import spock.lang.Shared
+
+// runs in the testBatchSpans task, with otel.instrumentation.redis.experimental-batch-spans.enabled
+class LettucePipelineTest extends AgentInstrumentationSpecification {
+  public static final String PEER_NAME = "localhost"
+  public static final int DB_INDEX = 0
+  // Disable autoreconnect so we do not get stray traces popping up on server shutdown
+  public static final ClientOptions CLIENT_OPTIONS = ClientOptions.builder().autoReconnect(false).build()
+
+  @Shared
+  int port = PortUtils.findOpenPort()
+
+  @Shared
+  RedisServer redisServer = RedisServer.builder()
+  // bind to localhost to avoid firewall popup
+    .setting("bind " + PEER_NAME)
+  // set max memory to avoid problems in CI
+    .setting("maxmemory 128M")
+    .port(port).build()
+
+  RedisClient redisClient
+  StatefulRedisConnection<String, String> connection
+  RedisAsyncCommands<String, String> asyncCommands
+
+  def setupSpec() {
+    println "Using redis: $redisServer.args"
+    redisServer.start()
+  }
+
+  def cleanupSpec() {
+    redisServer.stop()
+  }
+
+  def setup() {
+    redisClient = RedisClient.create("redis://" + PEER_NAME + ":" + port + "/" + DB_INDEX)
+    redisClient.setOptions(CLIENT_OPTIONS)
+    connection = redisClient.connect()
+    asyncCommands = connection.async()
+    asyncCommands.flushall().get(3, TimeUnit.SECONDS)
+
+    // 1 connect + 1 flushall trace
+    ignoreTracesAndClear(2)
+  }
+
+  def cleanup() {
+    connection.close()
+    redisClient.shutdown()
+  }
+
+  def "commands dispatched without flushing are recorded as a single span"() {
+    when:
+    connection.setAutoFlushCommands(false)
+    def first = asyncCommands.set("foo", "bar")
+    def second = asyncCommands.set("baz", "qux")
+    def value = asyncCommands.get("foo")
+    connection.flushCommands()
+    first.get(3, TimeUnit.SECONDS)
+    second.get(3, TimeUnit.SECONDS)
+    value.get(3, TimeUnit.SECONDS)
+    // flushed automatically again
+    connection.setAutoFlushCommands(true)
+    asyncCommands.get("baz").get(3, TimeUnit.SECONDS)
+
+    then:
+    value.get() == "bar"
+
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "db.redis.batch.command_count" 3
+            "db.redis.batch.command_counts" "SET=2,GET=1"
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "GET"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_STATEMENT.key" "GET baz"
+          }
+        }
+      }
+    }
+  }
+
+  def "failed command of a pipeline gets a span of its own"() {
+    when:
+    connection.setAutoFlushCommands(false)
+    def set = asyncCommands.set("foo", "bar")
+    def hget = asyncCommands.hget("foo", "field")
+    connection.flushCommands()
+    set.get(3, TimeUnit.SECONDS)
+    hget.get(3, TimeUnit.SECONDS)
+
+    then:
+    def exception = thrown(ExecutionException)
+    exception.cause instanceof RedisCommandExecutionException
+
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "db.redis.batch.command_count" 2
+            "db.redis.batch.command_counts" "SET=1,HGET=1"
+          }
+        }
+        span(1) {
+          name "HGET"
+          kind CLIENT
+          childOf span(0)
+          errored true
+          errorEvent(RedisCommandExecutionException, ~/WRONGTYPE.*/)
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_STATEMENT.key" "HGET foo field"
+          }
+        }
+      }
+    }
+  }
+}
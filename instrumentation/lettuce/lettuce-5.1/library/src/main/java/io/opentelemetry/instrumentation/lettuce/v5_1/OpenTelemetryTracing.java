@@ -5,9 +5,11 @@
 
 package io.opentelemetry.instrumentation.lettuce.v5_1;
 
-import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter.splitArgs;
+import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter.iterateArgs;
+import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter.iterateCommandArgs;
 
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CompleteableCommand;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.tracing.TraceContext;
@@ -172,6 +174,8 @@ final class OpenTelemetryTracing implements Tracing {
 
     @Nullable private String args;
 
+    @Nullable private CommandArgs<?, ?> commandArgs;
+
     OpenTelemetrySpan(SpanBuilder spanBuilder) {
       this.spanBuilder = spanBuilder;
     }
@@ -210,9 +214,7 @@ final class OpenTelemetryTracing implements Tracing {
       }
       span.updateName(command.getType().name());
 
-      if (command.getArgs() != null) {
-        args = command.getArgs().toCommandString();
-      }
+      commandArgs = command.getArgs();
 
       if (command instanceof CompleteableCommand) {
         CompleteableCommand<?> completeableCommand = (CompleteableCommand<?>) command;
@@ -308,7 +310,10 @@ final class OpenTelemetryTracing implements Tracing {
 
     private void finish(Span span) {
       if (name != null) {
-        String statement = RedisCommandSanitizer.sanitize(name, splitArgs(args));
+        // before 6.0 lettuce only passes the args as a string, through the redis.args tag
+        String statement =
+            RedisCommandSanitizer.sanitize(
+                name, commandArgs != null ? iterateCommandArgs(commandArgs) : iterateArgs(args));
         span.setAttribute(SemanticAttributes.DB_STATEMENT, statement);
       }
       span.end();
@@ -5,9 +5,14 @@
 
 package io.opentelemetry.instrumentation.lettuce.common;
 
-import java.util.ArrayList;
+import io.lettuce.core.protocol.CommandArgs;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.ArgumentIterator;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -16,24 +21,122 @@ public final class LettuceArgSplitter {
   private static final Pattern KEY_PATTERN =
       Pattern.compile("((key|value)<(?<wrapped>[^>]+)>|(?<plain>[0-9A-Za-z=]+))(\\s+|$)");
 
+  // CommandArgs does not expose its arguments other than through toCommandString(), which converts
+  // all of them to strings up front
+  @Nullable private static final MethodHandle SINGULAR_ARGUMENTS = findSingularArguments();
+
+  @Nullable
+  private static MethodHandle findSingularArguments() {
+    try {
+      Field field = CommandArgs.class.getDeclaredField("singularArguments");
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectGetter(field);
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  // iterates over the args of the command without going through toCommandString(), so that skipped
+  // args are never converted to strings
+  public static ArgumentIterator iterateCommandArgs(@Nullable CommandArgs<?, ?> args) {
+    if (args == null) {
+      return ArgumentIterator.of(Collections.emptyList());
+    }
+    List<?> singularArguments = getSingularArguments(args);
+    if (singularArguments == null) {
+      return iterateArgs(args.toCommandString());
+    }
+    return new SingularArgsIterator(singularArguments);
+  }
+
+  @Nullable
+  private static List<?> getSingularArguments(CommandArgs<?, ?> args) {
+    if (SINGULAR_ARGUMENTS == null) {
+      return null;
+    }
+    try {
+      return (List<?>) SINGULAR_ARGUMENTS.invoke(args);
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
   // this method removes the key|value<...> wrappers around redis keys or values and splits the args
-  // string
-  public static List<String> splitArgs(@Nullable String args) {
+  // string; it is only split as far as the returned iterator is read, and skipped args are never
+  // copied out of it
+  public static ArgumentIterator iterateArgs(@Nullable String args) {
     if (args == null || args.isEmpty()) {
-      return Collections.emptyList();
+      return ArgumentIterator.of(Collections.emptyList());
+    }
+    return new ArgsIterator(KEY_PATTERN.matcher(args));
+  }
+
+  private static final class ArgsIterator implements ArgumentIterator {
+    private final Matcher matcher;
+    private boolean hasNext;
+
+    private ArgsIterator(Matcher matcher) {
+      this.matcher = matcher;
+      hasNext = matcher.find();
     }
 
-    List<String> argsList = new ArrayList<>();
-    Matcher m = KEY_PATTERN.matcher(args);
-    while (m.find()) {
-      String wrapped = m.group("wrapped");
-      if (wrapped != null) {
-        argsList.add(wrapped);
-      } else {
-        argsList.add(m.group("plain"));
+    @Override
+    public boolean hasNext() {
+      return hasNext;
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext) {
+        throw new NoSuchElementException();
+      }
+      String wrapped = matcher.group("wrapped");
+      String arg = wrapped != null ? wrapped : matcher.group("plain");
+      hasNext = matcher.find();
+      return arg;
+    }
+
+    @Override
+    public void skip() {
+      hasNext = matcher.find();
+    }
+  }
+
+  private static final class SingularArgsIterator implements ArgumentIterator {
+    private final List<?> args;
+    private int index;
+
+    private SingularArgsIterator(List<?> args) {
+      this.args = args;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < args.size();
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      // keys and values are printed as key<...> and value<...>, the same as in toCommandString()
+      String arg = String.valueOf(args.get(index++));
+      if (arg.endsWith(">")) {
+        if (arg.startsWith("key<")) {
+          return arg.substring("key<".length(), arg.length() - 1);
+        }
+        if (arg.startsWith("value<")) {
+          return arg.substring("value<".length(), arg.length() - 1);
+        }
       }
+      return arg;
+    }
+
+    @Override
+    public void skip() {
+      index++;
     }
-    return argsList;
   }
 
   private LettuceArgSplitter() {}
@@ -5,14 +5,24 @@
 
 package io.opentelemetry.instrumentation.lettuce.common
 
+import io.lettuce.core.codec.StringCodec
+import io.lettuce.core.protocol.CommandArgs
+import io.lettuce.core.protocol.CommandKeyword
 import spock.lang.Specification
 import spock.lang.Unroll
 
 class LettuceArgSplitterTest extends Specification {
   @Unroll
   def "should properly split #desc"() {
-    expect:
-    LettuceArgSplitter.splitArgs(args) == result
+    when:
+    def iterator = LettuceArgSplitter.iterateArgs(args)
+    def split = []
+    while (iterator.hasNext()) {
+      split.add(iterator.next())
+    }
+
+    then:
+    split == result
 
     where:
     desc                     | args                                     | result
@@ -25,4 +35,50 @@ class LettuceArgSplitterTest extends Specification {
     "a base64 value"         | "TeST123=="                              | ["TeST123=="]
     "a complex list of args" | "key<key> aSDFgh4321= 5 test value<val>" | ["key", "aSDFgh4321=", "5", "test", "val"]
   }
+
+  def "should skip args without splitting them out"() {
+    given:
+    def args = "key<key> aSDFgh4321= 5 test value<val>"
+
+    when:
+    def iterator = LettuceArgSplitter.iterateArgs(args)
+    def first = iterator.next()
+    iterator.skip()
+    def rest = []
+    while (iterator.hasNext()) {
+      rest.add(iterator.next())
+    }
+
+    then:
+    first == "key"
+    rest == ["5", "test", "val"]
+  }
+
+  def "should iterate command args without converting them to a string"() {
+    given:
+    def args = new CommandArgs<>(StringCodec.UTF8)
+      .addKey("key")
+      .add("aSDFgh4321=")
+      .add(5)
+      .add(CommandKeyword.LIMIT)
+      .addValue("some value")
+
+    when:
+    def iterator = LettuceArgSplitter.iterateCommandArgs(args)
+    def first = iterator.next()
+    iterator.skip()
+    def rest = []
+    while (iterator.hasNext()) {
+      rest.add(iterator.next())
+    }
+
+    then:
+    first == "key"
+    rest == ["5", "LIMIT", "some value"]
+  }
+
+  def "should iterate null command args"() {
+    expect:
+    !LettuceArgSplitter.iterateCommandArgs(null).hasNext()
+  }
 }
@@ -5,14 +5,10 @@
 
 package io.opentelemetry.instrumentation.log4j.v2_13_2;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
-
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.instrumentation.api.log.SpanContextMap;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import org.apache.logging.log4j.core.util.ContextDataProvider;
 
@@ -30,16 +26,11 @@ public class OpenTelemetryContextDataProvider implements ContextDataProvider {
    */
   @Override
   public Map<String, String> supplyContextData() {
-    Span currentSpan = Span.current();
-    if (!currentSpan.getSpanContext().isValid()) {
+    SpanContext spanContext = Span.current().getSpanContext();
+    if (!spanContext.isValid()) {
       return Collections.emptyMap();
     }
 
-    Map<String, String> contextData = new HashMap<>();
-    SpanContext spanContext = currentSpan.getSpanContext();
-    contextData.put(TRACE_ID, spanContext.getTraceId());
-    contextData.put(SPAN_ID, spanContext.getSpanId());
-    contextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
-    return contextData;
+    return SpanContextMap.create(spanContext);
   }
 }
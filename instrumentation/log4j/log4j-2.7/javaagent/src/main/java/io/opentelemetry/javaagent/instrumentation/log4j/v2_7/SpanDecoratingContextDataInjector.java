@@ -39,7 +39,12 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
       return contextData;
     }
 
-    StringMap newContextData = new SortedArrayStringMap(contextData);
+    // the reusable map passed in belongs to the event being created, it's only necessary to copy
+    // the context data if the delegate returned a different (e.g. copy-on-write, frozen) map
+    StringMap newContextData =
+        contextData == stringMap && !contextData.isFrozen()
+            ? contextData
+            : new SortedArrayStringMap(contextData);
     newContextData.putValue(TRACE_ID, currentContext.getTraceId());
     newContextData.putValue(SPAN_ID, currentContext.getSpanId());
     newContextData.putValue(TRACE_FLAGS, currentContext.getTraceFlags().asHex());
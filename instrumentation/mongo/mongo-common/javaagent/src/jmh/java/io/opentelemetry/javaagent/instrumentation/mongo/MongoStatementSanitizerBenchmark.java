@@ -0,0 +1,123 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.mongo;
+
+import static java.util.Arrays.asList;
+
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonArray;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MongoStatementSanitizerBenchmark {
+
+  @Param({"find", "update", "aggregate"})
+  public String shape;
+
+  private final MongoClientTracer tracer = new MongoClientTracer();
+  private BsonDocument command;
+
+  @Setup
+  public void setUp() {
+    command = command(shape);
+  }
+
+  @Benchmark
+  public String cached() {
+    return tracer.sanitizeStatement(command);
+  }
+
+  @Benchmark
+  public String uncached() {
+    return tracer.scrubbedJson(command);
+  }
+
+  private static BsonDocument command(String shape) {
+    switch (shape) {
+      case "find":
+        return new BsonDocument("find", new BsonString("orders"))
+            .append(
+                "filter",
+                new BsonDocument("customerId", new BsonInt64(1234567L))
+                    .append("status", new BsonDocument("$in", strings("NEW", "PAID", "SHIPPED")))
+                    .append(
+                        "createdAt",
+                        new BsonDocument("$gte", new BsonDateTime(1617235200000L))))
+            .append("sort", new BsonDocument("createdAt", new BsonInt32(-1)))
+            .append("limit", new BsonInt32(50))
+            .append("$db", new BsonString("shop"));
+      case "update":
+        return new BsonDocument("update", new BsonString("accounts"))
+            .append(
+                "updates",
+                new BsonArray(
+                    asList(
+                        new BsonDocument("q", new BsonDocument("_id", new BsonInt64(42L)))
+                            .append(
+                                "u",
+                                new BsonDocument(
+                                        "$set",
+                                        new BsonDocument("email", new BsonString("a@example.com"))
+                                            .append("verified", new BsonInt32(1)))
+                                    .append(
+                                        "$inc",
+                                        new BsonDocument("balance", new BsonDouble(-100.5))))
+                            .append("upsert", new BsonInt32(0)))))
+            .append("ordered", new BsonInt32(1))
+            .append("$db", new BsonString("bank"));
+      case "aggregate":
+        return new BsonDocument("aggregate", new BsonString("events"))
+            .append(
+                "pipeline",
+                new BsonArray(
+                    asList(
+                        new BsonDocument(
+                            "$match",
+                            new BsonDocument("type", new BsonString("click"))
+                                .append(
+                                    "ts", new BsonDocument("$gte", new BsonInt64(1617235200000L)))),
+                        new BsonDocument(
+                            "$group",
+                            new BsonDocument("_id", new BsonString("$page"))
+                                .append("count", new BsonDocument("$sum", new BsonInt32(1)))),
+                        new BsonDocument("$sort", new BsonDocument("count", new BsonInt32(-1))),
+                        new BsonDocument("$limit", new BsonInt32(10)))))
+            .append("cursor", new BsonDocument())
+            .append("$db", new BsonString("analytics"));
+      default:
+        throw new IllegalArgumentException(shape);
+    }
+  }
+
+  private static BsonArray strings(String... values) {
+    BsonArray array = new BsonArray();
+    for (String value : values) {
+      array.add(new BsonString(value));
+    }
+    return array;
+  }
+}
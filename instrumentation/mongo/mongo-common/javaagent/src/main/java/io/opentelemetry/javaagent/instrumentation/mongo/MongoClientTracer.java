@@ -11,6 +11,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.connection.ConnectionDescription;
 import com.mongodb.event.CommandStartedEvent;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
@@ -19,6 +20,7 @@ import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
@@ -32,10 +34,22 @@ import org.bson.json.JsonWriterSettings;
 
 public class MongoClientTracer
     extends DatabaseClientTracer<CommandStartedEvent, BsonDocument, String> {
+  // bounds the total number of characters held by the cache, like the SQL statement cache
+  private static final long CACHE_MAX_WEIGHT = 1024 * 1024;
+  // initialized before TRACER, which uses it
+  private static final Duration CACHE_EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
   private static final MongoClientTracer TRACER = new MongoClientTracer();
 
   private final int maxNormalizedQueryLength;
   private final JsonWriterSettings jsonWriterSettings;
+  // scrubbed statements by the shape of the command, see appendShape()
+  private final Cache<String, String> statementCache =
+      Cache.newBuilder()
+          .setMaximumWeight(CACHE_MAX_WEIGHT, MongoClientTracer::weigh)
+          .setExpireAfterAccess(CACHE_EXPIRE_AFTER_ACCESS)
+          .setRecordStats("mongo-statement-sanitizer")
+          .build();
 
   public MongoClientTracer() {
     this(32 * 1024);
@@ -58,6 +72,17 @@ public class MongoClientTracer
 
   @Override
   protected String sanitizeStatement(BsonDocument command) {
+    // the scrubbed statement only depends on the field names and nesting of the command (and the
+    // collection name), most applications only send a handful of distinct shapes
+    StringBuilder shape = new StringBuilder(64);
+    if (!appendShape(command, shape, true, maxNormalizedQueryLength)) {
+      return scrubbedJson(command);
+    }
+    return statementCache.computeIfAbsent(shape.toString(), unused -> scrubbedJson(command));
+  }
+
+  // visible for benchmark
+  String scrubbedJson(BsonDocument command) {
     StringWriter stringWriter = new StringWriter(128);
     writeScrubbed(command, new JsonWriter(stringWriter, jsonWriterSettings), true);
     // If using MongoDB driver >= 3.7, the substring invocation will be a no-op due to use of
@@ -191,6 +216,56 @@ public class MongoClientTracer
 
   private static final String HIDDEN_CHAR = "?";
 
+  /**
+   * Appends the structure of the document to the passed builder: everything that the scrubbed
+   * statement depends on, which is the field names and the nesting of documents and arrays, and the
+   * preserved value of the first field. Names and the preserved value are prefixed with their
+   * length, so that different shapes never map to the same string.
+   *
+   * @return false if the shape is longer than {@code maxLength}, such shapes are not cached
+   */
+  private static boolean appendShape(
+      BsonDocument document, StringBuilder shape, boolean isRoot, int maxLength) {
+    shape.append('{');
+    boolean firstField = true;
+    for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+      String name = entry.getKey();
+      shape.append(name.length()).append(':').append(name);
+      BsonValue value = entry.getValue();
+      // same condition as in writeScrubbed()
+      if (isRoot && firstField && value.isString()) {
+        String preserved = value.asString().getValue();
+        shape.append('"').append(preserved.length()).append(':').append(preserved);
+      } else if (!appendShape(value, shape, maxLength)) {
+        return false;
+      }
+      firstField = false;
+    }
+    shape.append('}');
+    return shape.length() <= maxLength;
+  }
+
+  private static boolean appendShape(BsonValue value, StringBuilder shape, int maxLength) {
+    if (value.isDocument()) {
+      return appendShape(value.asDocument(), shape, false, maxLength);
+    } else if (value.isArray()) {
+      shape.append('[');
+      for (BsonValue element : value.asArray()) {
+        if (!appendShape(element, shape, maxLength)) {
+          return false;
+        }
+      }
+      shape.append(']');
+    } else {
+      shape.append('?');
+    }
+    return shape.length() <= maxLength;
+  }
+
+  private static int weigh(String shape, String statement) {
+    return shape.length() + statement.length();
+  }
+
   private static boolean writeScrubbed(BsonDocument origin, JsonWriter writer, boolean isRoot) {
     writer.writeStartDocument();
     boolean firstField = true;
@@ -72,6 +72,51 @@ class MongoClientTracerTest extends Specification {
     normalized == '{"cmd": "c", "f1": ["?", "?' || normalized == '{"cmd": "c", "f1": ["?",'
   }
 
+  def 'should reuse statements of commands with the same shape'() {
+    setup:
+    def tracer = new MongoClientTracer()
+
+    expect:
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonInt32(42)))) ==
+      '{"find": "users", "filter": {"age": "?"}}'
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonString("old")))) ==
+      '{"find": "users", "filter": {"age": "?"}}'
+    // the preserved collection name is a part of the shape
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("orders"))
+        .append("filter", new BsonDocument("age", new BsonInt32(42)))) ==
+      '{"find": "orders", "filter": {"age": "?"}}'
+    // nesting is a part of the shape
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonArray(asList(new BsonInt32(42)))))) ==
+      '{"find": "users", "filter": {"age": ["?"]}}'
+    // so is the length of arrays, every element keeps its placeholder
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonDocument("\$in",
+          new BsonArray(asList(new BsonInt32(1), new BsonInt32(2), new BsonInt32(3))))))) ==
+      '{"find": "users", "filter": {"age": {"\$in": ["?", "?", "?"]}}}'
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonDocument("\$in",
+          new BsonArray(asList(new BsonInt32(1), new BsonInt32(2))))))) ==
+      '{"find": "users", "filter": {"age": {"\$in": ["?", "?"]}}}'
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("age", new BsonDocument("\$in", new BsonArray())))) ==
+      '{"find": "users", "filter": {"age": {"\$in": []}}}'
+    // field names that look like the shape encoding don't collide with other shapes
+    sanitizeStatementAcrossVersions(tracer,
+      new BsonDocument("find", new BsonString("users"))
+        .append("filter", new BsonDocument("3:age?", new BsonInt32(42)))) ==
+      '{"find": "users", "filter": {"3:age?": "?"}}'
+  }
+
   def 'test span name with no dbName'() {
     setup:
     def tracer = new MongoClientTracer()
@@ -72,6 +72,9 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
    * currently implemented.
    */
   public static class ChannelPipelineAdviceUtil {
+    public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+        CallDepthThreadLocalMap.key(ChannelPipeline.class);
+
     public static void wrapHandler(
         ContextStore<Channel, ChannelTraceContext> contextStore,
         ChannelPipeline pipeline,
@@ -104,7 +107,7 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
               new HttpClientResponseTracingHandler(contextStore));
         }
       } finally {
-        CallDepthThreadLocalMap.reset(ChannelPipeline.class);
+        CallDepthThreadLocalMap.reset(ChannelPipelineAdviceUtil.CALL_DEPTH_KEY);
       }
     }
   }
@@ -119,7 +122,7 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
       if (pipeline.get(handler.getClass().getName()) != null) {
         pipeline.remove(handler.getClass().getName());
       }
-      return CallDepthThreadLocalMap.incrementCallDepth(ChannelPipeline.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(ChannelPipelineAdviceUtil.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -148,7 +151,7 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
       if (pipeline.get(handler.getClass().getName()) != null) {
         pipeline.remove(handler.getClass().getName());
       }
-      return CallDepthThreadLocalMap.incrementCallDepth(ChannelPipeline.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(ChannelPipelineAdviceUtil.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -21,19 +21,28 @@ public class HttpServerRequestTracingHandler extends SimpleChannelUpstreamHandle
 
   private final ContextStore<Channel, ChannelTraceContext> contextStore;
 
+  // a handler instance is added to the pipeline of a single channel, so the channel's trace context
+  // is looked up once instead of for every chunk of a request body
+  private ChannelTraceContext channelTraceContext;
+
   public HttpServerRequestTracingHandler(ContextStore<Channel, ChannelTraceContext> contextStore) {
     this.contextStore = contextStore;
   }
 
   @Override
   public void messageReceived(ChannelHandlerContext ctx, MessageEvent event) {
-    ChannelTraceContext channelTraceContext =
-        contextStore.putIfAbsent(ctx.getChannel(), ChannelTraceContext.Factory.INSTANCE);
+    ChannelTraceContext channelTraceContext = this.channelTraceContext;
+    if (channelTraceContext == null) {
+      channelTraceContext =
+          contextStore.putIfAbsent(ctx.getChannel(), ChannelTraceContext.Factory.INSTANCE);
+      this.channelTraceContext = channelTraceContext;
+    }
 
     Object message = event.getMessage();
     if (!(message instanceof HttpRequest)) {
       Context serverContext = tracer().getServerContext(channelTraceContext);
-      if (serverContext == null) {
+      // the context is usually current already when the chunks are read right after the request
+      if (serverContext == null || serverContext == Context.current()) {
         ctx.sendUpstream(event);
       } else {
         try (Scope ignored = serverContext.makeCurrent()) {
@@ -48,7 +57,7 @@ public class HttpServerRequestTracingHandler extends SimpleChannelUpstreamHandle
     Context context =
         tracer()
             .startSpan(
-                request, ctx.getChannel(), channelTraceContext, "HTTP " + request.getMethod());
+                request, ctx.getChannel(), channelTraceContext, tracer().spanName(request));
     try (Scope ignored = context.makeCurrent()) {
       ctx.sendUpstream(event);
       // the span is ended normally in HttpServerResponseTracingHandler
@@ -13,7 +13,11 @@ import io.opentelemetry.instrumentation.api.tracer.HttpServerTracer;
 import io.opentelemetry.javaagent.instrumentation.netty.v3_8.ChannelTraceContext;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.jboss.netty.channel.Channel;
+import org.jboss.netty.handler.codec.http.HttpMethod;
 import org.jboss.netty.handler.codec.http.HttpRequest;
 import org.jboss.netty.handler.codec.http.HttpResponse;
 
@@ -25,6 +29,32 @@ public class NettyHttpServerTracer
     return TRACER;
   }
 
+  // span names of the standard methods are only built once; other methods are not cached, so that
+  // arbitrary request methods can't grow the map
+  private static final Map<HttpMethod, String> SPAN_NAMES = new HashMap<>();
+
+  static {
+    for (HttpMethod method :
+        Arrays.asList(
+            HttpMethod.OPTIONS,
+            HttpMethod.GET,
+            HttpMethod.HEAD,
+            HttpMethod.POST,
+            HttpMethod.PUT,
+            HttpMethod.PATCH,
+            HttpMethod.DELETE,
+            HttpMethod.TRACE,
+            HttpMethod.CONNECT)) {
+      SPAN_NAMES.put(method, "HTTP " + method.getName());
+    }
+  }
+
+  public String spanName(HttpRequest request) {
+    HttpMethod method = request.getMethod();
+    String spanName = SPAN_NAMES.get(method);
+    return spanName != null ? spanName : "HTTP " + method.getName();
+  }
+
   @Override
   protected String method(HttpRequest httpRequest) {
     return httpRequest.getMethod().getName();
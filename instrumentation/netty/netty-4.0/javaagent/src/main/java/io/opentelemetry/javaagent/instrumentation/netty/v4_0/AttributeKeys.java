@@ -5,13 +5,18 @@
 
 package io.opentelemetry.javaagent.instrumentation.netty.v4_0;
 
+import io.netty.channel.ChannelPipeline;
 import io.netty.util.AttributeKey;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 public class AttributeKeys {
 
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(ChannelPipeline.class);
+
   private static final ClassValue<ConcurrentMap<String, AttributeKey<?>>> mapSupplier =
       new ClassValue<ConcurrentMap<String, AttributeKey<?>>>() {
         @Override
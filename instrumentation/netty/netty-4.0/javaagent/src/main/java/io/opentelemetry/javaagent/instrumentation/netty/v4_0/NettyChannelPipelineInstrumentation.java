@@ -73,7 +73,7 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
   public static class ChannelPipelineAddAdvice {
     @Advice.OnMethodEnter
     public static int trackCallDepth() {
-      return CallDepthThreadLocalMap.incrementCallDepth(ChannelPipeline.class);
+      return CallDepthThreadLocalMap.incrementCallDepth(AttributeKeys.CALL_DEPTH_KEY);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -84,7 +84,7 @@ public class NettyChannelPipelineInstrumentation implements TypeInstrumentation
       if (callDepth > 0) {
         return;
       }
-      CallDepthThreadLocalMap.reset(ChannelPipeline.class);
+      CallDepthThreadLocalMap.reset(AttributeKeys.CALL_DEPTH_KEY);
 
       try {
         // Server pipeline handlers
@@ -16,6 +16,16 @@ import io.opentelemetry.context.Scope;
 
 public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdapter {
 
+  // the handler reading the requests of the same channel, it keeps the context of the request
+  // being read until its response has been written
+  private HttpServerRequestTracingHandler requestHandler;
+
+  public HttpServerResponseTracingHandler() {}
+
+  HttpServerResponseTracingHandler(HttpServerRequestTracingHandler requestHandler) {
+    this.requestHandler = requestHandler;
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise prm) {
     Context context = tracer().getServerContext(ctx.channel());
@@ -28,8 +38,20 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
       ctx.write(msg, prm);
     } catch (Throwable throwable) {
       tracer().endExceptionally(context, throwable);
+      onResponseCompleted(ctx, context);
       throw throwable;
     }
     tracer().end(context, (HttpResponse) msg);
+    onResponseCompleted(ctx, context);
+  }
+
+  private void onResponseCompleted(ChannelHandlerContext ctx, Context context) {
+    if (requestHandler == null) {
+      // added to the pipeline separately, after an HttpRequestDecoder
+      requestHandler = ctx.pipeline().get(HttpServerRequestTracingHandler.class);
+    }
+    if (requestHandler != null) {
+      requestHandler.onResponseCompleted(context);
+    }
   }
 }
@@ -16,13 +16,18 @@ import io.opentelemetry.context.Scope;
 
 public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapter {
 
+  // a handler instance is added to the pipeline of a single channel, so the context of the request
+  // that is being read is kept here instead of being looked up for every chunk of its body
+  private Context serverContext;
+
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) {
     Channel channel = ctx.channel();
 
     if (!(msg instanceof HttpRequest)) {
-      Context serverContext = tracer().getServerContext(channel);
-      if (serverContext == null) {
+      Context serverContext = this.serverContext;
+      // the context is usually current already when the chunks are read right after the request
+      if (serverContext == null || serverContext == Context.current()) {
         ctx.fireChannelRead(msg);
       } else {
         try (Scope ignored = serverContext.makeCurrent()) {
@@ -33,7 +38,8 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
     }
 
     HttpRequest request = (HttpRequest) msg;
-    Context context = tracer().startSpan(request, channel, channel, "HTTP " + request.method());
+    Context context = tracer().startSpan(request, channel, channel, tracer().spanName(request));
+    serverContext = context;
     try (Scope ignored = context.makeCurrent()) {
       ctx.fireChannelRead(msg);
       // the span is ended normally in HttpServerResponseTracingHandler
@@ -42,4 +48,12 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
       throw throwable;
     }
   }
+
+  /** Forgets the context of a request once its response has been written. */
+  void onResponseCompleted(Context context) {
+    // with pipelining, the next request may have been read before this response was written
+    if (serverContext == context) {
+      serverContext = null;
+    }
+  }
 }
@@ -23,6 +23,16 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
   private static final AttributeKey<HttpResponse> HTTP_RESPONSE =
       AttributeKey.valueOf(HttpServerResponseTracingHandler.class, "http-response");
 
+  // the handler reading the requests of the same channel, it keeps the context of the request
+  // being read until its response has been written
+  private HttpServerRequestTracingHandler requestHandler;
+
+  public HttpServerResponseTracingHandler() {}
+
+  HttpServerResponseTracingHandler(HttpServerRequestTracingHandler requestHandler) {
+    this.requestHandler = requestHandler;
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise prm) {
     Context context = tracer().getServerContext(ctx.channel());
@@ -45,13 +55,14 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
       // Going to finish the span after the write of the last content finishes.
       if (msg instanceof FullHttpResponse) {
         // Headers and body all sent together, we have the response information in the msg.
-        writePromise.addListener(future -> finish(context, writePromise, (FullHttpResponse) msg));
+        writePromise.addListener(
+            future -> finish(ctx, context, writePromise, (FullHttpResponse) msg));
       } else {
         // Body sent after headers. We stored the response information in the context when
         // encountering HttpResponse (which was not FullHttpResponse since it's not
         // LastHttpContent).
         writePromise.addListener(
-            future -> finish(context, writePromise, ctx.channel().attr(HTTP_RESPONSE).get()));
+            future -> finish(ctx, context, writePromise, ctx.channel().attr(HTTP_RESPONSE).get()));
       }
     } else {
       writePromise = prm;
@@ -65,15 +76,28 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
       ctx.write(msg, writePromise);
     } catch (Throwable throwable) {
       tracer().endExceptionally(context, throwable);
+      onResponseCompleted(ctx, context);
       throw throwable;
     }
   }
 
-  private static void finish(Context context, ChannelFuture future, HttpResponse response) {
+  private void finish(
+      ChannelHandlerContext ctx, Context context, ChannelFuture future, HttpResponse response) {
     if (future.isSuccess()) {
       tracer().end(context, response);
     } else {
       tracer().endExceptionally(context, future.cause());
     }
+    onResponseCompleted(ctx, context);
+  }
+
+  private void onResponseCompleted(ChannelHandlerContext ctx, Context context) {
+    if (requestHandler == null) {
+      // added to the pipeline separately, after an HttpRequestDecoder
+      requestHandler = ctx.pipeline().get(HttpServerRequestTracingHandler.class);
+    }
+    if (requestHandler != null) {
+      requestHandler.onResponseCompleted(context);
+    }
   }
 }
@@ -12,6 +12,10 @@ public class HttpServerTracingHandler
         HttpServerRequestTracingHandler, HttpServerResponseTracingHandler> {
 
   public HttpServerTracingHandler() {
-    super(new HttpServerRequestTracingHandler(), new HttpServerResponseTracingHandler());
+    this(new HttpServerRequestTracingHandler());
+  }
+
+  private HttpServerTracingHandler(HttpServerRequestTracingHandler requestHandler) {
+    super(requestHandler, new HttpServerResponseTracingHandler(requestHandler));
   }
 }
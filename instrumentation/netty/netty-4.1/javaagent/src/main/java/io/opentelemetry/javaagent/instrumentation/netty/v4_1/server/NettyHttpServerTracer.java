@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.netty.v4_1.server;
 import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
 
 import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.opentelemetry.context.Context;
@@ -16,6 +17,9 @@ import io.opentelemetry.instrumentation.api.tracer.HttpServerTracer;
 import io.opentelemetry.instrumentation.netty.v4_1.AttributeKeys;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public class NettyHttpServerTracer
     extends HttpServerTracer<HttpRequest, HttpResponse, Channel, Channel> {
@@ -25,6 +29,32 @@ public class NettyHttpServerTracer
     return TRACER;
   }
 
+  // span names of the standard methods are only built once; other methods are not cached, so that
+  // arbitrary request methods can't grow the map
+  private static final Map<HttpMethod, String> SPAN_NAMES = new HashMap<>();
+
+  static {
+    for (HttpMethod method :
+        Arrays.asList(
+            HttpMethod.OPTIONS,
+            HttpMethod.GET,
+            HttpMethod.HEAD,
+            HttpMethod.POST,
+            HttpMethod.PUT,
+            HttpMethod.PATCH,
+            HttpMethod.DELETE,
+            HttpMethod.TRACE,
+            HttpMethod.CONNECT)) {
+      SPAN_NAMES.put(method, "HTTP " + method.name());
+    }
+  }
+
+  public String spanName(HttpRequest request) {
+    HttpMethod method = request.method();
+    String spanName = SPAN_NAMES.get(method);
+    return spanName != null ? spanName : "HTTP " + method.name();
+  }
+
   @Override
   protected String method(HttpRequest httpRequest) {
     return httpRequest.method().name();
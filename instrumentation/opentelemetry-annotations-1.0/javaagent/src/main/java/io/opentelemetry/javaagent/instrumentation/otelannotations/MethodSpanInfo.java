@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.otelannotations;
+
+import io.opentelemetry.api.trace.SpanKind;
+
+/** The span name, kind and return type of a method annotated with {@code @WithSpan}. */
+public final class MethodSpanInfo {
+  private final String spanName;
+  private final SpanKind spanKind;
+  private final Class<?> returnType;
+
+  MethodSpanInfo(String spanName, SpanKind spanKind, Class<?> returnType) {
+    this.spanName = spanName;
+    this.spanKind = spanKind;
+    this.returnType = returnType;
+  }
+
+  public String getSpanName() {
+    return spanName;
+  }
+
+  public SpanKind getSpanKind() {
+    return spanKind;
+  }
+
+  public Class<?> getReturnType() {
+    return returnType;
+  }
+}
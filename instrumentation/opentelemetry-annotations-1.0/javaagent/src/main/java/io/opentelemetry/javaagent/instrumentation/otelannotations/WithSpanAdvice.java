@@ -8,11 +8,9 @@ package io.opentelemetry.javaagent.instrumentation.otelannotations;
 import static io.opentelemetry.javaagent.instrumentation.otelannotations.WithSpanTracer.tracer;
 
 import application.io.opentelemetry.extension.annotations.WithSpan;
-import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
-import java.lang.reflect.Method;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 
@@ -25,24 +23,24 @@ public class WithSpanAdvice {
 
   @Advice.OnMethodEnter(suppress = Throwable.class)
   public static void onEnter(
-      @Advice.Origin Method method,
+      @Advice.Origin Class<?> type,
+      @Advice.Origin("#m#d") String methodNameAndDescriptor,
+      @Advice.Local("otelMethodSpanInfo") MethodSpanInfo methodSpanInfo,
       @Advice.Local("otelContext") Context context,
       @Advice.Local("otelScope") Scope scope) {
-    WithSpan applicationAnnotation = method.getAnnotation(WithSpan.class);
-
-    SpanKind kind = tracer().extractSpanKind(applicationAnnotation);
+    methodSpanInfo = tracer().methodSpanInfo(type, methodNameAndDescriptor);
     Context current = Java8BytecodeBridge.currentContext();
 
     // don't create a nested span if you're not supposed to.
-    if (tracer().shouldStartSpan(current, kind)) {
-      context = tracer().startSpan(current, applicationAnnotation, method, kind);
+    if (tracer().shouldStartSpan(current, methodSpanInfo.getSpanKind())) {
+      context = tracer().startSpan(current, methodSpanInfo);
       scope = context.makeCurrent();
     }
   }
 
   @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
   public static void stopSpan(
-      @Advice.Origin Method method,
+      @Advice.Local("otelMethodSpanInfo") MethodSpanInfo methodSpanInfo,
       @Advice.Local("otelContext") Context context,
       @Advice.Local("otelScope") Scope scope,
       @Advice.Return(typing = Assigner.Typing.DYNAMIC, readOnly = false) Object returnValue,
@@ -55,7 +53,7 @@ public class WithSpanAdvice {
     if (throwable != null) {
       tracer().endExceptionally(context, throwable);
     } else {
-      returnValue = tracer().end(context, method.getReturnType(), returnValue);
+      returnValue = tracer().end(context, methodSpanInfo, returnValue);
     }
   }
 }
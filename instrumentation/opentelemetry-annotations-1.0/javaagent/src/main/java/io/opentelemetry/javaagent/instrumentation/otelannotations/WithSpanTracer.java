@@ -13,6 +13,8 @@ import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.instrumentation.api.tracer.async.AsyncSpanEndStrategies;
 import io.opentelemetry.instrumentation.api.tracer.async.AsyncSpanEndStrategy;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,12 +30,93 @@ public class WithSpanTracer extends BaseTracer {
   private final AsyncSpanEndStrategies asyncSpanEndStrategies =
       AsyncSpanEndStrategies.getInstance();
 
-  public Context startSpan(
-      Context parentContext, WithSpan applicationAnnotation, Method method, SpanKind kind) {
-    Span span =
-        spanBuilder(
-                parentContext, spanNameForMethodWithAnnotation(applicationAnnotation, method), kind)
-            .startSpan();
+  // annotations can't change at runtime, so they're only read once per method, which is keyed by
+  // its name and descriptor since the advice gets them as constants without any reflection
+  private final ClassValue<Map<String, MethodSpanInfo>> methodSpanInfos =
+      new ClassValue<Map<String, MethodSpanInfo>>() {
+        @Override
+        protected Map<String, MethodSpanInfo> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * Returns the span name and kind of the method of {@code type} annotated with {@link WithSpan}
+   * whose name followed by its descriptor is {@code methodNameAndDescriptor}.
+   */
+  public MethodSpanInfo methodSpanInfo(Class<?> type, String methodNameAndDescriptor) {
+    Map<String, MethodSpanInfo> infos = methodSpanInfos.get(type);
+    MethodSpanInfo info = infos.get(methodNameAndDescriptor);
+    if (info == null) {
+      Method method = findMethod(type, methodNameAndDescriptor);
+      WithSpan applicationAnnotation = method.getAnnotation(WithSpan.class);
+      info =
+          new MethodSpanInfo(
+              spanNameForMethodWithAnnotation(applicationAnnotation, method),
+              extractSpanKind(applicationAnnotation),
+              method.getReturnType());
+      infos.put(methodNameAndDescriptor, info);
+    }
+    return info;
+  }
+
+  private static Method findMethod(Class<?> type, String methodNameAndDescriptor) {
+    for (Method method : type.getDeclaredMethods()) {
+      if (methodNameAndDescriptor.startsWith(method.getName())
+          && methodNameAndDescriptor.equals(method.getName() + descriptor(method))) {
+        return method;
+      }
+    }
+    throw new IllegalStateException(
+        "no method " + methodNameAndDescriptor + " declared by " + type.getName());
+  }
+
+  private static String descriptor(Method method) {
+    StringBuilder descriptor = new StringBuilder("(");
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      appendDescriptor(descriptor, parameterType);
+    }
+    descriptor.append(')');
+    appendDescriptor(descriptor, method.getReturnType());
+    return descriptor.toString();
+  }
+
+  private static void appendDescriptor(StringBuilder descriptor, Class<?> type) {
+    if (type.isArray()) {
+      // array names already are descriptors, apart from the package separators
+      descriptor.append(type.getName().replace('.', '/'));
+    } else if (type.isPrimitive()) {
+      descriptor.append(primitiveDescriptor(type));
+    } else {
+      descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+    }
+  }
+
+  private static char primitiveDescriptor(Class<?> type) {
+    if (type == void.class) {
+      return 'V';
+    } else if (type == boolean.class) {
+      return 'Z';
+    } else if (type == byte.class) {
+      return 'B';
+    } else if (type == char.class) {
+      return 'C';
+    } else if (type == short.class) {
+      return 'S';
+    } else if (type == int.class) {
+      return 'I';
+    } else if (type == long.class) {
+      return 'J';
+    } else if (type == float.class) {
+      return 'F';
+    } else {
+      return 'D';
+    }
+  }
+
+  public Context startSpan(Context parentContext, MethodSpanInfo methodSpanInfo) {
+    SpanKind kind = methodSpanInfo.getSpanKind();
+    Span span = spanBuilder(parentContext, methodSpanInfo.getSpanName(), kind).startSpan();
     if (kind == SpanKind.SERVER) {
       return withServerSpan(parentContext, span);
     }
@@ -80,14 +163,17 @@ public class WithSpanTracer extends BaseTracer {
    * asynchronous operation then the span will not be finished until the asynchronous operation has
    * completed.
    *
-   * @param returnType Return type of the traced method.
+   * @param methodSpanInfo The traced method.
    * @param returnValue Return value from the traced method.
    * @return Either {@code returnValue} or a value composing over {@code returnValue} for
    *     notification of completion.
-   * @throws ClassCastException if returnValue is not an instance of returnType
+   * @throws ClassCastException if returnValue is not an instance of the method's return type
    */
-  public Object end(Context context, Class<?> returnType, Object returnValue) {
+  public Object end(Context context, MethodSpanInfo methodSpanInfo, Object returnValue) {
+    Class<?> returnType = methodSpanInfo.getReturnType();
     if (returnType.isInstance(returnValue)) {
+      // not cached with the method, strategies are registered lazily by the instrumentations of the
+      // libraries providing them, resolving one only walks a list of a few entries
       AsyncSpanEndStrategy asyncSpanEndStrategy =
           asyncSpanEndStrategies.resolveStrategy(returnType);
       if (asyncSpanEndStrategy != null) {
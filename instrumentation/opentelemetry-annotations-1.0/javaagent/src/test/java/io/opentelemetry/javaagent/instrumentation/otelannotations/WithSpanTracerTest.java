@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.otelannotations;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
+import io.opentelemetry.instrumentation.api.tracer.async.AsyncSpanEndStrategies;
+import io.opentelemetry.instrumentation.api.tracer.async.AsyncSpanEndStrategy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WithSpanTracerTest {
+
+  private final WithSpanTracer tracer = WithSpanTracer.tracer();
+
+  @AfterEach
+  void unregisterStrategy() {
+    AsyncSpanEndStrategies.getInstance().unregisterStrategy(TestAsyncSpanEndStrategy.class);
+  }
+
+  @Test
+  void resolvesStrategyOfEachReturnType() {
+    AsyncSpanEndStrategies.getInstance().registerStrategy(new TestAsyncSpanEndStrategy());
+    MethodSpanInfo futureMethod = methodSpanInfo(CompletableFuture.class);
+    MethodSpanInfo stageMethod = methodSpanInfo(CompletionStage.class);
+    MethodSpanInfo testAsyncMethod = methodSpanInfo(TestAsync.class);
+    MethodSpanInfo syncMethod = methodSpanInfo(Object.class);
+
+    CompletableFuture<String> future = new CompletableFuture<>();
+    // the JDK strategy composes over incomplete futures to end the span once they complete
+    assertNotSame(future, tracer.end(Context.root(), futureMethod, future));
+    assertNotSame(future, tracer.end(Context.root(), stageMethod, future));
+
+    TestAsync testAsync = new TestAsync();
+    assertSame(testAsync.ended, tracer.end(Context.root(), testAsyncMethod, testAsync));
+
+    // only the declared return type selects the strategy
+    assertSame(testAsync, tracer.end(Context.root(), syncMethod, testAsync));
+    assertSame(future, tracer.end(Context.root(), syncMethod, future));
+  }
+
+  @Test
+  void usesStrategyRegisteredAfterFirstCall() {
+    MethodSpanInfo testAsyncMethod = methodSpanInfo(TestAsync.class);
+    TestAsync first = new TestAsync();
+    assertSame(first, tracer.end(Context.root(), testAsyncMethod, first));
+
+    AsyncSpanEndStrategies.getInstance().registerStrategy(new TestAsyncSpanEndStrategy());
+    TestAsync second = new TestAsync();
+
+    assertSame(second.ended, tracer.end(Context.root(), testAsyncMethod, second));
+  }
+
+  private static MethodSpanInfo methodSpanInfo(Class<?> returnType) {
+    return new MethodSpanInfo("test", SpanKind.INTERNAL, returnType);
+  }
+
+  static final class TestAsync {
+    final Object ended = new Object();
+  }
+
+  static final class TestAsyncSpanEndStrategy implements AsyncSpanEndStrategy {
+    @Override
+    public boolean supports(Class<?> returnType) {
+      return returnType == TestAsync.class;
+    }
+
+    @Override
+    public Object end(BaseTracer tracer, Context context, Object returnValue) {
+      tracer.end(context);
+      return ((TestAsync) returnValue).ended;
+    }
+  }
+}
@@ -93,7 +93,7 @@ public class RabbitChannelInstrumentation implements TypeInstrumentation {
         @Advice.Origin("Channel.#m") String method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(Channel.class);
+      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(RabbitTracer.CALL_DEPTH_KEY);
       if (callDepth > 0) {
         return;
       }
@@ -112,7 +112,7 @@ public class RabbitChannelInstrumentation implements TypeInstrumentation {
         return;
       }
       scope.close();
-      CallDepthThreadLocalMap.reset(Channel.class);
+      CallDepthThreadLocalMap.reset(RabbitTracer.CALL_DEPTH_KEY);
 
       CURRENT_RABBIT_CONTEXT.remove();
       if (throwable != null) {
@@ -179,7 +179,7 @@ public class RabbitChannelInstrumentation implements TypeInstrumentation {
     @Advice.OnMethodEnter
     public static long takeTimestamp(@Advice.Local("callDepth") int callDepth) {
 
-      callDepth = CallDepthThreadLocalMap.incrementCallDepth(Channel.class);
+      callDepth = CallDepthThreadLocalMap.incrementCallDepth(RabbitTracer.CALL_DEPTH_KEY);
       return System.currentTimeMillis();
     }
 
@@ -194,7 +194,7 @@ public class RabbitChannelInstrumentation implements TypeInstrumentation {
       if (callDepth > 0) {
         return;
       }
-      CallDepthThreadLocalMap.reset(Channel.class);
+      CallDepthThreadLocalMap.reset(RabbitTracer.CALL_DEPTH_KEY);
 
       // can't create span and put into scope in method enter above, because can't add parent after
       // span creation
@@ -5,12 +5,16 @@
 
 package io.opentelemetry.javaagent.instrumentation.reactor;
 
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.reactor.TracingOperator;
 import net.bytebuddy.asm.Advice;
 
 public class ReactorHooksAdvice {
   @Advice.OnMethodExit(suppress = Throwable.class)
   public static void postStaticInitializer() {
-    TracingOperator.registerOnEachOperator();
+    TracingOperator.registerOnEachOperator(
+        !Config.get()
+            .getBooleanProperty(
+                "otel.instrumentation.reactor.experimental-skip-root-context.enabled", false));
   }
 }
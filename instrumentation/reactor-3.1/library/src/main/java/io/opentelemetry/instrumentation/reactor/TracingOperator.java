@@ -42,7 +42,18 @@ public class TracingOperator {
    * application.
    */
   public static void registerOnEachOperator() {
-    Hooks.onEachOperator(TracingSubscriber.class.getName(), tracingLift());
+    registerOnEachOperator(true);
+  }
+
+  /**
+   * Same as {@link #registerOnEachOperator()}, but if {@code propagateRootContext} is {@code false}
+   * operators that are subscribed to without a current {@link Context} (i.e. with the root context)
+   * are not wrapped at all. This avoids the overhead of the hook for reactive streams that are not
+   * part of a trace and keeps their operators fuseable, but their callbacks then run in whatever
+   * {@link Context} is current on the thread that signals them.
+   */
+  public static void registerOnEachOperator(boolean propagateRootContext) {
+    Hooks.onEachOperator(TracingSubscriber.class.getName(), tracingLift(propagateRootContext));
   }
 
   /** Unregisters the hook registered by {@link #registerOnEachOperator()}. */
@@ -50,20 +61,35 @@ public class TracingOperator {
     Hooks.resetOnEachOperator(TracingSubscriber.class.getName());
   }
 
-  private static <T> Function<? super Publisher<T>, ? extends Publisher<T>> tracingLift() {
-    return Operators.lift(new Lifter<>());
+  private static <T> Function<? super Publisher<T>, ? extends Publisher<T>> tracingLift(
+      boolean propagateRootContext) {
+    return Operators.lift(new Lifter<>(propagateRootContext));
   }
 
   public static class Lifter<T>
       implements BiFunction<Scannable, CoreSubscriber<? super T>, CoreSubscriber<? super T>> {
 
+    private final boolean propagateRootContext;
+
+    public Lifter() {
+      this(true);
+    }
+
+    public Lifter(boolean propagateRootContext) {
+      this.propagateRootContext = propagateRootContext;
+    }
+
     @Override
     public CoreSubscriber<? super T> apply(Scannable publisher, CoreSubscriber<? super T> sub) {
       // if Flux/Mono #just, #empty, #error
       if (publisher instanceof Fuseable.ScalarCallable) {
         return sub;
       }
-      return new TracingSubscriber<>(sub, sub.currentContext());
+      Context context = Context.current();
+      if (!propagateRootContext && context == Context.root()) {
+        return sub;
+      }
+      return new TracingSubscriber<>(sub, sub.currentContext(), context);
     }
   }
 }
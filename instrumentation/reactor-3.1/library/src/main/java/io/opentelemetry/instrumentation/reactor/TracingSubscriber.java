@@ -21,6 +21,7 @@
 package io.opentelemetry.instrumentation.reactor;
 
 import io.opentelemetry.context.Scope;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
@@ -55,17 +56,23 @@ public class TracingSubscriber<T> implements CoreSubscriber<T> {
 
   @Override
   public void onNext(T o) {
-    withActiveSpan(() -> subscriber.onNext(o));
+    try (Scope ignored = makeCurrentIfNeeded()) {
+      subscriber.onNext(o);
+    }
   }
 
   @Override
   public void onError(Throwable throwable) {
-    withActiveSpan(() -> subscriber.onError(throwable));
+    try (Scope ignored = makeCurrentIfNeeded()) {
+      subscriber.onError(throwable);
+    }
   }
 
   @Override
   public void onComplete() {
-    withActiveSpan(subscriber::onComplete);
+    try (Scope ignored = makeCurrentIfNeeded()) {
+      subscriber.onComplete();
+    }
   }
 
   @Override
@@ -73,13 +80,13 @@ public class TracingSubscriber<T> implements CoreSubscriber<T> {
     return context;
   }
 
-  private void withActiveSpan(Runnable runnable) {
-    if (traceContext != null) {
-      try (Scope ignored = traceContext.makeCurrent()) {
-        runnable.run();
-      }
-    } else {
-      runnable.run();
+  // signals are usually delivered on the thread that subscribed, where the context is already
+  // current; it only has to be made current again when a signal hops to another thread
+  @Nullable
+  private Scope makeCurrentIfNeeded() {
+    if (traceContext == null || io.opentelemetry.context.Context.current() == traceContext) {
+      return null;
     }
+    return traceContext.makeCurrent();
   }
 }
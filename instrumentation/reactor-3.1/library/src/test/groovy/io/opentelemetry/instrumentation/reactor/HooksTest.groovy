@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.reactor
 
+import io.opentelemetry.context.Context
+import io.opentelemetry.context.ContextKey
 import io.opentelemetry.instrumentation.test.LibraryInstrumentationSpecification
 import java.util.concurrent.atomic.AtomicReference
 import reactor.core.CoreSubscriber
@@ -37,6 +39,34 @@ class HooksTest extends LibraryInstrumentationSpecification {
     !(subscriber.get() instanceof TracingSubscriber)
   }
 
+  def "does not wrap subscribers without a context when root context is not propagated"() {
+    setup:
+    AtomicReference<CoreSubscriber> subscriber = new AtomicReference<>()
+    TracingOperator.registerOnEachOperator(false)
+
+    when: "subscribed without a context"
+    new CapturingMono(subscriber).map { it + 1 }.subscribe()
+
+    then:
+    !(subscriber.get() instanceof TracingSubscriber)
+
+    when: "subscribed with a context"
+    def context = Context.root().with(ContextKey.named("test"), "value")
+    def scope = context.makeCurrent()
+    try {
+      new CapturingMono(subscriber).map { it + 1 }.subscribe()
+    } finally {
+      scope.close()
+    }
+
+    then:
+    subscriber.get() instanceof TracingSubscriber
+    subscriber.get().traceContext == context
+
+    cleanup:
+    TracingOperator.resetOnEachOperator()
+  }
+
   private static class CapturingMono extends Mono<Integer> {
     final AtomicReference subscriber
 
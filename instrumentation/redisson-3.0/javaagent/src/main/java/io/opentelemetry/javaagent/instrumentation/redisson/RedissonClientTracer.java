@@ -5,19 +5,32 @@
 
 package io.opentelemetry.javaagent.instrumentation.redisson;
 
+import static io.opentelemetry.api.trace.SpanKind.CLIENT;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandBatch;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.ArgumentIterator;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer;
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.CommandsData;
@@ -25,9 +38,14 @@ import org.redisson.client.protocol.CommandsData;
 public class RedissonClientTracer
     extends DatabaseClientTracer<RedisConnection, Object, List<String>> {
   private static final String UNKNOWN_COMMAND = "Redis Command";
+  private static final String BATCH = "BATCH";
 
   private static final RedissonClientTracer TRACER = new RedissonClientTracer();
 
+  // CommandData.getPromise() returns an RPromise before 3.17 and a CompletableFuture since then,
+  // both are CompletionStages; it is looked up reflectively so that muzzle accepts either
+  @Nullable private static final MethodHandle GET_PROMISE = findGetPromise();
+
   private RedissonClientTracer() {
     super(NetPeerAttributes.INSTANCE);
   }
@@ -36,6 +54,101 @@ public class RedissonClientTracer
     return TRACER;
   }
 
+  @Override
+  public Context startSpan(Context parentContext, RedisConnection connection, Object command) {
+    if (command instanceof CommandsData && RedisCommandBatch.isEnabled()) {
+      return startBatchSpan(parentContext, connection, ((CommandsData) command).getCommands());
+    }
+    return super.startSpan(parentContext, connection, command);
+  }
+
+  // records the whole batch as a summary instead of sanitizing every single command, only the
+  // commands that fail or are slow get a span of their own, once their reply has been read
+  private Context startBatchSpan(
+      Context parentContext, RedisConnection connection, List<CommandData<?, ?>> commands) {
+    RedisCommandBatch batch = new RedisCommandBatch();
+    for (CommandData<?, ?> command : commands) {
+      batch.add(command.getCommand().getName(), argumentBytes(command));
+    }
+
+    SpanBuilder span =
+        spanBuilder(parentContext, BATCH, CLIENT)
+            .setAttribute(SemanticAttributes.DB_SYSTEM, dbSystem(connection));
+    onConnection(span, connection);
+    setNetSemanticConvention(span, connection);
+    batch.setAttributes(span::setAttribute);
+    Context context = withClientSpan(parentContext, span.startSpan());
+
+    long startNanos = System.nanoTime();
+    for (CommandData<?, ?> command : commands) {
+      CompletionStage<?> promise = getPromise(command);
+      if (promise != null) {
+        promise.whenComplete(
+            (result, error) -> onBatchCommandEnd(context, connection, command, startNanos, error));
+      }
+    }
+    return context;
+  }
+
+  private void onBatchCommandEnd(
+      Context batchContext,
+      RedisConnection connection,
+      CommandData<?, ?> command,
+      long startNanos,
+      @Nullable Throwable error) {
+    long durationNanos = System.nanoTime() - startNanos;
+    if (error == null && !RedisCommandBatch.isSlow(durationNanos)) {
+      return;
+    }
+
+    long endTimeNanos = MILLISECONDS.toNanos(System.currentTimeMillis());
+    Context context =
+        super.startSpan(batchContext, connection, command, endTimeNanos - durationNanos);
+    if (error != null) {
+      endExceptionally(context, error, endTimeNanos);
+    } else {
+      end(context, endTimeNanos);
+    }
+  }
+
+  @Nullable
+  private static MethodHandle findGetPromise() {
+    try {
+      return MethodHandles.publicLookup()
+          .unreflect(CommandData.class.getMethod("getPromise"))
+          .asType(MethodType.methodType(Object.class, CommandData.class));
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private static CompletionStage<?> getPromise(CommandData<?, ?> command) {
+    if (GET_PROMISE == null) {
+      return null;
+    }
+    try {
+      Object promise = GET_PROMISE.invoke(command);
+      return promise instanceof CompletionStage ? (CompletionStage<?>) promise : null;
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  private static long argumentBytes(CommandData<?, ?> command) {
+    long bytes = 0;
+    for (Object param : command.getParams()) {
+      if (param instanceof ByteBuf) {
+        bytes += ((ByteBuf) param).readableBytes();
+      } else if (param instanceof byte[]) {
+        bytes += ((byte[]) param).length;
+      } else if (param instanceof CharSequence) {
+        bytes += ((CharSequence) param).length();
+      }
+    }
+    return bytes;
+  }
+
   @Override
   protected String spanName(
       RedisConnection connection, Object ignored, List<String> sanitizedStatements) {
@@ -75,27 +188,61 @@ public class RedissonClientTracer
   }
 
   private String normalizeSingleCommand(CommandData<?, ?> command) {
-    Object[] commandParams = command.getParams();
-    List<Object> args = new ArrayList<>(commandParams.length + 1);
-    if (command.getCommand().getSubName() != null) {
-      args.add(command.getCommand().getSubName());
+    return RedisCommandSanitizer.sanitize(
+        command.getCommand().getName(), new CommandArguments(command));
+  }
+
+  // decodes the params lazily, so that the ones that are masked are never decoded
+  private static final class CommandArguments implements ArgumentIterator {
+    private final CommandData<?, ?> command;
+    private final Object[] params;
+    @Nullable private String subName;
+    private int index;
+
+    private CommandArguments(CommandData<?, ?> command) {
+      this.command = command;
+      this.params = command.getParams();
+      this.subName = command.getCommand().getSubName();
     }
-    for (Object param : commandParams) {
+
+    @Override
+    public boolean hasNext() {
+      return subName != null || index < params.length;
+    }
+
+    @Override
+    public String next() {
+      if (subName != null) {
+        String next = subName;
+        subName = null;
+        return next;
+      }
+      if (index >= params.length) {
+        throw new NoSuchElementException();
+      }
+      Object param = params[index++];
       if (param instanceof ByteBuf) {
         try {
           // slice() does not copy the actual byte buffer, it only returns a readable/writable
           // "view" of the original buffer (i.e. read and write marks are not shared)
           ByteBuf buf = ((ByteBuf) param).slice();
           // state can be null here: no Decoders used by Codecs use it
-          args.add(command.getCodec().getValueDecoder().decode(buf, null));
+          param = command.getCodec().getValueDecoder().decode(buf, null);
         } catch (Exception ignored) {
-          args.add("?");
+          return "?";
         }
+      }
+      return CommandSanitizer.argToString(param);
+    }
+
+    @Override
+    public void skip() {
+      if (subName != null) {
+        subName = null;
       } else {
-        args.add(param);
+        index++;
       }
     }
-    return RedisCommandSanitizer.sanitize(command.getCommand().getName(), args);
   }
 
   @Override
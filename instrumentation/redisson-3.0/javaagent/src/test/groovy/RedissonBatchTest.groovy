@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import org.redisson.Redisson
+import org.redisson.api.RBatch
+import org.redisson.api.RedissonClient
+import org.redisson.client.RedisException
+import org.redisson.config.Config
+import org.redisson.config.SingleServerConfig
+import redis.embedded.RedisServer
+import spock.lang.Shared
+
+// runs in the testBatchSpans task, with otel.instrumentation.redis.experimental-batch-spans.enabled
+class RedissonBatchTest extends AgentInstrumentationSpecification {
+
+  @Shared
+  int port = PortUtils.findOpenPort()
+
+  @Shared
+  RedisServer redisServer = RedisServer.builder()
+  // bind to localhost to avoid firewall popup
+    .setting("bind 127.0.0.1")
+  // set max memory to avoid problems in CI
+    .setting("maxmemory 128M")
+    .port(port).build()
+  @Shared
+  RedissonClient redisson
+  @Shared
+  String address = "localhost:" + port
+
+  def setupSpec() {
+    if (Boolean.getBoolean("testLatestDeps")) {
+      // Newer versions of redisson require scheme, older versions forbid it
+      address = "redis://" + address
+    }
+    println "Using redis: $redisServer.args"
+    redisServer.start()
+  }
+
+  def cleanupSpec() {
+    redisson.shutdown()
+    redisServer.stop()
+  }
+
+  def setup() {
+    Config config = new Config()
+    SingleServerConfig singleServerConfig = config.useSingleServer()
+    singleServerConfig.setAddress(address)
+    // disable connection ping if it exists
+    singleServerConfig.metaClass.getMetaMethod("setPingConnectionInterval", int)?.invoke(singleServerConfig, 0)
+    redisson = Redisson.create(config)
+    clearExportedData()
+  }
+
+  def "batch is recorded as a single span"() {
+    when:
+    RBatch batch = redisson.createBatch()
+    batch.getBucket("batch1").setAsync("v1")
+    batch.getBucket("batch2").setAsync("v2")
+    batch.getBucket("batch1").getAsync()
+    batch.execute()
+
+    then:
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "BATCH"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 3
+            "db.redis.batch.command_counts" "SET=2,GET=1"
+            // the encoded size of the arguments depends on the codec of the redisson version
+            "db.redis.batch.argument_bytes" { it > 0 }
+          }
+        }
+      }
+    }
+  }
+
+  def "failed command of a batch gets a span of its own"() {
+    when:
+    RBatch batch = redisson.createBatch()
+    batch.getBucket("batch1").setAsync("v1")
+    batch.getList("batch1").sizeAsync()
+    batch.execute()
+
+    then:
+    thrown(RedisException)
+
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "BATCH"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "db.redis.batch.command_count" 2
+            "db.redis.batch.command_counts" "SET=1,LLEN=1"
+            "db.redis.batch.argument_bytes" { it > 0 }
+          }
+        }
+        span(1) {
+          name "LLEN"
+          kind CLIENT
+          childOf span(0)
+          errored true
+          errorEvent(RedisException, String)
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" "localhost:$port"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "$SemanticAttributes.DB_STATEMENT.key" "LLEN batch1"
+          }
+        }
+      }
+    }
+  }
+}
@@ -63,7 +63,7 @@ public class RmiServerInstrumentation extends InstrumentationModule {
         @Advice.Origin Method method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(RemoteServer.class);
+      int callDepth = CallDepthThreadLocalMap.incrementCallDepth(RmiServerTracer.CALL_DEPTH_KEY);
       if (callDepth > 0) {
         return;
       }
@@ -85,7 +85,7 @@ public class RmiServerInstrumentation extends InstrumentationModule {
       }
       scope.close();
 
-      CallDepthThreadLocalMap.reset(RemoteServer.class);
+      CallDepthThreadLocalMap.reset(RmiServerTracer.CALL_DEPTH_KEY);
       if (throwable != null) {
         RmiServerTracer.tracer().endExceptionally(context, throwable);
       } else {
@@ -11,10 +11,15 @@ import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.instrumentation.api.tracer.RpcServerTracer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.lang.reflect.Method;
+import java.rmi.server.RemoteServer;
 
 public class RmiServerTracer extends RpcServerTracer {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(RemoteServer.class);
+
   private static final RmiServerTracer TRACER = new RmiServerTracer();
 
   public static RmiServerTracer tracer() {
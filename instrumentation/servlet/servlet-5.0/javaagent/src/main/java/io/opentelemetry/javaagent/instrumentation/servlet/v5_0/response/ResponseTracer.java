@@ -7,9 +7,14 @@ package io.opentelemetry.javaagent.instrumentation.servlet.v5_0.response;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
+import jakarta.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
 
 public class ResponseTracer extends BaseTracer {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(HttpServletResponse.class);
+
   private static final ResponseTracer TRACER = new ResponseTracer();
 
   public static ResponseTracer tracer() {
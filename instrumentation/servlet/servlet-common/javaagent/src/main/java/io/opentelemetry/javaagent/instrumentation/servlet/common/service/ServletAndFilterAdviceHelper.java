@@ -16,6 +16,9 @@ import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ServletAndFilterAdviceHelper {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(AppServerBridge.getCallDepthKey());
+
   public static <REQUEST, RESPONSE> void stopSpan(
       ServletHttpServerTracer<REQUEST, RESPONSE> tracer,
       REQUEST request,
@@ -23,7 +26,7 @@ public class ServletAndFilterAdviceHelper {
       Throwable throwable,
       Context context,
       Scope scope) {
-    int callDepth = CallDepthThreadLocalMap.decrementCallDepth(AppServerBridge.getCallDepthKey());
+    int callDepth = CallDepthThreadLocalMap.decrementCallDepth(CALL_DEPTH_KEY);
 
     if (scope != null) {
       scope.close();
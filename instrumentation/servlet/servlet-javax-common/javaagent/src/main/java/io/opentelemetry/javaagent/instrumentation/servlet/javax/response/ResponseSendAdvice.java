@@ -14,7 +14,6 @@ import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
 import io.opentelemetry.javaagent.instrumentation.servlet.common.response.HttpServletResponseAdviceHelper;
 import java.lang.reflect.Method;
-import javax.servlet.http.HttpServletResponse;
 import net.bytebuddy.asm.Advice;
 
 public class ResponseSendAdvice {
@@ -25,7 +24,7 @@ public class ResponseSendAdvice {
       @Advice.Local("otelContext") Context context,
       @Advice.Local("otelScope") Scope scope,
       @Advice.Local("otelCallDepth") CallDepth callDepth) {
-    callDepth = CallDepthThreadLocalMap.getCallDepth(HttpServletResponse.class);
+    callDepth = CallDepthThreadLocalMap.getCallDepth(ResponseTracer.CALL_DEPTH_KEY);
     // Don't want to generate a new top-level span
     if (callDepth.getAndIncrement() == 0
         && Java8BytecodeBridge.currentSpan().getSpanContext().isValid()) {
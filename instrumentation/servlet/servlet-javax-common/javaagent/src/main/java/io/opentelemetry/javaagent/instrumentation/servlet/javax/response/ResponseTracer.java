@@ -7,9 +7,14 @@ package io.opentelemetry.javaagent.instrumentation.servlet.javax.response;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import java.lang.reflect.Method;
+import javax.servlet.http.HttpServletResponse;
 
 public class ResponseTracer extends BaseTracer {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(HttpServletResponse.class);
+
   private static final ResponseTracer TRACER = new ResponseTracer();
 
   public static ResponseTracer tracer() {
@@ -57,7 +57,7 @@ public class AnnotatedMethodInstrumentation implements TypeInstrumentation {
         @Advice.Origin Method method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      if (CallDepthThreadLocalMap.incrementCallDepth(PayloadRoot.class) > 0) {
+      if (CallDepthThreadLocalMap.incrementCallDepth(SpringWsTracer.CALL_DEPTH_KEY) > 0) {
         return;
       }
       context = tracer().startSpan(method);
@@ -72,7 +72,7 @@ public class AnnotatedMethodInstrumentation implements TypeInstrumentation {
       if (scope == null) {
         return;
       }
-      CallDepthThreadLocalMap.reset(PayloadRoot.class);
+      CallDepthThreadLocalMap.reset(SpringWsTracer.CALL_DEPTH_KEY);
 
       scope.close();
       if (throwable == null) {
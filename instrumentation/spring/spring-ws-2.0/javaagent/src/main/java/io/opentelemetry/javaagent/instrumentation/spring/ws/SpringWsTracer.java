@@ -9,11 +9,16 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.lang.reflect.Method;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 
 public class SpringWsTracer extends BaseTracer {
 
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(PayloadRoot.class);
+
   private static final SpringWsTracer TRACER = new SpringWsTracer();
 
   public static SpringWsTracer tracer() {
@@ -7,11 +7,16 @@ package io.opentelemetry.javaagent.instrumentation.spymemcached;
 
 import io.opentelemetry.instrumentation.api.tracer.DatabaseClientTracer;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepthThreadLocalMap;
 import java.net.InetSocketAddress;
+import net.spy.memcached.MemcachedClient;
 import net.spy.memcached.MemcachedConnection;
 
 public class MemcacheClientTracer
     extends DatabaseClientTracer<MemcachedConnection, String, String> {
+  public static final CallDepthThreadLocalMap.Key CALL_DEPTH_KEY =
+      CallDepthThreadLocalMap.key(MemcachedClient.class);
+
   private static final MemcacheClientTracer TRACER = new MemcacheClientTracer();
 
   private MemcacheClientTracer() {
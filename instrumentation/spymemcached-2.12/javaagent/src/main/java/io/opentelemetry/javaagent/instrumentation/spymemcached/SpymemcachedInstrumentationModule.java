@@ -79,7 +79,7 @@ public class SpymemcachedInstrumentationModule extends InstrumentationModule {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void trackCallDepth(@Advice.Local("otelCallDepth") CallDepth callDepth) {
-      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcachedClient.class);
+      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcacheClientTracer.CALL_DEPTH_KEY);
       callDepth.getAndIncrement();
     }
 
@@ -105,7 +105,7 @@ public class SpymemcachedInstrumentationModule extends InstrumentationModule {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void trackCallDepth(@Advice.Local("otelCallDepth") CallDepth callDepth) {
-      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcachedClient.class);
+      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcacheClientTracer.CALL_DEPTH_KEY);
       callDepth.getAndIncrement();
     }
 
@@ -131,7 +131,7 @@ public class SpymemcachedInstrumentationModule extends InstrumentationModule {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void trackCallDepth(@Advice.Local("otelCallDepth") CallDepth callDepth) {
-      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcachedClient.class);
+      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcacheClientTracer.CALL_DEPTH_KEY);
       callDepth.getAndIncrement();
     }
 
@@ -160,7 +160,7 @@ public class SpymemcachedInstrumentationModule extends InstrumentationModule {
         @Advice.This MemcachedClient client,
         @Advice.Origin("#m") String methodName,
         @Advice.Local("otelCallDepth") CallDepth callDepth) {
-      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcachedClient.class);
+      callDepth = CallDepthThreadLocalMap.getCallDepth(MemcacheClientTracer.CALL_DEPTH_KEY);
       if (callDepth.getAndIncrement() > 0) {
         return null;
       }
@@ -6,9 +6,12 @@
 package io.opentelemetry.javaagent.instrumentation.api;
 
 public final class CallDepth {
+  // the key that this call depth belongs to, see CallDepthThreadLocalMap
+  final int keyId;
   private int depth;
 
-  CallDepth() {
+  CallDepth(int keyId) {
+    this.keyId = keyId;
     this.depth = 0;
   }
 
@@ -5,6 +5,14 @@
 
 package io.opentelemetry.javaagent.instrumentation.api;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Utility to track nested instrumentation.
  *
@@ -19,37 +27,141 @@ package io.opentelemetry.javaagent.instrumentation.api;
  *
  * <p>In short, the semantic of both methods is the same: they will return value 0 if and only if
  * current method invocation is the first one for the current call stack.
+ *
+ * <p>Instrumentations can look up the index of their key once with {@link #key(Class)} and keep the
+ * returned {@link Key} in a public static field of a helper class, which skips the {@link
+ * ClassValue} lookup of every call. Advice reads that field like any other helper class member.
  */
 public class CallDepthThreadLocalMap {
 
-  private static final ClassValue<ThreadLocalDepth> TLS =
-      new ClassValue<ThreadLocalDepth>() {
+  private static final int INITIAL_CAPACITY = 32;
+
+  // every key class gets a dense index into the per-thread call depth array, so that a lookup is a
+  // single thread local access instead of a separate thread local for each key
+  private static final ClassValue<Key> KEYS =
+      new ClassValue<Key>() {
+        @Override
+        protected Key computeValue(Class<?> type) {
+          return newKey();
+        }
+      };
+
+  private static final ThreadLocal<CallDepth[]> TLS =
+      new ThreadLocal<CallDepth[]>() {
         @Override
-        protected ThreadLocalDepth computeValue(Class<?> type) {
-          return new ThreadLocalDepth();
+        protected CallDepth[] initialValue() {
+          return new CallDepth[INITIAL_CAPACITY];
         }
       };
 
+  private static final Object lock = new Object();
+
+  // the index of a key is reused once its class has been unloaded, so that the per-thread arrays
+  // don't keep growing when class loaders come and go
+  private static final ReferenceQueue<Key> collectedKeys = new ReferenceQueue<>();
+  // guarded by lock
+  private static final Set<KeyReference> keyReferences = new HashSet<>();
+  // guarded by lock
+  private static final Deque<Integer> freeIndexes = new ArrayDeque<>();
+  // guarded by lock
+  private static int nextIndex;
+  // guarded by lock
+  private static int nextId;
+
+  /**
+   * Returns the key for {@code k}, which shares its call depth with the {@link Class} based methods
+   * called with {@code k}.
+   */
+  public static Key key(Class<?> k) {
+    return KEYS.get(k);
+  }
+
   public static CallDepth getCallDepth(Class<?> k) {
-    return TLS.get(k).get();
+    return getCallDepth(KEYS.get(k));
+  }
+
+  public static CallDepth getCallDepth(Key key) {
+    CallDepth[] callDepths = TLS.get();
+    int index = key.index;
+    if (index < callDepths.length) {
+      CallDepth callDepth = callDepths[index];
+      // the slot may still hold the call depth of a collected key that had the same index
+      if (callDepth != null && callDepth.keyId == key.id) {
+        return callDepth;
+      }
+    }
+    return newCallDepth(callDepths, key);
+  }
+
+  public static int incrementCallDepth(Key key) {
+    return getCallDepth(key).getAndIncrement();
+  }
+
+  public static int decrementCallDepth(Key key) {
+    return getCallDepth(key).decrementAndGet();
+  }
+
+  public static void reset(Key key) {
+    getCallDepth(key).reset();
   }
 
   public static int incrementCallDepth(Class<?> k) {
-    return TLS.get(k).get().getAndIncrement();
+    return getCallDepth(k).getAndIncrement();
   }
 
   public static int decrementCallDepth(Class<?> k) {
-    return TLS.get(k).get().decrementAndGet();
+    return getCallDepth(k).decrementAndGet();
   }
 
   public static void reset(Class<?> k) {
-    TLS.get(k).get().reset();
+    getCallDepth(k).reset();
   }
 
-  private static final class ThreadLocalDepth extends ThreadLocal<CallDepth> {
-    @Override
-    protected CallDepth initialValue() {
-      return new CallDepth();
+  private static CallDepth newCallDepth(CallDepth[] callDepths, Key key) {
+    int index = key.index;
+    if (index >= callDepths.length) {
+      callDepths = Arrays.copyOf(callDepths, Math.max(index + 1, callDepths.length * 2));
+      TLS.set(callDepths);
+    }
+    CallDepth callDepth = new CallDepth(key.id);
+    callDepths[index] = callDepth;
+    return callDepth;
+  }
+
+  private static Key newKey() {
+    synchronized (lock) {
+      KeyReference collected;
+      while ((collected = (KeyReference) collectedKeys.poll()) != null) {
+        keyReferences.remove(collected);
+        freeIndexes.push(collected.index);
+      }
+      Integer freeIndex = freeIndexes.poll();
+      Key key = new Key(freeIndex != null ? freeIndex : nextIndex++, nextId++);
+      keyReferences.add(new KeyReference(key, collectedKeys));
+      return key;
+    }
+  }
+
+  /**
+   * A key whose index into the per-thread call depth array was looked up when it was created. The
+   * key of a class stays the same for as long as the class is loaded.
+   */
+  public static final class Key {
+    private final int index;
+    private final int id;
+
+    private Key(int index, int id) {
+      this.index = index;
+      this.id = id;
+    }
+  }
+
+  private static final class KeyReference extends WeakReference<Key> {
+    private final int index;
+
+    private KeyReference(Key key, ReferenceQueue<Key> queue) {
+      super(key, queue);
+      this.index = key.index;
     }
   }
 }
@@ -12,6 +12,10 @@ import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
 /** Helper utils for Runnable/Callable instrumentation. */
 public class AdviceUtils {
 
+  // scopes of lambda tasks started in ThreadPoolExecutor#beforeExecute, see
+  // ExecutorInstrumentationUtils#shouldTagLambdaTask
+  private static final ThreadLocal<Scope> taggedTaskScope = new ThreadLocal<>();
+
   /**
    * Start scope for a given task.
    *
@@ -30,4 +34,31 @@ public class AdviceUtils {
     }
     return null;
   }
+
+  /**
+   * Start scope for a lambda task that was tagged with state instead of being wrapped, before an
+   * executor thread runs it. The scope is closed by {@link #endTaggedTaskScope()}.
+   *
+   * @param contextStore context storage for task's state
+   * @param task task that is about to run
+   */
+  public static void startTaggedTaskScope(
+      ContextStore<Runnable, State> contextStore, Runnable task) {
+    if (task == null || !ExecutorInstrumentationUtils.isLambda(task)) {
+      return;
+    }
+    Scope scope = startTaskScope(contextStore, task);
+    if (scope != null) {
+      taggedTaskScope.set(scope);
+    }
+  }
+
+  /** Close the scope started by {@link #startTaggedTaskScope(ContextStore, Runnable)}, if any. */
+  public static void endTaggedTaskScope() {
+    Scope scope = taggedTaskScope.get();
+    if (scope != null) {
+      taggedTaskScope.remove();
+      scope.close();
+    }
+  }
 }
@@ -6,15 +6,67 @@
 package io.opentelemetry.javaagent.instrumentation.api.concurrent;
 
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.context.ContextPropagationDebug;
 import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /** Utils for concurrent instrumentations. */
 public class ExecutorInstrumentationUtils {
   private static final String AGENT_CLASSLOADER_NAME =
       "io.opentelemetry.javaagent.bootstrap.AgentClassLoader";
+  private static final String VIRTUAL_THREAD_TASK_PREFIX = "java.lang.VirtualThread$";
+
+  private static final boolean LAMBDA_TAGGING_ENABLED =
+      Config.get()
+          .getBooleanProperty(
+              "otel.instrumentation.executors.experimental-lambda-tagging.enabled", false);
+
+  // lambda tasks submitted to these executors are not wrapped, their context is restored by the
+  // ThreadPoolExecutor#beforeExecute and #afterExecute instrumentation instead
+  private static final ClassValue<Boolean> LAMBDA_TAGGING_EXECUTOR_CLASS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> executorClass) {
+          if (!ThreadPoolExecutor.class.isAssignableFrom(executorClass)
+              || ScheduledThreadPoolExecutor.class.isAssignableFrom(executorClass)) {
+            return false;
+          }
+          // subclasses may override the hooks without calling super
+          for (Class<?> c = executorClass; c != ThreadPoolExecutor.class; c = c.getSuperclass()) {
+            if (declaresMethod(c, "beforeExecute", Thread.class, Runnable.class)
+                || declaresMethod(c, "afterExecute", Runnable.class, Throwable.class)) {
+              return false;
+            }
+          }
+          return true;
+        }
+      };
+
+  // only lambdas that capture variables get a new instance every time the lambda expression is
+  // evaluated, non-capturing lambdas are singletons that can be submitted concurrently from
+  // different contexts, so they can't hold the state of a single submission
+  private static final ClassValue<Boolean> CAPTURING_LAMBDA_CLASS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> lambdaClass) {
+          try {
+            for (Field field : lambdaClass.getDeclaredFields()) {
+              if (!Modifier.isStatic(field.getModifiers())) {
+                return true;
+              }
+            }
+          } catch (Throwable t) {
+            // can't tell, keep wrapping it
+          }
+          return false;
+        }
+      };
 
   private static final ClassValue<Boolean> INSTRUMENTED_RUNNABLE_CLASS =
       new ClassValue<Boolean>() {
@@ -42,6 +94,13 @@ public class ExecutorInstrumentationUtils {
             return false;
           }
 
+          // Virtual threads are mounted on their carrier threads by submitting the continuation to
+          // the scheduler, which happens again every time they are unparked. Context is propagated
+          // into the virtual thread when it starts instead, see VirtualThreadInstrumentation.
+          if (taskClass.getName().startsWith(VIRTUAL_THREAD_TASK_PREFIX)) {
+            return false;
+          }
+
           // ScheduledRunnable is a wrapper around a Runnable and doesn't itself need context.
           if (taskClass.getName().equals("io.reactivex.internal.schedulers.ScheduledRunnable")) {
             return false;
@@ -115,9 +174,58 @@ public class ExecutorInstrumentationUtils {
       return false;
     }
 
+    if (task instanceof RunnableWrapper
+        && isVirtualThreadTask(((RunnableWrapper) task).getDelegate())) {
+      // the continuation mounting a virtual thread is a lambda, so it was wrapped before getting here
+      return false;
+    }
     return INSTRUMENTED_RUNNABLE_CLASS.get(task.getClass());
   }
 
+  private static boolean isVirtualThreadTask(Object task) {
+    return task.getClass().getName().startsWith(VIRTUAL_THREAD_TASK_PREFIX);
+  }
+
+  /**
+   * Returns whether the lambda {@code task} submitted to {@code executor} can be passed through as
+   * is, instead of being wrapped with {@link RunnableWrapper}. This is only the case with {@code
+   * otel.instrumentation.executors.experimental-lambda-tagging.enabled} for capturing lambdas
+   * submitted to thread pool executors that don't override {@link ThreadPoolExecutor}'s execution
+   * hooks.
+   */
+  public static boolean shouldTagLambdaTask(Object executor, Runnable task) {
+    return LAMBDA_TAGGING_ENABLED
+        && task != null
+        && isLambda(task)
+        && CAPTURING_LAMBDA_CLASS.get(task.getClass())
+        && LAMBDA_TAGGING_EXECUTOR_CLASS.get(executor.getClass());
+  }
+
+  /**
+   * Returns whether the lambda task tagging mode is enabled, see {@link
+   * #shouldTagLambdaTask(Object, Runnable)}.
+   */
+  public static boolean isLambdaTaggingEnabled() {
+    return LAMBDA_TAGGING_ENABLED;
+  }
+
+  static boolean isLambda(Object task) {
+    // Anonymous classes have '/' in class name which is not allowed in 'normal' classes.
+    return task.getClass().getName().contains("/");
+  }
+
+  private static boolean declaresMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+    try {
+      c.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    } catch (Throwable t) {
+      // can't tell, assume the worst
+      return true;
+    }
+  }
+
   /**
    * Create task state given current scope.
    *
@@ -128,7 +236,12 @@ public class ExecutorInstrumentationUtils {
    * @return new state
    */
   public static <T> State setupState(ContextStore<T, State> contextStore, T task, Context context) {
-    State state = contextStore.putIfAbsent(task, State.FACTORY);
+    // the task usually is new, but when it was already submitted with this context, e.g. by an outer
+    // execute() that delegates to another instrumented method, its state is left untouched
+    State state = contextStore.get(task);
+    if (state == null) {
+      state = contextStore.putIfAbsent(task, State.FACTORY);
+    }
     if (ContextPropagationDebug.isThreadPropagationDebuggerEnabled()) {
       List<StackTraceElement[]> locations = ContextPropagationDebug.getLocations(context);
       if (locations == null) {
@@ -136,6 +249,8 @@ public class ExecutorInstrumentationUtils {
         context = ContextPropagationDebug.withLocations(locations, context);
       }
       locations.add(0, new Exception().getStackTrace());
+    } else if (state.hasParentContext(context)) {
+      return state;
     }
     state.setParentContext(context);
     return state;
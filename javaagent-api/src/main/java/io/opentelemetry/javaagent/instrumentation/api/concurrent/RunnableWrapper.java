@@ -28,6 +28,10 @@ public final class RunnableWrapper implements Runnable {
     runnable.run();
   }
 
+  Runnable getDelegate() {
+    return runnable;
+  }
+
   public static Runnable wrapIfNeeded(Runnable task) {
     // We wrap only lambdas' anonymous classes and if given object has not already been wrapped.
     // Anonymous classes have '/' in class name which is not allowed in 'normal' classes.
@@ -41,6 +41,10 @@ public class State {
     }
   }
 
+  boolean hasParentContext(Context parentContext) {
+    return this.parentContext == parentContext;
+  }
+
   public void clearParentContext() {
     parentContextUpdater.set(this, null);
   }
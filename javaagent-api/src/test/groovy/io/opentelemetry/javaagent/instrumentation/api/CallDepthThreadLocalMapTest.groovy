@@ -5,6 +5,10 @@
 
 package io.opentelemetry.javaagent.instrumentation.api
 
+import static io.opentelemetry.instrumentation.test.utils.GcUtils.awaitGc
+
+import groovy.transform.CompileStatic
+import java.lang.ref.WeakReference
 import spock.lang.Specification
 
 class CallDepthThreadLocalMapTest extends Specification {
@@ -50,4 +54,133 @@ class CallDepthThreadLocalMapTest extends Specification {
     CallDepthThreadLocalMap.decrementCallDepth(k3) == 0
 
   }
+
+  def "test CallDepthThreadLocalMap with many keys"() {
+    setup:
+    // more keys than the initial capacity of the per-thread array
+    def keys = (0..<100).collect { new GroovyClassLoader().parseClass("class Key$it {}") }
+
+    when:
+    keys.each { CallDepthThreadLocalMap.incrementCallDepth(it) }
+
+    then:
+    keys.every { CallDepthThreadLocalMap.getCallDepth(it).get() == 1 }
+    keys.every { CallDepthThreadLocalMap.getCallDepth(it).is(CallDepthThreadLocalMap.getCallDepth(it)) }
+
+    when:
+    keys.each { CallDepthThreadLocalMap.decrementCallDepth(it) }
+
+    then:
+    keys.every { CallDepthThreadLocalMap.getCallDepth(it).get() == 0 }
+  }
+
+  def "test CallDepthThreadLocalMap with precomputed key"() {
+    setup:
+    Class<?> k = Short
+    def key = CallDepthThreadLocalMap.key(k)
+
+    expect:
+    CallDepthThreadLocalMap.incrementCallDepth(key) == 0
+    // shares the call depth of the class it was created for
+    CallDepthThreadLocalMap.incrementCallDepth(k) == 1
+    CallDepthThreadLocalMap.getCallDepth(key).is(CallDepthThreadLocalMap.getCallDepth(k))
+    CallDepthThreadLocalMap.decrementCallDepth(key) == 1
+
+    when:
+    CallDepthThreadLocalMap.reset(key)
+
+    then:
+    CallDepthThreadLocalMap.getCallDepth(k).get() == 0
+  }
+
+  def "test CallDepthThreadLocalMap is thread local"() {
+    setup:
+    Class<?> k = Long
+
+    when:
+    CallDepthThreadLocalMap.incrementCallDepth(k)
+    int otherThreadDepth = -1
+    def thread = new Thread({ otherThreadDepth = CallDepthThreadLocalMap.incrementCallDepth(k) })
+    thread.start()
+    thread.join()
+
+    then:
+    otherThreadDepth == 0
+    CallDepthThreadLocalMap.decrementCallDepth(k) == 0
+  }
+
+  def "test CallDepthThreadLocalMap reuses the indexes of unloaded classes"() {
+    setup:
+    int firstIndex = CallDepthThreadLocalMap.key(loadChurnKey()).index
+    def indexes = new HashSet()
+
+    when:
+    for (int i = 0; i < 1000; i++) {
+      def loaderRef = new WeakReference(churn(indexes))
+      if (i % 50 == 49) {
+        awaitGc(loaderRef)
+      }
+    }
+
+    then:
+    // without reusing indexes every class would have taken a new one
+    indexes.size() < 1000
+    indexes.every { it < firstIndex + 200 }
+  }
+
+  def "test CallDepthThreadLocalMap doesn't share the call depth of an unloaded class"() {
+    setup:
+    def indexes = new HashSet()
+    def loaderRef = new WeakReference(churn(indexes))
+    awaitGc(loaderRef)
+
+    when:
+    def depths = (0..<100).collect {
+      def k = loadChurnKey()
+      def depth = CallDepthThreadLocalMap.incrementCallDepth(k)
+      indexes.add(CallDepthThreadLocalMap.key(k).index)
+      depth
+    }
+
+    then:
+    depths.every { it == 0 }
+  }
+
+  // leaves a call depth of 1 behind for a class whose loader can be collected
+  private static ClassLoader churn(Set<Integer> indexes) {
+    def classLoader = new ChurnClassLoader()
+    Class<?> k = Class.forName(ChurnKey.name, false, classLoader)
+    CallDepthThreadLocalMap.incrementCallDepth(k)
+    indexes.add(CallDepthThreadLocalMap.key(k).index)
+    return classLoader
+  }
+
+  private static Class<?> loadChurnKey() {
+    return Class.forName(ChurnKey.name, false, new ChurnClassLoader())
+  }
+
+  static class ChurnKey {
+  }
+
+  // loads its own copy of ChurnKey, which is unloaded together with the class loader
+  @CompileStatic
+  static class ChurnClassLoader extends URLClassLoader {
+
+    ChurnClassLoader() {
+      super([ChurnKey.protectionDomain.codeSource.location] as URL[], ChurnKey.classLoader)
+    }
+
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name != ChurnKey.name) {
+        return super.loadClass(name, resolve)
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> clazz = findLoadedClass(name)
+        if (clazz == null) {
+          clazz = findClass(name)
+        }
+        return clazz
+      }
+    }
+  }
 }
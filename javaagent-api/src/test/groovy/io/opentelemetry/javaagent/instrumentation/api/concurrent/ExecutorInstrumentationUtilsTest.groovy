@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.concurrent
+
+import io.opentelemetry.context.Context
+import io.opentelemetry.context.ContextKey
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore
+import java.util.concurrent.ForkJoinPool
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ExecutorInstrumentationUtilsTest extends Specification {
+
+  @Shared
+  def key = ContextKey.<String> named("test")
+
+  def "attaches the submitting context to a new task"() {
+    setup:
+    def store = new MapContextStore()
+    def task = new Object()
+    def context = Context.root().with(key, "parent")
+
+    when:
+    def state = ExecutorInstrumentationUtils.setupState(store, task, context)
+
+    then:
+    store.get(task).is(state)
+    store.putIfAbsentCalls == 1
+    state.getAndResetParentContext().is(context)
+  }
+
+  def "reuses the state of a task submitted again with the same context"() {
+    setup:
+    def store = new MapContextStore()
+    def task = new Object()
+    def context = Context.root().with(key, "parent")
+    def state = ExecutorInstrumentationUtils.setupState(store, task, context)
+
+    when:
+    def resubmitted = ExecutorInstrumentationUtils.setupState(store, task, context)
+
+    then:
+    resubmitted.is(state)
+    store.putIfAbsentCalls == 1
+    state.getAndResetParentContext().is(context)
+  }
+
+  def "keeps the first context of a task submitted again with another context"() {
+    setup:
+    def store = new MapContextStore()
+    def task = new Object()
+    def first = Context.root().with(key, "first")
+    def second = Context.root().with(key, "second")
+    def state = ExecutorInstrumentationUtils.setupState(store, task, first)
+
+    when:
+    def resubmitted = ExecutorInstrumentationUtils.setupState(store, task, second)
+
+    then:
+    resubmitted.is(state)
+    state.getAndResetParentContext().is(first)
+  }
+
+  def "attaches the context again once the task has run"() {
+    setup:
+    def store = new MapContextStore()
+    def task = new Object()
+    def first = Context.root().with(key, "first")
+    def second = Context.root().with(key, "second")
+    def state = ExecutorInstrumentationUtils.setupState(store, task, first)
+    state.getAndResetParentContext()
+
+    when:
+    ExecutorInstrumentationUtils.setupState(store, task, second)
+
+    then:
+    state.getAndResetParentContext().is(second)
+  }
+
+  def "checks the class of a wrapped task only for virtual threads"() {
+    setup:
+    def pool = new ForkJoinPool(1)
+    // a task class that never gets state attached
+    Runnable workerThread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool)
+    Runnable lambda = { -> }
+    def scope = Context.root().with(key, "parent").makeCurrent()
+
+    expect:
+    !ExecutorInstrumentationUtils.shouldAttachStateToTask(workerThread)
+    // a wrapper gets state attached whatever it wraps, as before virtual threads were supported
+    ExecutorInstrumentationUtils.shouldAttachStateToTask(new RunnableWrapper(workerThread))
+    ExecutorInstrumentationUtils.shouldAttachStateToTask(new RunnableWrapper(lambda))
+
+    cleanup:
+    scope.close()
+    pool.shutdown()
+  }
+
+  static class MapContextStore implements ContextStore<Object, State> {
+    final Map<Object, State> map = new IdentityHashMap<>()
+    int putIfAbsentCalls
+
+    @Override
+    State get(Object key) {
+      return map.get(key)
+    }
+
+    @Override
+    void put(Object key, State context) {
+      map.put(key, context)
+    }
+
+    @Override
+    State putIfAbsent(Object key, State context) {
+      putIfAbsentCalls++
+      return map.putIfAbsent(key, context) ?: context
+    }
+
+    @Override
+    State putIfAbsent(Object key, ContextStore.Factory<State> contextFactory) {
+      putIfAbsentCalls++
+      return map.computeIfAbsent(key, { contextFactory.create() })
+    }
+  }
+}
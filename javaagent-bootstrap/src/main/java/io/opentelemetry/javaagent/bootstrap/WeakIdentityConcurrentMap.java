@@ -0,0 +1,156 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent map with weakly referenced keys that are compared by identity. Entries are removed
+ * once their key is garbage collected; stale entries are expunged inline on writes, there is no
+ * cleaner thread.
+ *
+ * <p>This is the storage used by field backed context stores for keys whose class could not be
+ * given an injected field (e.g. JDK classes loaded before the agent). Unlike a weak map guarded by
+ * a single lock, {@link #putIfAbsent(Object, Object)} never blocks and {@link
+ * #computeIfAbsent(Object, ContextStore.Factory)} only locks the hash bin of the key, so executor
+ * tasks submitted from many threads don't contend with each other.
+ */
+public final class WeakIdentityConcurrentMap<K, V> {
+
+  private final ConcurrentHashMap<Object, V> map = new ConcurrentHashMap<>();
+  private final ReferenceQueue<K> referenceQueue = new ReferenceQueue<>();
+
+  /** Returns the value for {@code key}, or {@code null} if there is none. */
+  public V get(K key) {
+    return map.get(new LookupKey(key));
+  }
+
+  /** Associates {@code value} with {@code key}, replacing any previous value. */
+  public void put(K key, V value) {
+    expungeStaleEntries();
+    map.put(new WeakKey<>(key, referenceQueue), value);
+  }
+
+  /**
+   * Associates {@code value} with {@code key} unless the key already has a value. Returns the
+   * existing value, or {@code value} if it was stored.
+   */
+  public V putIfAbsent(K key, V value) {
+    V existing = get(key);
+    if (existing != null) {
+      return existing;
+    }
+    expungeStaleEntries();
+    existing = map.putIfAbsent(new WeakKey<>(key, referenceQueue), value);
+    return existing != null ? existing : value;
+  }
+
+  /**
+   * Returns the value for {@code key}, creating it with {@code factory} if the key has no value
+   * yet. The factory is called at most once per key, while holding a lock that is only shared with
+   * keys in the same hash bin.
+   */
+  public V computeIfAbsent(K key, ContextStore.Factory<? extends V> factory) {
+    V existing = get(key);
+    if (existing != null) {
+      return existing;
+    }
+    expungeStaleEntries();
+    return map.computeIfAbsent(new WeakKey<>(key, referenceQueue), new FactoryFunction<>(factory));
+  }
+
+  /** Removes the value for {@code key}, if any. */
+  public void remove(K key) {
+    expungeStaleEntries();
+    map.remove(new LookupKey(key));
+  }
+
+  // Visible for testing
+  int approximateSize() {
+    return map.size();
+  }
+
+  // Visible for testing
+  void expungeStaleEntries() {
+    Reference<?> reference;
+    while ((reference = referenceQueue.poll()) != null) {
+      map.remove(reference);
+    }
+  }
+
+  // WeakKey and LookupKey are equal when they reference the same instance, so that the map can be
+  // queried without allocating a weak reference
+  private static final class WeakKey<K> extends WeakReference<K> {
+    private final int hashCode;
+
+    WeakKey(K key, ReferenceQueue<? super K> queue) {
+      super(key, queue);
+      hashCode = System.identityHashCode(key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      // a cleared key is only equal to itself, so that expunging it doesn't remove other entries
+      Object key = get();
+      if (key == null) {
+        return false;
+      }
+      if (obj instanceof LookupKey) {
+        return ((LookupKey) obj).key == key;
+      }
+      return obj instanceof WeakKey && ((WeakKey<?>) obj).get() == key;
+    }
+  }
+
+  private static final class LookupKey {
+    final Object key;
+    private final int hashCode;
+
+    LookupKey(Object key) {
+      this.key = key;
+      hashCode = System.identityHashCode(key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof WeakKey) {
+        return key != null && ((WeakKey<?>) obj).get() == key;
+      }
+      return obj instanceof LookupKey && ((LookupKey) obj).key == key;
+    }
+  }
+
+  private static final class FactoryFunction<V> implements Function<Object, V> {
+    private final ContextStore.Factory<? extends V> factory;
+
+    FactoryFunction(ContextStore.Factory<? extends V> factory) {
+      this.factory = factory;
+    }
+
+    @Override
+    public V apply(Object key) {
+      return factory.create();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.instrumentation.test.utils.GcUtils;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WeakIdentityConcurrentMapTest {
+
+  @Test
+  void comparesKeysByIdentity() {
+    WeakIdentityConcurrentMap<String, String> map = new WeakIdentityConcurrentMap<>();
+    String key = new String("key");
+    String equalKey = new String("key");
+
+    map.put(key, "value");
+
+    assertThat(map.get(key)).isEqualTo("value");
+    assertThat(map.get(equalKey)).isNull();
+  }
+
+  @Test
+  void putIfAbsent() {
+    WeakIdentityConcurrentMap<Object, String> map = new WeakIdentityConcurrentMap<>();
+    Object key = new Object();
+
+    assertThat(map.putIfAbsent(key, "first")).isEqualTo("first");
+    assertThat(map.putIfAbsent(key, "second")).isEqualTo("first");
+
+    map.remove(key);
+
+    assertThat(map.get(key)).isNull();
+    assertThat(map.putIfAbsent(key, "third")).isEqualTo("third");
+  }
+
+  @Test
+  void computeIfAbsentCallsFactoryOnce() throws Exception {
+    WeakIdentityConcurrentMap<Object, Object> map = new WeakIdentityConcurrentMap<>();
+    Object key = new Object();
+    AtomicInteger factoryCalls = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    map.computeIfAbsent(
+                        key,
+                        () -> {
+                          factoryCalls.incrementAndGet();
+                          return new Object();
+                        })));
+      }
+      for (Future<Object> result : results) {
+        assertThat(result.get()).isSameAs(map.get(key));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(factoryCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void removesEntriesOfCollectedKeys() throws InterruptedException {
+    WeakIdentityConcurrentMap<Object, String> map = new WeakIdentityConcurrentMap<>();
+    Object key = new Object();
+    WeakReference<Object> keyRef = new WeakReference<>(key);
+    map.put(key, "value");
+    assertThat(map.approximateSize()).isEqualTo(1);
+
+    key = null;
+    GcUtils.awaitGc(keyRef);
+    // the reference may be enqueued a little after it has been cleared
+    while (map.approximateSize() != 0) {
+      Thread.sleep(10);
+      map.expungeStaleEntries();
+    }
+
+    assertThat(map.approximateSize()).isZero();
+  }
+}
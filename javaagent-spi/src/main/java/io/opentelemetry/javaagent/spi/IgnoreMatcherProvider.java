@@ -19,6 +19,17 @@ import net.bytebuddy.description.type.TypeDescription;
  */
 public interface IgnoreMatcherProvider {
 
+  /**
+   * Adds name based ignore rules. They are merged with the default global ignores of the agent into
+   * a single prefix tree, so they are cheaper to evaluate than {@link #type(TypeDescription)} and
+   * should be preferred where possible. This method is called once, when the agent is installed.
+   * Rules added here override the defaults; {@link #type(TypeDescription)} is still evaluated
+   * first.
+   *
+   * @param builder the builder to add rules to.
+   */
+  default void configure(IgnoredTypesBuilder builder) {}
+
   /**
    * Whether to ignore (or allow) type. This method is called for every class, therefore the
    * implementation has to be as efficient as possible.
@@ -0,0 +1,26 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.spi;
+
+/**
+ * Adds name based rules to the global ignores of the agent, see {@link
+ * IgnoreMatcherProvider#configure(IgnoredTypesBuilder)}.
+ *
+ * <p>A class name ending with {@code *} matches all classes whose name starts with the part before
+ * the {@code *}; any other class name only matches that exact class. When several rules match a
+ * class, the rule for its exact name wins, and otherwise the rule with the longest prefix wins.
+ */
+public interface IgnoredTypesBuilder {
+
+  /** Ignores the class (or all classes with the prefix) {@code classNameOrPrefix}. */
+  IgnoredTypesBuilder ignoreClass(String classNameOrPrefix);
+
+  /**
+   * Allows instrumenting the class (or all classes with the prefix) {@code classNameOrPrefix}, even
+   * if it's ignored by a less specific rule.
+   */
+  IgnoredTypesBuilder allowClass(String classNameOrPrefix);
+}
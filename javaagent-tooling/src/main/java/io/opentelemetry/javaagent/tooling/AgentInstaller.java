@@ -24,6 +24,7 @@ import io.opentelemetry.javaagent.spi.IgnoreMatcherProvider;
 import io.opentelemetry.javaagent.tooling.config.ConfigInitializer;
 import io.opentelemetry.javaagent.tooling.context.FieldBackedProvider;
 import io.opentelemetry.javaagent.tooling.matcher.GlobalClassloaderIgnoresMatcher;
+import io.opentelemetry.javaagent.tooling.matcher.PersistentTypeMatchCache;
 import java.lang.instrument.Instrumentation;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -137,7 +138,16 @@ public class AgentInstaller {
 
     ignoredAgentBuilder = ignoredAgentBuilder.or(matchesConfiguredExcludes());
 
+    // must come last, so that it only sees the classes that actually go through type matching
+    PersistentTypeMatchCache typeMatchCache = PersistentTypeMatchCache.create(config);
+    if (typeMatchCache != null) {
+      ignoredAgentBuilder = ignoredAgentBuilder.or(typeMatchCache.knownUnmatchedTypeMatcher());
+    }
+
     AgentBuilder agentBuilder = ignoredAgentBuilder;
+    if (typeMatchCache != null) {
+      agentBuilder = agentBuilder.with(typeMatchCache.transformationListener());
+    }
     if (log.isDebugEnabled()) {
       agentBuilder =
           agentBuilder
@@ -148,11 +158,13 @@ public class AgentInstaller {
     }
 
     int numInstrumenters = 0;
+    List<InstrumentationModule> installedModules = new ArrayList<>();
 
     for (InstrumentationModule instrumentationModule : loadInstrumentationModules()) {
       log.debug("Loading instrumentation {}", instrumentationModule.getClass().getName());
       try {
         agentBuilder = instrumentationModule.instrument(agentBuilder);
+        installedModules.add(instrumentationModule);
         numInstrumenters++;
       } catch (Exception | LinkageError e) {
         log.error(
@@ -160,6 +172,14 @@ public class AgentInstaller {
       }
     }
 
+    if (config.getBooleanProperty(AheadOfTimeMuzzleMatcher.ENABLED_CONFIG, false)) {
+      agentBuilder =
+          agentBuilder.with(
+              new AheadOfTimeMuzzleMatcher(
+                  installedModules,
+                  GlobalClassloaderIgnoresMatcher.skipClassLoader(ignoreMatcherProvider)));
+    }
+
     agentBuilder = customizeByteBuddyAgent(agentBuilder);
     log.debug("Installed {} instrumenter(s)", numInstrumenters);
     ResettableClassFileTransformer resettableClassFileTransformer = agentBuilder.installOn(inst);
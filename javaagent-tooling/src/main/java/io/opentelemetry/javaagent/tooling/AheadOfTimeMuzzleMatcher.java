@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.JavaModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates the muzzle references of all instrumentation modules against a classloader on a
+ * background pool as soon as the first class of that classloader is seen, instead of lazily on the
+ * class loading thread when one of its classes first matches an instrumentation. The results are
+ * cached by the modules' {@code ReferenceMatcher}s, so in most cases muzzle matching during the
+ * transformation is only a cache lookup. This mostly helps applications that create many
+ * classloaders, e.g. application servers with many deployed webapps.
+ *
+ * <p>If a class loading thread needs a muzzle result before the background pool got to it, it
+ * evaluates the references itself, just like without this listener.
+ */
+final class AheadOfTimeMuzzleMatcher extends AgentBuilder.Listener.Adapter {
+
+  private static final Logger log = LoggerFactory.getLogger(AheadOfTimeMuzzleMatcher.class);
+
+  static final String ENABLED_CONFIG =
+      "otel.javaagent.experimental.muzzle.ahead-of-time-matching.enabled";
+
+  private final Cache<ClassLoader, Boolean> seenClassLoaders =
+      Cache.newBuilder().setWeakKeys().build();
+  private final List<InstrumentationModule> instrumentationModules;
+  private final ElementMatcher<ClassLoader> skipClassLoaderMatcher;
+  private final ThreadPoolExecutor executor;
+
+  AheadOfTimeMuzzleMatcher(
+      List<InstrumentationModule> instrumentationModules,
+      ElementMatcher<ClassLoader> skipClassLoaderMatcher) {
+    this.instrumentationModules = instrumentationModules;
+    this.skipClassLoaderMatcher = skipClassLoaderMatcher;
+    int threads = Runtime.getRuntime().availableProcessors();
+    executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            new DaemonThreadFactory("otel-muzzle-matcher"));
+    // classloaders are usually created in bursts at startup or on redeployment
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  @Override
+  public void onDiscovery(
+      String typeName, ClassLoader classLoader, JavaModule module, boolean loaded) {
+    // the bootstrap classloader exists before the agent starts, there's nothing to get ahead of
+    if (classLoader == null || seenClassLoaders.get(classLoader) != null) {
+      return;
+    }
+    seenClassLoaders.computeIfAbsent(classLoader, this::submit);
+  }
+
+  private Boolean submit(ClassLoader classLoader) {
+    if (skipClassLoaderMatcher.matches(classLoader)) {
+      return Boolean.FALSE;
+    }
+    for (InstrumentationModule instrumentationModule : instrumentationModules) {
+      executor.execute(new MatchTask(instrumentationModule, classLoader));
+    }
+    return Boolean.TRUE;
+  }
+
+  private static class MatchTask implements Runnable {
+    private final InstrumentationModule instrumentationModule;
+    private final ClassLoader classLoader;
+
+    private MatchTask(InstrumentationModule instrumentationModule, ClassLoader classLoader) {
+      this.instrumentationModule = instrumentationModule;
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    public void run() {
+      try {
+        instrumentationModule.matchMuzzleReferencesAheadOfTime(classLoader);
+      } catch (Exception | LinkageError e) {
+        // the class loading thread will evaluate the references (and report errors) on its own
+        log.debug(
+            "Unable to match muzzle references of {} on {}",
+            instrumentationModule.getClass().getName(),
+            classLoader,
+            e);
+      }
+    }
+  }
+}
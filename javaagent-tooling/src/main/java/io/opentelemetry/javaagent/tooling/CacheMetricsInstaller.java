@@ -0,0 +1,86 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.common.Labels;
+import io.opentelemetry.instrumentation.api.caching.CacheStats;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.spi.ComponentInstaller;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reports the statistics of the agent's caches that record them (see {@link
+ * io.opentelemetry.instrumentation.api.caching.CacheBuilder#setRecordStats(String)}) as metrics,
+ * labeled with the cache name:
+ *
+ * <pre>
+ *   otel.javaagent.cache.hits{cache="db-statement-sanitizer"} 1523
+ *   otel.javaagent.cache.misses{cache="db-statement-sanitizer"} 87
+ *   otel.javaagent.cache.evictions{cache="db-statement-sanitizer"} 12
+ * </pre>
+ */
+@AutoService(ComponentInstaller.class)
+public class CacheMetricsInstaller implements ComponentInstaller {
+
+  static final String CACHE_METRICS_ENABLED_CONFIG =
+      "otel.javaagent.experimental.cache-metrics.enabled";
+
+  private static final String CACHE_LABEL_KEY = "cache";
+
+  @Override
+  public void afterByteBuddyAgent(Config config) {
+    if (config.getBooleanProperty(CACHE_METRICS_ENABLED_CONFIG, false)) {
+      registerObservers();
+    }
+  }
+
+  static void registerObservers() {
+    Meter meter = GlobalMeterProvider.getMeter("io.opentelemetry.javaagent.caching");
+    registerObserver(
+        meter,
+        "otel.javaagent.cache.hits",
+        "The number of lookups that found a cached value.",
+        "hits",
+        CacheStats::hitCount);
+    registerObserver(
+        meter,
+        "otel.javaagent.cache.misses",
+        "The number of lookups that did not find a cached value.",
+        "misses",
+        CacheStats::missCount);
+    registerObserver(
+        meter,
+        "otel.javaagent.cache.evictions",
+        "The number of entries evicted because of the size, weight or expiry bounds.",
+        "evictions",
+        CacheStats::evictionCount);
+  }
+
+  private static void registerObserver(
+      Meter meter,
+      String name,
+      String description,
+      String unit,
+      ToLongFunction<CacheStats> value) {
+    meter
+        .longSumObserverBuilder(name)
+        .setDescription(description)
+        .setUnit(unit)
+        .setUpdater(
+            resultLongObserver -> {
+              for (Map.Entry<String, CacheStats> entry : CacheStats.snapshot().entrySet()) {
+                resultLongObserver.observe(
+                    value.applyAsLong(entry.getValue()),
+                    Labels.of(CACHE_LABEL_KEY, entry.getKey()));
+              }
+            })
+        .build();
+  }
+}
@@ -61,6 +61,9 @@ public abstract class InstrumentationModule {
   private final Set<String> instrumentationNames;
   protected final boolean enabled;
 
+  // set when the module is added to the agent builder, used by the ahead-of-time muzzle matching
+  private volatile ElementMatcher<ClassLoader> installedClassLoaderMatcher;
+
   /**
    * Creates an instrumentation module. Note that all implementations of {@link
    * InstrumentationModule} must have a default constructor (for SPI), so they have to pass the
@@ -132,6 +135,7 @@ public abstract class InstrumentationModule {
     }
 
     ElementMatcher.Junction<ClassLoader> moduleClassLoaderMatcher = classLoaderMatcher();
+    installedClassLoaderMatcher = moduleClassLoaderMatcher;
     MuzzleMatcher muzzleMatcher = new MuzzleMatcher();
     HelperInjector helperInjector =
         new HelperInjector(mainInstrumentationName(), helperClassNames, helperResourceNames);
@@ -249,6 +253,22 @@ public abstract class InstrumentationModule {
     }
   }
 
+  /**
+   * Evaluates the muzzle references of this module against a classloader and caches the result for
+   * the {@link MuzzleMatcher}. Does nothing if the module was not added to the agent builder or
+   * does not apply to the classloader.
+   */
+  final void matchMuzzleReferencesAheadOfTime(ClassLoader classLoader) {
+    ElementMatcher<ClassLoader> moduleClassLoaderMatcher = installedClassLoaderMatcher;
+    if (moduleClassLoaderMatcher == null || !moduleClassLoaderMatcher.matches(classLoader)) {
+      return;
+    }
+    ReferenceMatcher muzzle = getMuzzleReferenceMatcher();
+    if (muzzle != null) {
+      muzzle.matchAheadOfTime(classLoader);
+    }
+  }
+
   private String mainInstrumentationName() {
     return instrumentationNames.iterator().next();
   }
@@ -9,6 +9,7 @@ import static net.bytebuddy.agent.builder.AgentBuilder.PoolStrategy;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.opentelemetry.instrumentation.api.config.Config;
 import java.lang.ref.WeakReference;
 import java.util.Objects;
 import net.bytebuddy.description.annotation.AnnotationList;
@@ -41,15 +42,26 @@ import net.bytebuddy.pool.TypePool;
  *
  * <p>Eviction is handled almost entirely through a size restriction; however, softValues are still
  * used as a further safeguard.
+ *
+ * <p>The concurrency level, the loader capacity and the default type capacity scale with the number
+ * of available processors, since classes are often loaded by many threads in parallel during
+ * startup. The type capacity can be set with the {@code
+ * otel.javaagent.experimental.type-pool-cache.capacity} property.
  */
 public class AgentCachingPoolStrategy implements PoolStrategy {
 
   // Many things are package visible for testing purposes --
   // others to avoid creation of synthetic accessors
 
-  static final int CONCURRENCY_LEVEL = 8;
-  static final int LOADER_CAPACITY = 64;
-  static final int TYPE_CAPACITY = 64;
+  static final int CONCURRENCY_LEVEL = Math.max(8, Runtime.getRuntime().availableProcessors());
+  // guava gives every segment at least 20 entries, so the capacities have to grow together with the
+  // concurrency level for the extra segments to be used
+  static final int LOADER_CAPACITY = Math.max(64, 16 * CONCURRENCY_LEVEL);
+  static final int TYPE_CAPACITY =
+      Config.get()
+          .getIntProperty(
+              "otel.javaagent.experimental.type-pool-cache.capacity",
+              Math.max(64, 16 * CONCURRENCY_LEVEL));
 
   static final int BOOTSTRAP_HASH = 7236344; // Just a random number
 
@@ -145,7 +157,7 @@ public class AgentCachingPoolStrategy implements PoolStrategy {
       this.loaderRef = loaderRef;
       this.className = className;
 
-      hashCode = Objects.hash(loaderHash, className);
+      hashCode = 31 * loaderHash + className.hashCode();
     }
 
     @Override
@@ -9,9 +9,9 @@ import static io.opentelemetry.javaagent.tooling.bytebuddy.matcher.AgentElementM
 import static io.opentelemetry.javaagent.tooling.bytebuddy.matcher.ClassLoaderMatcher.BOOTSTRAP_CLASSLOADER;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 
-import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.javaagent.bootstrap.FieldBackedContextStoreAppliedMarker;
+import io.opentelemetry.javaagent.bootstrap.WeakIdentityConcurrentMap;
 import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
 import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import io.opentelemetry.javaagent.tooling.HelperInjector;
@@ -789,7 +789,8 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
 
           /**
            * Provides implementation for {@code realSynchronizeInstance} method that looks like
-           * below.
+           * below. For keys without an injected field it returns {@code null}, in which case the
+           * fallback map is updated atomically instead of under a lock.
            *
            * <blockquote>
            *
@@ -849,16 +850,16 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
 
   /**
    * Template class used to generate the class that accesses stored context using either key
-   * instance's own injected field or global hash map if field is not available.
+   * instance's own injected field or a concurrent weak identity map if field is not available.
    */
   private static final class ContextStoreImplementationTemplate
       implements ContextStore<Object, Object> {
     private static final ContextStoreImplementationTemplate INSTANCE =
-        new ContextStoreImplementationTemplate(Cache.newBuilder().setWeakKeys().build());
+        new ContextStoreImplementationTemplate(new WeakIdentityConcurrentMap<>());
 
-    private final Cache<Object, Object> map;
+    private final WeakIdentityConcurrentMap<Object, Object> map;
 
-    private ContextStoreImplementationTemplate(Cache<Object, Object> map) {
+    private ContextStoreImplementationTemplate(WeakIdentityConcurrentMap<Object, Object> map) {
       this.map = map;
     }
 
@@ -873,7 +874,11 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       if (null != existingContext) {
         return existingContext;
       }
-      synchronized (realSynchronizeInstance(key)) {
+      Object lock = realSynchronizeInstance(key);
+      if (lock == null) {
+        return map.putIfAbsent(key, context);
+      }
+      synchronized (lock) {
         existingContext = realGet(key);
         if (null != existingContext) {
           return existingContext;
@@ -889,7 +894,11 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       if (null != existingContext) {
         return existingContext;
       }
-      synchronized (realSynchronizeInstance(key)) {
+      Object lock = realSynchronizeInstance(key);
+      if (lock == null) {
+        return map.computeIfAbsent(key, contextFactory);
+      }
+      synchronized (lock) {
         existingContext = realGet(key);
         if (null != existingContext) {
           return existingContext;
@@ -931,8 +940,10 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       }
     }
 
+    // keys without an injected field are stored in the map, which updates them atomically without a
+    // lock; returning null tells putIfAbsent to use the map directly
     private Object mapSynchronizeInstance(Object key) {
-      return map;
+      return null;
     }
 
     public static ContextStore getContextStore(Class keyClass, Class contextClass) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.matcher;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable trie of class names and class name prefixes. It's used to check a class name against
+ * hundreds of ignore rules with a single pass over the name, instead of a long chain of {@link
+ * String#startsWith(String)} calls.
+ *
+ * <p>A key ending with {@code *} matches all names that start with the part before the {@code *};
+ * any other key only matches that exact name. When several keys match a name, the exact match wins,
+ * and otherwise the longest prefix wins.
+ */
+public final class ClassNameTrie<V> {
+
+  public static <V> Builder<V> builder() {
+    return new Builder<>();
+  }
+
+  private final Node<V> root;
+
+  private ClassNameTrie(Node<V> root) {
+    this.root = root;
+  }
+
+  /** Returns the value of the most specific key matching {@code name}, or {@code null}. */
+  @Nullable
+  public V getOrNull(String name) {
+    Node<V> node = root;
+    V result = node.prefixValue;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.child(name.charAt(i));
+      if (node == null) {
+        return result;
+      }
+      if (node.prefixValue != null) {
+        result = node.prefixValue;
+      }
+    }
+    return node.exactValue != null ? node.exactValue : result;
+  }
+
+  private static final class Node<V> {
+    // sorted, so that children can be found with a binary search
+    final char[] chars;
+    final Node<V>[] children;
+    @Nullable final V prefixValue;
+    @Nullable final V exactValue;
+
+    Node(
+        char[] chars, Node<V>[] children, @Nullable V prefixValue, @Nullable V exactValue) {
+      this.chars = chars;
+      this.children = children;
+      this.prefixValue = prefixValue;
+      this.exactValue = exactValue;
+    }
+
+    @Nullable
+    Node<V> child(char c) {
+      int index = Arrays.binarySearch(chars, c);
+      return index < 0 ? null : children[index];
+    }
+  }
+
+  /** A builder of {@link ClassNameTrie}. Later values replace earlier values for the same key. */
+  public static final class Builder<V> {
+    private final MutableNode<V> root = new MutableNode<>();
+
+    private Builder() {}
+
+    public Builder<V> put(String key, V value) {
+      boolean prefix = key.endsWith("*");
+      int length = prefix ? key.length() - 1 : key.length();
+      MutableNode<V> node = root;
+      for (int i = 0; i < length; i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode<>());
+      }
+      if (prefix) {
+        node.prefixValue = value;
+      } else {
+        node.exactValue = value;
+      }
+      return this;
+    }
+
+    public ClassNameTrie<V> build() {
+      return new ClassNameTrie<>(root.toNode());
+    }
+  }
+
+  private static final class MutableNode<V> {
+    final Map<Character, MutableNode<V>> children = new TreeMap<>();
+    @Nullable V prefixValue;
+    @Nullable V exactValue;
+
+    Node<V> toNode() {
+      char[] chars = new char[children.size()];
+      @SuppressWarnings("unchecked")
+      Node<V>[] nodes = (Node<V>[]) new Node<?>[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, MutableNode<V>> entry : children.entrySet()) {
+        chars[i] = entry.getKey();
+        nodes[i] = entry.getValue().toNode();
+        i++;
+      }
+      return new Node<>(chars, nodes, prefixValue, exactValue);
+    }
+  }
+}
@@ -24,6 +24,25 @@ public class GlobalClassloaderIgnoresMatcher
       "io.opentelemetry.javaagent.tooling.ExporterClassLoader";
   private static final Cache<ClassLoader, Boolean> skipCache =
       Cache.newBuilder().setWeakKeys().build();
+  private static final ClassNameTrie<Boolean> SKIPPED_CLASSLOADERS_TRIE =
+      ClassNameTrie.<Boolean>builder()
+          // by FQCN
+          .put("org.codehaus.groovy.runtime.callsite.CallSiteClassLoader", true)
+          .put("sun.reflect.DelegatingClassLoader", true)
+          .put("jdk.internal.reflect.DelegatingClassLoader", true)
+          .put("clojure.lang.DynamicClassLoader", true)
+          .put("org.apache.cxf.common.util.ASMHelper$TypeHelperClassLoader", true)
+          .put("sun.misc.Launcher$ExtClassLoader", true)
+          .put(AGENT_CLASSLOADER_NAME, true)
+          .put(EXPORTER_CLASSLOADER_NAME, true)
+          // by package prefix
+          .put("datadog.*", true)
+          .put("com.dynatrace.*", true)
+          .put("com.appdynamics.*", true)
+          .put("com.newrelic.agent.*", true)
+          .put("com.newrelic.api.agent.*", true)
+          .put("com.nr.agent.*", true)
+          .build();
 
   public static ElementMatcher.Junction.AbstractBase<ClassLoader> skipClassLoader(
       IgnoreMatcherProvider ignoreMatcherProvider) {
@@ -76,31 +95,7 @@ public class GlobalClassloaderIgnoresMatcher
   }
 
   private static boolean canSkipClassLoaderByName(ClassLoader loader) {
-    String name = loader.getClass().getName();
-    // check by FQCN
-    switch (name) {
-      case "org.codehaus.groovy.runtime.callsite.CallSiteClassLoader":
-      case "sun.reflect.DelegatingClassLoader":
-      case "jdk.internal.reflect.DelegatingClassLoader":
-      case "clojure.lang.DynamicClassLoader":
-      case "org.apache.cxf.common.util.ASMHelper$TypeHelperClassLoader":
-      case "sun.misc.Launcher$ExtClassLoader":
-      case AGENT_CLASSLOADER_NAME:
-      case EXPORTER_CLASSLOADER_NAME:
-        return true;
-      default:
-        // noop
-    }
-    // check by package prefix
-    if (name.startsWith("datadog.")
-        || name.startsWith("com.dynatrace.")
-        || name.startsWith("com.appdynamics.")
-        || name.startsWith("com.newrelic.agent.")
-        || name.startsWith("com.newrelic.api.agent.")
-        || name.startsWith("com.nr.agent.")) {
-      return true;
-    }
-    return false;
+    return SKIPPED_CLASSLOADERS_TRIE.getOrNull(loader.getClass().getName()) != null;
   }
 
   /**
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.tooling.matcher;
 
 import io.opentelemetry.javaagent.spi.IgnoreMatcherProvider;
+import io.opentelemetry.javaagent.spi.IgnoredTypesBuilder;
 import java.util.regex.Pattern;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -25,6 +26,10 @@ import net.bytebuddy.matcher.ElementMatcher;
  *   Uses {@link AdditionalLibraryIgnoresMatcher} to also ignore additional classes to minimize
  *   number of classes we apply expensive matchers to.
  * </ul>
+ *
+ * <p>Class name rules, including the ones added by {@link
+ * IgnoreMatcherProvider#configure(IgnoredTypesBuilder)}, are compiled into a single {@link
+ * ClassNameTrie} when the matcher is created.
  */
 public class GlobalIgnoresMatcher<T extends TypeDescription>
     extends ElementMatcher.Junction.AbstractBase<T> {
@@ -41,11 +46,91 @@ public class GlobalIgnoresMatcher<T extends TypeDescription>
       AdditionalLibraryIgnoresMatcher.additionalLibraryIgnoresMatcher();
   private final boolean additionalLibraryMatcher;
   private final IgnoreMatcherProvider ignoreMatcherProvider;
+  private final ClassNameTrie<IgnoreMatcherProvider.Result> ignoredTypesTrie;
 
   private GlobalIgnoresMatcher(
       boolean additionalLibraryMatcher, IgnoreMatcherProvider ignoreMatcherProvider) {
     this.additionalLibraryMatcher = additionalLibraryMatcher;
     this.ignoreMatcherProvider = ignoreMatcherProvider;
+
+    IgnoredTypesBuilderImpl builder = new IgnoredTypesBuilderImpl();
+    configureDefaultIgnores(builder);
+    // rules added by the provider override the defaults
+    ignoreMatcherProvider.configure(builder);
+    this.ignoredTypesTrie = builder.buildIgnoredTypesTrie();
+  }
+
+  private static void configureDefaultIgnores(IgnoredTypesBuilder builder) {
+    builder
+        .ignoreClass("org.gradle.*")
+        .ignoreClass("net.bytebuddy.*")
+        .ignoreClass("jdk.*")
+        .allowClass("jdk.internal.net.http.*")
+        .ignoreClass("org.aspectj.*")
+        .ignoreClass("datadog.*")
+        .ignoreClass("com.intellij.rt.debugger.*")
+        .ignoreClass("com.p6spy.*")
+        .ignoreClass("com.dynatrace.*")
+        .ignoreClass("com.jloadtrace.*")
+        .ignoreClass("com.appdynamics.*")
+        .ignoreClass("com.newrelic.agent.*")
+        .ignoreClass("com.newrelic.api.agent.*")
+        .ignoreClass("com.nr.agent.*")
+        .ignoreClass("com.singularity.*")
+        .ignoreClass("com.jinspired.*")
+        .ignoreClass("org.jinspired.*");
+
+    // groovy
+    builder
+        .ignoreClass("org.groovy.*")
+        .ignoreClass("org.apache.groovy.*")
+        .ignoreClass("org.codehaus.groovy.*")
+        // We seem to instrument some classes in runtime
+        .allowClass("org.codehaus.groovy.runtime.*");
+
+    // clojure
+    builder.ignoreClass("clojure.*");
+
+    builder
+        .ignoreClass("io.opentelemetry.javaagent.*")
+        // FIXME: We should remove this once
+        // https://github.com/raphw/byte-buddy/issues/558 is fixed
+        .allowClass("io.opentelemetry.javaagent.instrumentation.api.concurrent.RunnableWrapper")
+        .allowClass("io.opentelemetry.javaagent.instrumentation.api.concurrent.CallableWrapper");
+
+    builder
+        .ignoreClass("java.*")
+        .allowClass("java.net.URL")
+        .allowClass("java.net.HttpURLConnection")
+        .allowClass("java.rmi.*")
+        .allowClass("java.util.concurrent.*")
+        .allowClass("java.lang.ClassLoader")
+        .allowClass("java.lang.VirtualThread")
+        // Concurrent instrumentation modifies the structure of
+        // Cleaner class incompatibly with java9+ modules.
+        // Working around until a long-term fix for modules can be
+        // put in place.
+        .allowClass("java.util.logging.*")
+        .ignoreClass("java.util.logging.LogManager$Cleaner");
+
+    builder
+        .ignoreClass("com.sun.*")
+        .allowClass("com.sun.messaging.*")
+        .allowClass("com.sun.jersey.api.client*")
+        .allowClass("com.sun.appserv*")
+        .allowClass("com.sun.faces*")
+        .allowClass("com.sun.xml.ws*");
+
+    builder
+        .ignoreClass("sun.*")
+        .allowClass("sun.net.www.protocol.*")
+        .allowClass("sun.rmi.server*")
+        .allowClass("sun.rmi.transport*")
+        .allowClass("sun.net.www.http.HttpClient");
+
+    builder.ignoreClass("org.slf4j.*").allowClass("org.slf4j.MDC");
+
+    builder.ignoreClass("org.springframework.core.$Proxy*");
   }
 
   /**
@@ -67,107 +152,16 @@ public class GlobalIgnoresMatcher<T extends TypeDescription>
 
     String name = target.getActualName();
 
-    if (name.startsWith("jdk.internal.net.http.")) {
-      return false;
-    }
-
-    if (name.startsWith("org.gradle.")
-        || name.startsWith("net.bytebuddy.")
-        || name.startsWith("jdk.")
-        || name.startsWith("org.aspectj.")
-        || name.startsWith("datadog.")
-        || name.startsWith("com.intellij.rt.debugger.")
-        || name.startsWith("com.p6spy.")
-        || name.startsWith("com.dynatrace.")
-        || name.startsWith("com.jloadtrace.")
-        || name.startsWith("com.appdynamics.")
-        || name.startsWith("com.newrelic.agent.")
-        || name.startsWith("com.newrelic.api.agent.")
-        || name.startsWith("com.nr.agent.")
-        || name.startsWith("com.singularity.")
-        || name.startsWith("com.jinspired.")
-        || name.startsWith("org.jinspired.")) {
-      return true;
-    }
-
-    // groovy
-    if (name.startsWith("org.groovy.") || name.startsWith("org.apache.groovy.")) {
-      return true;
-    }
-    if (name.startsWith("org.codehaus.groovy.")) {
-      // We seem to instrument some classes in runtime
-      if (name.startsWith("org.codehaus.groovy.runtime.")) {
-        return false;
-      }
-      return true;
-    }
-    // clojure
-    if (name.startsWith("clojure.") || name.contains("$fn__")) {
-      return true;
-    }
-
-    if (name.startsWith("io.opentelemetry.javaagent.")) {
-      // FIXME: We should remove this once
-      // https://github.com/raphw/byte-buddy/issues/558 is fixed
-      if (name.equals("io.opentelemetry.javaagent.instrumentation.api.concurrent.RunnableWrapper")
-          || name.equals(
-              "io.opentelemetry.javaagent.instrumentation.api.concurrent.CallableWrapper")) {
-        return false;
-      }
-      return true;
-    }
-
-    if (name.startsWith("java.")) {
-      if (name.equals("java.net.URL") || name.equals("java.net.HttpURLConnection")) {
-        return false;
-      }
-      if (name.startsWith("java.rmi.") || name.startsWith("java.util.concurrent.")) {
-        return false;
-      }
-      if (name.equals("java.lang.ClassLoader")) {
-        return false;
-      }
-
-      // Concurrent instrumentation modifies the structure of
-      // Cleaner class incompatibly with java9+ modules.
-      // Working around until a long-term fix for modules can be
-      // put in place.
-      if (name.startsWith("java.util.logging.")
-          && !name.equals("java.util.logging.LogManager$Cleaner")) {
-        return false;
-      }
-
-      return true;
-    }
-
-    if (name.startsWith("com.sun.")) {
-      if (name.startsWith("com.sun.messaging.")
-          || name.startsWith("com.sun.jersey.api.client")
-          || name.startsWith("com.sun.appserv")
-          || name.startsWith("com.sun.faces")
-          || name.startsWith("com.sun.xml.ws")) {
-        return false;
-      }
-
+    IgnoreMatcherProvider.Result trieResult = ignoredTypesTrie.getOrNull(name);
+    if (trieResult == IgnoreMatcherProvider.Result.IGNORE) {
       return true;
     }
-
-    if (name.startsWith("sun.")) {
-      if (name.startsWith("sun.net.www.protocol.")
-          || name.startsWith("sun.rmi.server")
-          || name.startsWith("sun.rmi.transport")
-          || name.equals("sun.net.www.http.HttpClient")) {
-        return false;
-      }
-
-      return true;
+    if (trieResult == IgnoreMatcherProvider.Result.ALLOW) {
+      return false;
     }
 
-    if (name.startsWith("org.slf4j.")) {
-      if (name.equals("org.slf4j.MDC")) {
-        return false;
-      }
-
+    // clojure
+    if (name.contains("$fn__")) {
       return true;
     }
 
@@ -185,8 +179,7 @@ public class GlobalIgnoresMatcher<T extends TypeDescription>
         || name.contains("javassist")
         || name.contains(".asm.")
         || name.contains("$__sisu")
-        || name.contains("$$EnhancerByProxool$$")
-        || name.startsWith("org.springframework.core.$Proxy")) {
+        || name.contains("$$EnhancerByProxool$$")) {
       return true;
     }
 
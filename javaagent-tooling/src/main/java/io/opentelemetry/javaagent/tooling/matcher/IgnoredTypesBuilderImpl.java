@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.matcher;
+
+import io.opentelemetry.javaagent.spi.IgnoreMatcherProvider;
+import io.opentelemetry.javaagent.spi.IgnoredTypesBuilder;
+
+final class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
+  private final ClassNameTrie.Builder<IgnoreMatcherProvider.Result> ignoredTypesTrie =
+      ClassNameTrie.builder();
+
+  @Override
+  public IgnoredTypesBuilder ignoreClass(String classNameOrPrefix) {
+    ignoredTypesTrie.put(classNameOrPrefix, IgnoreMatcherProvider.Result.IGNORE);
+    return this;
+  }
+
+  @Override
+  public IgnoredTypesBuilder allowClass(String classNameOrPrefix) {
+    ignoredTypesTrie.put(classNameOrPrefix, IgnoreMatcherProvider.Result.ALLOW);
+    return this;
+  }
+
+  ClassNameTrie<IgnoreMatcherProvider.Result> buildIgnoredTypesTrie() {
+    return ignoredTypesTrie.build();
+  }
+}
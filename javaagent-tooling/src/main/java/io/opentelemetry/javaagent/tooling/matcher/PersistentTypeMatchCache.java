@@ -0,0 +1,306 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.matcher;
+
+import io.opentelemetry.instrumentation.api.InstrumentationVersion;
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.api.config.Config;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.utility.JavaModule;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers between JVM runs which classes did not match any instrumentation, so that matching them
+ * can be skipped on later startups.
+ *
+ * <p>Classes are grouped by the jar they were loaded from, and a jar is identified by the path,
+ * size and modification time of the jar file (for nested jars, e.g. Spring Boot fat jars, those of
+ * the outer jar). Only classes loaded from jar files are cached; classes loaded from directories or
+ * generated at runtime are always matched. The cache file is specific to the agent version and is
+ * discarded when any {@code otel.instrumentation.*} or {@code otel.javaagent.*} setting changes.
+ * Only the jars used during the last run are kept in the file.
+ *
+ * <p>Whether a class matches can also depend on classes from other jars (e.g. its super types), so
+ * the cache should only be enabled for deployments that ship the same set of jars together.
+ */
+public final class PersistentTypeMatchCache {
+
+  private static final Logger log = LoggerFactory.getLogger(PersistentTypeMatchCache.class);
+
+  static final String DIRECTORY_CONFIG = "otel.javaagent.experimental.type-match-cache.directory";
+
+  private static final String HEADER_PREFIX = "# config ";
+  private static final String JAR_PREFIX = "[";
+  private static final String JAR_SUFFIX = "]";
+  // marks code sources that are not cached, the caches don't allow null values
+  private static final String NOT_CACHEABLE = "";
+
+  /**
+   * Returns the cache stored in the directory configured with {@code
+   * otel.javaagent.experimental.type-match-cache.directory}, or {@code null} if it's not set.
+   */
+  @Nullable
+  public static PersistentTypeMatchCache create(Config config) {
+    String directory = config.getProperty(DIRECTORY_CONFIG);
+    if (directory == null) {
+      return null;
+    }
+    String version =
+        InstrumentationVersion.VERSION == null ? "unknown" : InstrumentationVersion.VERSION;
+    Path file = Paths.get(directory, "type-match-cache-" + version + ".txt");
+    PersistentTypeMatchCache cache = new PersistentTypeMatchCache(file, configFingerprint(config));
+    cache.load();
+    Runtime.getRuntime().addShutdownHook(new Thread(cache::save, "otel-type-match-cache-writer"));
+    return cache;
+  }
+
+  private final Path file;
+  private final String configFingerprint;
+
+  // classes that did not match any instrumentation in a previous run, by jar key
+  private final Map<String, Set<String>> knownUnmatchedTypes = new ConcurrentHashMap<>();
+  // classes checked during this run, by jar key
+  private final Map<String, Set<String>> seenTypes = new ConcurrentHashMap<>();
+  private final Set<String> transformedTypes = ConcurrentHashMap.newKeySet();
+  // jars that classes were loaded from during this run
+  private final Set<String> usedJarKeys = ConcurrentHashMap.newKeySet();
+
+  private final Cache<ProtectionDomain, String> protectionDomainJarKeys =
+      Cache.newBuilder().setWeakKeys().build();
+  private final Map<String, String> locationJarKeys = new ConcurrentHashMap<>();
+
+  PersistentTypeMatchCache(Path file, String configFingerprint) {
+    this.file = file;
+    this.configFingerprint = configFingerprint;
+  }
+
+  /**
+   * Returns an ignore matcher that matches classes which did not match any instrumentation in a
+   * previous run.
+   */
+  public AgentBuilder.RawMatcher knownUnmatchedTypeMatcher() {
+    return new KnownUnmatchedTypeMatcher();
+  }
+
+  /** Returns a listener that records which classes were transformed. */
+  public AgentBuilder.Listener transformationListener() {
+    return new TransformationListener();
+  }
+
+  boolean isKnownUnmatched(String className, @Nullable ProtectionDomain protectionDomain) {
+    if (protectionDomain == null) {
+      return false;
+    }
+    String jarKey = protectionDomainJarKeys.computeIfAbsent(protectionDomain, this::jarKey);
+    if (jarKey.isEmpty()) {
+      return false;
+    }
+    Set<String> unmatched = knownUnmatchedTypes.get(jarKey);
+    if (unmatched != null && unmatched.contains(className)) {
+      return true;
+    }
+    seenTypes.computeIfAbsent(jarKey, k -> ConcurrentHashMap.newKeySet()).add(className);
+    return false;
+  }
+
+  void recordTransformation(String className) {
+    transformedTypes.add(className);
+  }
+
+  private String jarKey(ProtectionDomain protectionDomain) {
+    CodeSource codeSource = protectionDomain.getCodeSource();
+    URL location = codeSource == null ? null : codeSource.getLocation();
+    if (location == null) {
+      return NOT_CACHEABLE;
+    }
+    String jarKey =
+        locationJarKeys.computeIfAbsent(location.toString(), PersistentTypeMatchCache::jarKey);
+    if (!jarKey.isEmpty()) {
+      usedJarKeys.add(jarKey);
+    }
+    return jarKey;
+  }
+
+  // jar key is the path, size and modification time of the jar file, followed by the path of the
+  // nested jar if there is one; reading the contents of a large fat jar would delay class loading
+  static String jarKey(String location) {
+    String nestedPath = "";
+    if (location.startsWith("jar:")) {
+      int separator = location.indexOf("!/");
+      if (separator < 0) {
+        return NOT_CACHEABLE;
+      }
+      nestedPath = location.substring(separator);
+      location = location.substring("jar:".length(), separator);
+    }
+    if (!location.startsWith("file:") || !location.endsWith(".jar")) {
+      return NOT_CACHEABLE;
+    }
+    try {
+      File jarFile = new File(new URI(location));
+      if (!jarFile.isFile()) {
+        return NOT_CACHEABLE;
+      }
+      return jarFile.getAbsolutePath()
+          + "-"
+          + jarFile.length()
+          + "-"
+          + jarFile.lastModified()
+          + nestedPath;
+    } catch (Exception e) {
+      log.debug("Could not identify the jar file {}", location, e);
+      return NOT_CACHEABLE;
+    }
+  }
+
+  static String configFingerprint(Config config) {
+    Map<String, String> relevantProperties = new HashMap<>();
+    config
+        .asJavaProperties()
+        .forEach(
+            (key, value) -> {
+              String name = (String) key;
+              if ((name.startsWith("otel.instrumentation.") || name.startsWith("otel.javaagent."))
+                  && !name.equals(DIRECTORY_CONFIG)) {
+                relevantProperties.put(name, (String) value);
+              }
+            });
+    return Integer.toHexString(relevantProperties.hashCode());
+  }
+
+  void load() {
+    if (!Files.isRegularFile(file)) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String header = reader.readLine();
+      if (header == null || !header.equals(HEADER_PREFIX + configFingerprint)) {
+        log.debug("Ignoring type match cache {} created with a different configuration", file);
+        return;
+      }
+      Set<String> current = null;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(JAR_PREFIX) && line.endsWith(JAR_SUFFIX)) {
+          String jarKey = line.substring(JAR_PREFIX.length(), line.length() - JAR_SUFFIX.length());
+          current = knownUnmatchedTypes.computeIfAbsent(jarKey, k -> new HashSet<>());
+        } else if (current != null && !line.isEmpty()) {
+          current.add(line);
+        }
+      }
+      log.debug("Loaded type match cache {}", file);
+    } catch (IOException e) {
+      log.debug("Could not read type match cache {}", file, e);
+      knownUnmatchedTypes.clear();
+    }
+  }
+
+  void save() {
+    // entries of jars that weren't used during this run are dropped, so that the file doesn't keep
+    // growing as jars are updated
+    Map<String, Set<String>> unmatchedTypes = new HashMap<>();
+    knownUnmatchedTypes.forEach(
+        (jarKey, types) -> {
+          if (usedJarKeys.contains(jarKey)) {
+            unmatchedTypes.put(jarKey, new HashSet<>(types));
+          }
+        });
+    seenTypes.forEach(
+        (jarKey, types) ->
+            unmatchedTypes.computeIfAbsent(jarKey, k -> new HashSet<>()).addAll(types));
+    for (Set<String> types : unmatchedTypes.values()) {
+      types.removeAll(transformedTypes);
+    }
+
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      // write to a temporary file first, so that other JVMs never read a partially written cache
+      Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        writer.write(HEADER_PREFIX + configFingerprint);
+        writer.newLine();
+        for (Map.Entry<String, Set<String>> entry : unmatchedTypes.entrySet()) {
+          if (entry.getValue().isEmpty()) {
+            continue;
+          }
+          writer.write(JAR_PREFIX + entry.getKey() + JAR_SUFFIX);
+          writer.newLine();
+          for (String className : entry.getValue()) {
+            writer.write(className);
+            writer.newLine();
+          }
+        }
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      log.debug("Could not write type match cache {}", file, e);
+    }
+  }
+
+  // Visible for testing
+  Set<String> knownUnmatchedTypes(String jarKey) {
+    Set<String> types = knownUnmatchedTypes.get(jarKey);
+    return types == null ? Collections.emptySet() : types;
+  }
+
+  private class KnownUnmatchedTypeMatcher implements AgentBuilder.RawMatcher {
+    @Override
+    public boolean matches(
+        TypeDescription typeDescription,
+        ClassLoader classLoader,
+        JavaModule module,
+        Class<?> classBeingRedefined,
+        ProtectionDomain protectionDomain) {
+      return isKnownUnmatched(typeDescription.getName(), protectionDomain);
+    }
+  }
+
+  private class TransformationListener extends AgentBuilder.Listener.Adapter {
+    @Override
+    public void onTransformation(
+        TypeDescription typeDescription,
+        ClassLoader classLoader,
+        JavaModule module,
+        boolean loaded,
+        DynamicType dynamicType) {
+      recordTransformation(typeDescription.getName());
+    }
+
+    @Override
+    public void onError(
+        String typeName,
+        ClassLoader classLoader,
+        JavaModule module,
+        boolean loaded,
+        Throwable throwable) {
+      // the type matched, even though it couldn't be transformed
+      recordTransformation(typeName);
+    }
+  }
+}
@@ -69,6 +69,24 @@ public final class ReferenceMatcher {
     return mismatchCache.computeIfAbsent(userClassLoader, this::doesMatch);
   }
 
+  /**
+   * Evaluates the references against a classloader and caches the result, so that a later {@link
+   * #matches(ClassLoader)} call only needs a cache lookup. Meant to be called from a background
+   * thread: unlike {@link #matches(ClassLoader)} it does not hold any lock while resolving the
+   * references, so it never blocks a class loading thread that matches the same classloader
+   * concurrently; in that case the references may be evaluated twice, with the same result.
+   *
+   * @param userClassLoader Classloader to validate against (or null for bootstrap)
+   */
+  public void matchAheadOfTime(ClassLoader userClassLoader) {
+    if (userClassLoader == BOOTSTRAP_LOADER) {
+      userClassLoader = Utils.getBootstrapProxy();
+    }
+    if (mismatchCache.get(userClassLoader) == null) {
+      mismatchCache.put(userClassLoader, doesMatch(userClassLoader));
+    }
+  }
+
   private boolean doesMatch(ClassLoader loader) {
     for (Reference reference : references.values()) {
       if (!checkMatch(reference, loader).isEmpty()) {
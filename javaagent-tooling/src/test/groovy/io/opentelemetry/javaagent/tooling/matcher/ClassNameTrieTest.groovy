@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.matcher
+
+import spock.lang.Specification
+
+class ClassNameTrieTest extends Specification {
+
+  def trie = ClassNameTrie.<String> builder()
+    .put("java.*", "ignore")
+    .put("java.util.concurrent.*", "allow")
+    .put("java.util.concurrent.ForkJoinPool", "ignore-exact")
+    .put("java.net.URL", "allow-exact")
+    .put("com.sun.appserv*", "allow")
+    .build()
+
+  def "should return value of the most specific key for #name"() {
+    expect:
+    trie.getOrNull(name) == expected
+
+    where:
+    name                                          | expected
+    "java.lang.String"                            | "ignore"
+    "java.util.concurrent.Executors"              | "allow"
+    "java.util.concurrent.ForkJoinPool"           | "ignore-exact"
+    "java.util.concurrent.ForkJoinPool\$WorkQueue" | "allow"
+    "java.net.URL"                                | "allow-exact"
+    "java.net.URLConnection"                      | "ignore"
+    "com.sun.appserver.Foo"                       | "allow"
+    "com.sun.app"                                 | null
+    "javax.servlet.Servlet"                       | null
+    "java"                                        | null
+    ""                                            | null
+  }
+
+  def "later values should replace earlier values"() {
+    given:
+    def trie = ClassNameTrie.<String> builder()
+      .put("org.example.*", "ignore")
+      .put("org.example.Foo", "ignore")
+      .put("org.example.*", "allow")
+      .put("org.example.Foo", "allow")
+      .build()
+
+    expect:
+    trie.getOrNull("org.example.Bar") == "allow"
+    trie.getOrNull("org.example.Foo") == "allow"
+  }
+
+  def "empty prefix should match all names"() {
+    given:
+    def trie = ClassNameTrie.<String> builder().put("*", "all").build()
+
+    expect:
+    trie.getOrNull("") == "all"
+    trie.getOrNull("org.example.Foo") == "all"
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.matcher
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.CodeSource
+import java.security.ProtectionDomain
+import java.security.cert.Certificate
+import java.util.jar.JarOutputStream
+import spock.lang.Specification
+
+class PersistentTypeMatchCacheTest extends Specification {
+
+  Path directory = Files.createTempDirectory("type-match-cache")
+  Path cacheFile = directory.resolve("cache.txt")
+
+  def cleanup() {
+    directory.toFile().deleteDir()
+  }
+
+  def "remembers unmatched classes between runs"() {
+    setup:
+    def protectionDomain = protectionDomain(createJar("app.jar"))
+    def firstRun = new PersistentTypeMatchCache(cacheFile, "config")
+
+    when:
+    firstRun.load()
+
+    then:
+    !firstRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+    !firstRun.isKnownUnmatched("com.example.Transformed", protectionDomain)
+
+    when:
+    firstRun.recordTransformation("com.example.Transformed")
+    firstRun.save()
+    def secondRun = new PersistentTypeMatchCache(cacheFile, "config")
+    secondRun.load()
+
+    then:
+    secondRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+    !secondRun.isKnownUnmatched("com.example.Transformed", protectionDomain)
+    !secondRun.isKnownUnmatched("com.example.New", protectionDomain)
+  }
+
+  def "ignores cache created with a different configuration"() {
+    setup:
+    def protectionDomain = protectionDomain(createJar("app.jar"))
+    def firstRun = new PersistentTypeMatchCache(cacheFile, "config")
+    firstRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+    firstRun.save()
+
+    when:
+    def secondRun = new PersistentTypeMatchCache(cacheFile, "other-config")
+    secondRun.load()
+
+    then:
+    !secondRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+  }
+
+  def "ignores cache entries of changed jars"() {
+    setup:
+    def jar = createJar("app.jar")
+    def firstRun = new PersistentTypeMatchCache(cacheFile, "config")
+    firstRun.isKnownUnmatched("com.example.Unmatched", protectionDomain(jar))
+    firstRun.save()
+
+    when:
+    Files.write(jar, "changed".bytes)
+    def secondRun = new PersistentTypeMatchCache(cacheFile, "config")
+    secondRun.load()
+
+    then:
+    !secondRun.isKnownUnmatched("com.example.Unmatched", protectionDomain(jar))
+  }
+
+  def "keeps entries of used jars only"() {
+    setup:
+    def usedJar = protectionDomain(createJar("used.jar"))
+    def unusedJar = protectionDomain(createJar("unused.jar"))
+    def firstRun = new PersistentTypeMatchCache(cacheFile, "config")
+    firstRun.isKnownUnmatched("com.example.Used", usedJar)
+    firstRun.isKnownUnmatched("com.example.Unused", unusedJar)
+    firstRun.save()
+
+    when: "the second run only loads known classes of one of the jars"
+    def secondRun = new PersistentTypeMatchCache(cacheFile, "config")
+    secondRun.load()
+    def knownInSecondRun = secondRun.isKnownUnmatched("com.example.Used", usedJar)
+    secondRun.save()
+    def thirdRun = new PersistentTypeMatchCache(cacheFile, "config")
+    thirdRun.load()
+
+    then:
+    knownInSecondRun
+    thirdRun.isKnownUnmatched("com.example.Used", usedJar)
+    !thirdRun.isKnownUnmatched("com.example.Unused", unusedJar)
+  }
+
+  def "does not cache classes loaded from directories"() {
+    setup:
+    def protectionDomain = protectionDomain(directory)
+    def firstRun = new PersistentTypeMatchCache(cacheFile, "config")
+    firstRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+    firstRun.save()
+
+    when:
+    def secondRun = new PersistentTypeMatchCache(cacheFile, "config")
+    secondRun.load()
+
+    then:
+    !secondRun.isKnownUnmatched("com.example.Unmatched", protectionDomain)
+  }
+
+  def "computes jar key of #location"() {
+    setup:
+    def jar = createJar("app.jar")
+    def jarUrl = jar.toUri().toURL().toString()
+
+    expect:
+    def jarKey = PersistentTypeMatchCache.jarKey(location.replace("JAR", jarUrl))
+    cacheable == !jarKey.isEmpty()
+    jarKey.endsWith(suffix)
+
+    where:
+    location                           | cacheable | suffix
+    "JAR"                              | true      | ""
+    "jar:JAR!/BOOT-INF/lib/lib.jar!/"  | true      | "!/BOOT-INF/lib/lib.jar!/"
+    "jar:JAR"                          | false     | ""
+    "file:/does/not/exist.jar"         | false     | ""
+    "http://example.com/app.jar"       | false     | ""
+  }
+
+  Path createJar(String name) {
+    def jar = directory.resolve(name)
+    new JarOutputStream(Files.newOutputStream(jar)).close()
+    return jar
+  }
+
+  static ProtectionDomain protectionDomain(Path location) {
+    return new ProtectionDomain(new CodeSource(location.toUri().toURL(), (Certificate[]) null), null)
+  }
+}
@@ -100,6 +100,27 @@ class ReferenceMatcherTest extends Specification {
     cl.count == countAfterFirstMatch
   }
 
+  def "matching ahead of time caches the result"() {
+    setup:
+    def cl = new CountingClassLoader(
+      [ClasspathUtils.createJarWithClasses(MethodBodyAdvice.A,
+        MethodBodyAdvice.SomeInterface,
+        MethodBodyAdvice.SomeImplementation)] as URL[],
+      (ClassLoader) null)
+
+    def collector = new ReferenceCollector({ false })
+    collector.collectReferencesFromAdvice(MethodBodyAdvice.name)
+    def refMatcher = createMatcher(collector.getReferences().values())
+
+    when:
+    refMatcher.matchAheadOfTime(cl)
+    int countAfterAheadOfTimeMatch = cl.count
+
+    then:
+    !refMatcher.matches(cl)
+    cl.count == countAfterAheadOfTimeMatch
+  }
+
   def "matching ref #referenceName #referenceFlags against #classToCheck produces #expectedMismatches"() {
     setup:
     def ref = new Reference.Builder(referenceName)